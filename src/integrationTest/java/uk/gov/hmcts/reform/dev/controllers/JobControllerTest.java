@@ -0,0 +1,67 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.dev.exceptions.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.exceptions.JobNotFoundException;
+import uk.gov.hmcts.reform.dev.jobs.JobState;
+import uk.gov.hmcts.reform.dev.jobs.JobType;
+import uk.gov.hmcts.reform.dev.jobs.TaskJobs;
+import uk.gov.hmcts.reform.dev.models.dto.TaskJobResponse;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(JobController.class)
+@Import(GlobalExceptionHandler.class)
+class JobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskJobs taskJobs;
+
+    @Test
+    @DisplayName("GET /api/v1/jobs/{id} - Should return the job's progress and failures")
+    void getJob_Success() throws Exception {
+        LocalDateTime started = LocalDateTime.now().minusSeconds(10);
+        when(taskJobs.find(3L)).thenReturn(new TaskJobResponse(3L, JobType.DELETE, JobState.RUNNING, 2000, 1000,
+            999, 1, 50, 100, started, started, null, null,
+            List.of(new TaskJobResponse.ItemFailure(42, 43L, "Task not found or already deleted"))));
+
+        mockMvc.perform(get("/api/v1/jobs/3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success", is(true)))
+            .andExpect(jsonPath("$.data.state", is("RUNNING")))
+            .andExpect(jsonPath("$.data.percentComplete", is(50)))
+            .andExpect(jsonPath("$.data.itemsPerSecond", is(100)))
+            .andExpect(jsonPath("$.data.failures", hasSize(1)))
+            .andExpect(jsonPath("$.data.failures[0].index", is(42)))
+            .andExpect(jsonPath("$.data.failures[0].taskId", is(43)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/jobs/{id} - Should return 404 for an unknown job")
+    void getJob_NotFound() throws Exception {
+        when(taskJobs.find(99L)).thenThrow(new JobNotFoundException(99L));
+
+        mockMvc.perform(get("/api/v1/jobs/99"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.success", is(false)))
+            .andExpect(jsonPath("$.message", is("Job not found with id: 99")))
+            .andExpect(jsonPath("$.error.type", is("NOT_FOUND")));
+    }
+}
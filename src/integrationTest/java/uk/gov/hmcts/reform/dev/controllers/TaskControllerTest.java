@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.dev.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,39 +9,85 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.exceptions.ChangeTokenExpiredException;
 import uk.gov.hmcts.reform.dev.exceptions.GlobalExceptionHandler;
+import uk.gov.hmcts.reform.dev.exceptions.SubscriberLimitException;
 import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
+import uk.gov.hmcts.reform.dev.jobs.JobState;
+import uk.gov.hmcts.reform.dev.jobs.JobType;
+import uk.gov.hmcts.reform.dev.jobs.TaskJobs;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
 import uk.gov.hmcts.reform.dev.models.TaskPriority;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.ChangeToken;
+import uk.gov.hmcts.reform.dev.models.dto.CountMode;
 import uk.gov.hmcts.reform.dev.models.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.dto.ExportFormat;
+import uk.gov.hmcts.reform.dev.models.dto.ImportResult;
+import uk.gov.hmcts.reform.dev.models.dto.TaskChanges;
+import uk.gov.hmcts.reform.dev.models.dto.TaskCursor;
+import uk.gov.hmcts.reform.dev.models.dto.TaskJobResponse;
 import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
 import uk.gov.hmcts.reform.dev.models.dto.UpdateStatusRequest;
 import uk.gov.hmcts.reform.dev.models.dto.UpdateTaskRequest;
+import uk.gov.hmcts.reform.dev.services.TaskEventStream;
+import uk.gov.hmcts.reform.dev.services.TaskExporter;
+import uk.gov.hmcts.reform.dev.services.TaskImporter;
 import uk.gov.hmcts.reform.dev.services.TaskService;
-
+import uk.gov.hmcts.reform.dev.services.TaskSync;
+import uk.gov.hmcts.reform.dev.services.TaskVersions;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
-
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TaskController.class)
@@ -49,6 +96,9 @@ class TaskControllerTest {
 
     private static final String API_BASE = "/api/v1/tasks";
 
+    private static final TaskVersions.Watermark WATERMARK =
+        new TaskVersions.Watermark("epoch", 7, Instant.parse("2026-01-05T10:30:00Z"));
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -58,6 +108,29 @@ class TaskControllerTest {
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private TaskExporter taskExporter;
+
+    @MockitoBean
+    private TaskImporter taskImporter;
+
+    @MockitoBean
+    private TaskVersions taskVersions;
+
+    @MockitoBean
+    private TaskSync taskSync;
+
+    @MockitoBean
+    private TaskEventStream taskEventStream;
+
+    @MockitoBean
+    private TaskJobs taskJobs;
+
+    @BeforeEach
+    void stubWatermark() {
+        when(taskVersions.watermark()).thenReturn(WATERMARK);
+    }
+
     @Test
     @DisplayName("POST /api/v1/tasks - Should create task successfully")
     void createTask_Success() throws Exception {
@@ -98,8 +171,7 @@ class TaskControllerTest {
     @Test
     @DisplayName("GET /api/v1/tasks/{id} - Should return task by ID")
     void getTaskById_Success() throws Exception {
-        Task task = createSampleTask();
-        when(taskService.getTaskById(1L)).thenReturn(task);
+        when(taskService.getTaskView(1L)).thenReturn(TaskResponse.fromEntity(createSampleTask()));
 
         mockMvc.perform(get(API_BASE + "/1"))
             .andExpect(status().isOk())
@@ -111,7 +183,7 @@ class TaskControllerTest {
     @Test
     @DisplayName("GET /api/v1/tasks/{id} - Should return 404 when task not found")
     void getTaskById_NotFound() throws Exception {
-        when(taskService.getTaskById(999L)).thenThrow(new TaskNotFoundException(999L));
+        when(taskService.getTaskView(999L)).thenThrow(new TaskNotFoundException(999L));
 
         mockMvc.perform(get(API_BASE + "/999"))
             .andExpect(status().isNotFound())
@@ -139,7 +211,8 @@ class TaskControllerTest {
         );
         Page<TaskResponse> page = new PageImpl<>(responses);
 
-        when(taskService.getTasksWithFilters(any(), any(), any(), any(Pageable.class))).thenReturn(page);
+        when(taskService.getTasksWithFilters(any(TaskFilter.class), any(Pageable.class), eq(CountMode.EXACT)))
+            .thenReturn(page);
 
         mockMvc.perform(get(API_BASE))
             .andExpect(status().isOk())
@@ -154,7 +227,8 @@ class TaskControllerTest {
     @DisplayName("GET /api/v1/tasks - Should return empty page when no tasks")
     void getAllTasks_EmptyList() throws Exception {
         Page<TaskResponse> emptyPage = new PageImpl<>(List.of());
-        when(taskService.getTasksWithFilters(any(), any(), any(), any(Pageable.class))).thenReturn(emptyPage);
+        when(taskService.getTasksWithFilters(any(TaskFilter.class), any(Pageable.class), eq(CountMode.EXACT)))
+            .thenReturn(emptyPage);
 
         mockMvc.perform(get(API_BASE))
             .andExpect(status().isOk())
@@ -170,7 +244,8 @@ class TaskControllerTest {
         task.setStatus(TaskStatus.COMPLETED);
         Page<TaskResponse> page = new PageImpl<>(List.of(TaskResponse.fromEntity(task)));
 
-        when(taskService.getTasksWithFilters(eq(TaskStatus.COMPLETED), any(), any(), any(Pageable.class)))
+        TaskFilter filter = TaskFilter.builder().statuses(List.of(TaskStatus.COMPLETED)).build();
+        when(taskService.getTasksWithFilters(eq(filter), any(Pageable.class), eq(CountMode.EXACT)))
             .thenReturn(page);
 
         mockMvc.perform(get(API_BASE).param("status", "COMPLETED"))
@@ -186,7 +261,8 @@ class TaskControllerTest {
         task.setPriority(TaskPriority.HIGH);
         Page<TaskResponse> page = new PageImpl<>(List.of(TaskResponse.fromEntity(task)));
 
-        when(taskService.getTasksWithFilters(any(), eq(TaskPriority.HIGH), any(), any(Pageable.class)))
+        TaskFilter filter = TaskFilter.builder().priorities(List.of(TaskPriority.HIGH)).build();
+        when(taskService.getTasksWithFilters(eq(filter), any(Pageable.class), eq(CountMode.EXACT)))
             .thenReturn(page);
 
         mockMvc.perform(get(API_BASE).param("priority", "HIGH"))
@@ -195,6 +271,126 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.data.items[0].priority", is("HIGH")));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/tasks - Should accept comma-separated statuses and a due date range")
+    void getAllTasks_MultiValueAndDueRange() throws Exception {
+        TaskFilter filter = TaskFilter.builder()
+            .statuses(List.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS))
+            .dueAfter(LocalDateTime.of(2026, 1, 1, 0, 0))
+            .dueBefore(LocalDateTime.of(2026, 2, 1, 0, 0))
+            .build();
+        when(taskService.getTasksWithFilters(eq(filter), any(Pageable.class), eq(CountMode.EXACT)))
+            .thenReturn(new PageImpl<>(List.of(TaskResponse.fromEntity(createSampleTask()))));
+
+        mockMvc.perform(get(API_BASE)
+                .param("status", "IN_PROGRESS,PENDING")
+                .param("dueAfter", "2026-01-01T00:00:00")
+                .param("dueBefore", "2026-02-01T00:00:00"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.items", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks - Should filter by overdue flag")
+    void getAllTasks_FilterByOverdue() throws Exception {
+        TaskFilter filter = TaskFilter.builder().overdue(true).build();
+        when(taskService.getTasksWithFilters(eq(filter), any(Pageable.class), eq(CountMode.EXACT)))
+            .thenReturn(new PageImpl<>(List.of(TaskResponse.fromEntity(createSampleTask()))));
+
+        mockMvc.perform(get(API_BASE).param("overdue", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.items", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks - Should return 400 for an unknown status in a list")
+    void getAllTasks_InvalidStatusInList() throws Exception {
+        mockMvc.perform(get(API_BASE).param("status", "PENDING,SLEEPING"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.type", is("TYPE_MISMATCH")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks?count=none - Should return slice without totals")
+    void getAllTasks_CountNone() throws Exception {
+        SliceImpl<TaskResponse> slice = new SliceImpl<>(
+            List.of(TaskResponse.fromEntity(createSampleTask())), PageRequest.of(0, 1), true);
+        when(taskService.getTasksWithFilters(any(TaskFilter.class), any(Pageable.class), eq(CountMode.NONE)))
+            .thenReturn(slice);
+
+        mockMvc.perform(get(API_BASE).param("count", "none").param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.items", hasSize(1)))
+            .andExpect(jsonPath("$.data.hasNext", is(true)))
+            .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+            .andExpect(jsonPath("$.data.totalPages").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks?count=estimate - Should flag totals as estimated")
+    void getAllTasks_CountEstimate() throws Exception {
+        Page<TaskResponse> page = new PageImpl<>(
+            List.of(TaskResponse.fromEntity(createSampleTask())), PageRequest.of(0, 1), 40);
+        when(taskService.getTasksWithFilters(any(TaskFilter.class), any(Pageable.class), eq(CountMode.ESTIMATE)))
+            .thenReturn(page);
+
+        mockMvc.perform(get(API_BASE).param("count", "estimate").param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.totalElements", is(40)))
+            .andExpect(jsonPath("$.data.totalEstimated", is(true)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks?count=sometimes - Should return 400 for an unknown count mode")
+    void getAllTasks_InvalidCountMode() throws Exception {
+        mockMvc.perform(get(API_BASE).param("count", "sometimes"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.type", is("INVALID_ARGUMENT")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks?after= - Should return first cursor page with next cursor")
+    void getTasksByCursor_FirstPage() throws Exception {
+        Task task = createSampleTask();
+        SliceImpl<TaskResponse> slice = new SliceImpl<>(
+            List.of(TaskResponse.fromEntity(task)), PageRequest.of(0, 1), true);
+
+        when(taskService.getTasksAfterCursor(any(TaskFilter.class), isNull(), eq(Sort.Direction.DESC), eq(1)))
+            .thenReturn(slice);
+
+        mockMvc.perform(get(API_BASE).param("after", "").param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success", is(true)))
+            .andExpect(jsonPath("$.data.items", hasSize(1)))
+            .andExpect(jsonPath("$.data.hasNext", is(true)))
+            .andExpect(jsonPath("$.data.nextCursor",
+                is(new TaskCursor(task.getCreatedAt(), 1L, Sort.Direction.DESC).encode())))
+            .andExpect(jsonPath("$.data.totalPages").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks?after=<cursor> - Should seek using the decoded cursor")
+    void getTasksByCursor_NextPage() throws Exception {
+        TaskCursor cursor = new TaskCursor(LocalDateTime.now(), 7L, Sort.Direction.ASC);
+        when(taskService.getTasksAfterCursor(any(TaskFilter.class), eq(cursor), eq(Sort.Direction.ASC), eq(20)))
+            .thenReturn(new SliceImpl<>(List.of()));
+
+        mockMvc.perform(get(API_BASE).param("after", cursor.encode()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.items", hasSize(0)))
+            .andExpect(jsonPath("$.data.hasNext", is(false)))
+            .andExpect(jsonPath("$.data.nextCursor", nullValue()));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks?after=<garbage> - Should return 400 for an invalid cursor")
+    void getTasksByCursor_InvalidCursor() throws Exception {
+        mockMvc.perform(get(API_BASE).param("after", "not-a-cursor"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success", is(false)))
+            .andExpect(jsonPath("$.error.type", is("INVALID_ARGUMENT")));
+    }
+
     @Test
     @DisplayName("PUT /api/v1/tasks/{id} - Should update task fully")
     void updateTask_Success() throws Exception {
@@ -209,7 +405,7 @@ class TaskControllerTest {
         request.setStatus(TaskStatus.IN_PROGRESS);
         request.setPriority(TaskPriority.HIGH);
 
-        when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class))).thenReturn(updatedTask);
+        when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class), isNull())).thenReturn(updatedTask);
 
         mockMvc.perform(put(API_BASE + "/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -226,7 +422,8 @@ class TaskControllerTest {
         task.setStatus(TaskStatus.COMPLETED);
         UpdateStatusRequest request = new UpdateStatusRequest(TaskStatus.COMPLETED);
 
-        when(taskService.updateTaskStatus(eq(1L), eq(TaskStatus.COMPLETED))).thenReturn(task);
+        when(taskService.updateTaskStatus(eq(1L), eq(TaskStatus.COMPLETED), isNull()))
+            .thenReturn(TaskResponse.fromEntity(task));
 
         mockMvc.perform(patch(API_BASE + "/1/status")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -243,7 +440,8 @@ class TaskControllerTest {
         task.setStatus(TaskStatus.CANCELLED);
         UpdateStatusRequest request = new UpdateStatusRequest(TaskStatus.CANCELLED);
 
-        when(taskService.updateTaskStatus(eq(1L), eq(TaskStatus.CANCELLED))).thenReturn(task);
+        when(taskService.updateTaskStatus(eq(1L), eq(TaskStatus.CANCELLED), isNull()))
+            .thenReturn(TaskResponse.fromEntity(task));
 
         mockMvc.perform(patch(API_BASE + "/1/status")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -258,7 +456,7 @@ class TaskControllerTest {
     void updateTaskStatus_NotFound() throws Exception {
         UpdateStatusRequest request = new UpdateStatusRequest(TaskStatus.COMPLETED);
 
-        when(taskService.updateTaskStatus(eq(999L), any(TaskStatus.class)))
+        when(taskService.updateTaskStatus(eq(999L), any(TaskStatus.class), isNull()))
             .thenThrow(new TaskNotFoundException(999L));
 
         mockMvc.perform(patch(API_BASE + "/999/status")
@@ -271,7 +469,7 @@ class TaskControllerTest {
     @Test
     @DisplayName("DELETE /api/v1/tasks/{id} - Should delete task successfully")
     void deleteTask_Success() throws Exception {
-        doNothing().when(taskService).deleteTask(1L);
+        doNothing().when(taskService).deleteTask(1L, null);
 
         mockMvc.perform(delete(API_BASE + "/1"))
             .andExpect(status().isOk())
@@ -279,10 +477,152 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.message", is("Task deleted successfully")));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/tasks/{id} - Should return the version as a strong ETag")
+    void getTaskById_ReturnsETag() throws Exception {
+        Task task = createSampleTask();
+        task.setVersion(3L);
+        when(taskService.getTaskView(1L)).thenReturn(TaskResponse.fromEntity(task));
+
+        mockMvc.perform(get(API_BASE + "/1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+            .andExpect(jsonPath("$.data.version", is(3)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/{id} - Should answer 304 from the known version without loading the task")
+    void getTaskById_NotModifiedFromKnownVersion() throws Exception {
+        when(taskVersions.get(1L)).thenReturn(Optional.of(
+            new TaskVersions.Version(3L, Instant.parse("2026-01-05T10:30:00Z"))));
+
+        mockMvc.perform(get(API_BASE + "/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(content().string(""));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/{id} - Should load the task when the If-None-Match version is stale")
+    void getTaskById_StaleIfNoneMatch() throws Exception {
+        Task task = createSampleTask();
+        task.setVersion(4L);
+        when(taskVersions.get(1L)).thenReturn(Optional.of(
+            new TaskVersions.Version(4L, Instant.parse("2026-01-05T10:30:00Z"))));
+        when(taskService.getTaskView(1L)).thenReturn(TaskResponse.fromEntity(task));
+
+        mockMvc.perform(get(API_BASE + "/1").header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+            .andExpect(jsonPath("$.data.version", is(4)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks - Should answer 304 while the change watermark is unchanged")
+    void getAllTasks_NotModified() throws Exception {
+        mockMvc.perform(get(API_BASE).header(HttpHeaders.IF_NONE_MATCH, WATERMARK.etag()))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, WATERMARK.etag()));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks - Should return the change watermark as ETag and Last-Modified")
+    void getAllTasks_ReturnsWatermark() throws Exception {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        when(taskService.getTasksWithFilters(any(TaskFilter.class), any(Pageable.class), eq(CountMode.EXACT)))
+            .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        mockMvc.perform(get(API_BASE).header(HttpHeaders.IF_NONE_MATCH, "\"epoch-6\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, WATERMARK.etag()))
+            .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Mon, 05 Jan 2026 10:30:00 GMT"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/tasks/{id} - Should pass the If-Match version and return the new ETag")
+    void updateTask_IfMatch() throws Exception {
+        Task updatedTask = createSampleTask();
+        updatedTask.setVersion(4L);
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("Updated Title");
+        request.setDueDateTime(LocalDateTime.now().plusDays(5));
+        request.setStatus(TaskStatus.IN_PROGRESS);
+        request.setPriority(TaskPriority.HIGH);
+
+        when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class), eq(3L))).thenReturn(updatedTask);
+
+        mockMvc.perform(put(API_BASE + "/1")
+                .header(HttpHeaders.IF_MATCH, "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/tasks/{id}/status - Should return 412 when the If-Match version is stale")
+    void updateTaskStatus_StaleIfMatch() throws Exception {
+        UpdateStatusRequest request = new UpdateStatusRequest(TaskStatus.COMPLETED);
+
+        when(taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, 2L))
+            .thenThrow(new TaskVersionMismatchException(1L, 2L, 5L));
+
+        mockMvc.perform(patch(API_BASE + "/1/status")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.success", is(false)))
+            .andExpect(jsonPath("$.error.type", is("PRECONDITION_FAILED")));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/tasks/{id} - Should treat If-Match * as unconditional")
+    void deleteTask_IfMatchAny() throws Exception {
+        doNothing().when(taskService).deleteTask(1L, null);
+
+        mockMvc.perform(delete(API_BASE + "/1").header(HttpHeaders.IF_MATCH, "*"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/tasks/{id} - Should return 400 for a weak If-Match ETag")
+    void deleteTask_WeakIfMatch() throws Exception {
+        mockMvc.perform(delete(API_BASE + "/1").header(HttpHeaders.IF_MATCH, "W/\"1\""))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.type", is("INVALID_ARGUMENT")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/tasks/{id} - Should return 409 when a concurrent write wins")
+    void updateTask_ConcurrentWrite() throws Exception {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle("Updated Title");
+        request.setDueDateTime(LocalDateTime.now().plusDays(5));
+        request.setStatus(TaskStatus.IN_PROGRESS);
+        request.setPriority(TaskPriority.HIGH);
+
+        when(taskService.updateTask(eq(1L), any(UpdateTaskRequest.class), isNull()))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        mockMvc.perform(put(API_BASE + "/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error.type", is("CONFLICT")));
+    }
+
     @Test
     @DisplayName("DELETE /api/v1/tasks/{id} - Should return 404 when task not found")
     void deleteTask_NotFound() throws Exception {
-        doThrow(new TaskNotFoundException(999L)).when(taskService).deleteTask(999L);
+        doThrow(new TaskNotFoundException(999L)).when(taskService).deleteTask(999L, null);
 
         mockMvc.perform(delete(API_BASE + "/999"))
             .andExpect(status().isNotFound())
@@ -357,7 +697,8 @@ class TaskControllerTest {
         task.setStatus(TaskStatus.IN_PROGRESS);
         UpdateStatusRequest request = new UpdateStatusRequest(TaskStatus.IN_PROGRESS);
 
-        when(taskService.updateTaskStatus(eq(1L), eq(TaskStatus.IN_PROGRESS))).thenReturn(task);
+        when(taskService.updateTaskStatus(eq(1L), eq(TaskStatus.IN_PROGRESS), isNull()))
+            .thenReturn(TaskResponse.fromEntity(task));
 
         mockMvc.perform(patch(API_BASE + "/1/status")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -383,8 +724,7 @@ class TaskControllerTest {
     @Test
     @DisplayName("GET /api/v1/tasks/{id} - Should return all task fields including overdue")
     void getTaskById_ReturnsAllFields() throws Exception {
-        Task task = createSampleTask();
-        when(taskService.getTaskById(1L)).thenReturn(task);
+        when(taskService.getTaskView(1L)).thenReturn(TaskResponse.fromEntity(createSampleTask()));
 
         mockMvc.perform(get(API_BASE + "/1"))
             .andExpect(status().isOk())
@@ -407,7 +747,7 @@ class TaskControllerTest {
         overdueTask.setDueDateTime(LocalDateTime.now().minusDays(1));
         Page<TaskResponse> page = new PageImpl<>(List.of(TaskResponse.fromEntity(overdueTask)));
 
-        when(taskService.getOverdueTasks(any(Pageable.class))).thenReturn(page);
+        when(taskService.getOverdueTasks(any(Pageable.class), eq(CountMode.EXACT))).thenReturn(page);
 
         mockMvc.perform(get(API_BASE + "/overdue"))
             .andExpect(status().isOk())
@@ -415,6 +755,226 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.data.items", hasSize(1)));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/tasks/search - Should return ranked full-text matches")
+    void searchTasks_Success() throws Exception {
+        Task second = createSampleTask();
+        second.setId(2L);
+        second.setTitle("Hearing bundle");
+
+        when(taskService.searchTasks("hearing", 5)).thenReturn(
+            List.of(TaskResponse.fromEntity(second), TaskResponse.fromEntity(createSampleTask())));
+
+        mockMvc.perform(get(API_BASE + "/search").param("q", "hearing").param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success", is(true)))
+            .andExpect(jsonPath("$.data", hasSize(2)))
+            .andExpect(jsonPath("$.data[0].id", is(2)))
+            .andExpect(jsonPath("$.data[1].id", is(1)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/search - Should return 400 without a query")
+    void searchTasks_MissingQuery() throws Exception {
+        mockMvc.perform(get(API_BASE + "/search").param("q", " "))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.type", is("INVALID_ARGUMENT")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/search - Should return 400 for an out of range limit")
+    void searchTasks_InvalidLimit() throws Exception {
+        mockMvc.perform(get(API_BASE + "/search").param("q", "hearing").param("limit", "1000"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.type", is("INVALID_ARGUMENT")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/changes - Should return changes and tombstones since the token")
+    void getTaskChanges_Success() throws Exception {
+        ChangeToken since = new ChangeToken(LocalDateTime.of(2026, 1, 5, 10, 30), 4L);
+        ChangeToken next = new ChangeToken(LocalDateTime.of(2026, 1, 5, 10, 45), 0L);
+        LocalDateTime deletedAt = LocalDateTime.of(2026, 1, 5, 10, 40);
+        when(taskSync.changesSince(since, 100)).thenReturn(new TaskChanges(
+            List.of(TaskResponse.fromEntity(createSampleTask())),
+            List.of(new TaskChanges.Tombstone(3L, deletedAt)), false, next.encode()));
+
+        mockMvc.perform(get(API_BASE + "/changes").param("since", since.encode()).param("limit", "100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success", is(true)))
+            .andExpect(jsonPath("$.data.changed", hasSize(1)))
+            .andExpect(jsonPath("$.data.changed[0].id", is(1)))
+            .andExpect(jsonPath("$.data.deleted[0].id", is(3)))
+            .andExpect(jsonPath("$.data.hasMore", is(false)))
+            .andExpect(jsonPath("$.data.nextToken", is(next.encode())));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/changes - Should start a full sync without a token")
+    void getTaskChanges_FullSync() throws Exception {
+        when(taskSync.changesSince(ChangeToken.START, 500))
+            .thenReturn(new TaskChanges(List.of(), List.of(), false, ChangeToken.START.encode()));
+
+        mockMvc.perform(get(API_BASE + "/changes"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.changed", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/changes - Should return 400 for a malformed token")
+    void getTaskChanges_InvalidToken() throws Exception {
+        mockMvc.perform(get(API_BASE + "/changes").param("since", "not-a-token"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.type", is("INVALID_ARGUMENT")));
+
+        verifyNoInteractions(taskSync);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/changes - Should return 410 for a token older than the retention")
+    void getTaskChanges_ExpiredToken() throws Exception {
+        ChangeToken since = new ChangeToken(LocalDateTime.of(2025, 1, 5, 10, 30), 0L);
+        when(taskSync.changesSince(since, 500)).thenThrow(new ChangeTokenExpiredException(Duration.ofDays(30)));
+
+        mockMvc.perform(get(API_BASE + "/changes").param("since", since.encode()))
+            .andExpect(status().isGone())
+            .andExpect(jsonPath("$.error.type", is("SYNC_TOKEN_EXPIRED")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/stream - Should open an event stream with the requested filters")
+    void streamTaskChanges_Success() throws Exception {
+        when(taskEventStream.subscribe(Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS), Set.of()))
+            .thenReturn(new SseEmitter());
+
+        mockMvc.perform(get(API_BASE + "/stream").param("status", "PENDING,IN_PROGRESS")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andExpect(header().string(HttpHeaders.CONTENT_TYPE, containsString("text/event-stream")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/stream - Should return 503 once the subscriber limit is reached")
+    void streamTaskChanges_LimitReached() throws Exception {
+        when(taskEventStream.subscribe(Set.of(), Set.of())).thenThrow(new SubscriberLimitException(10));
+
+        mockMvc.perform(get(API_BASE + "/stream").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.error.type", is("SERVICE_UNAVAILABLE")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/export?format=csv - Should stream the filtered tasks as a CSV download")
+    void exportTasks_Csv() throws Exception {
+        TaskFilter filter = TaskFilter.builder().statuses(List.of(TaskStatus.PENDING)).build();
+        when(taskExporter.export(eq(filter), eq(ExportFormat.CSV), any(OutputStream.class))).thenAnswer(invocation -> {
+            invocation.getArgument(2, OutputStream.class).write("id,title\r\n1,Test Task\r\n".getBytes(UTF_8));
+            return 1L;
+        });
+
+        MvcResult started = mockMvc.perform(get(API_BASE + "/export").param("status", "PENDING").param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.csv\""))
+            .andExpect(content().string("id,title\r\n1,Test Task\r\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/export?gzip=true - Should compress the NDJSON file")
+    void exportTasks_GzippedNdjson() throws Exception {
+        when(taskExporter.export(eq(TaskFilter.none()), eq(ExportFormat.NDJSON), any(OutputStream.class)))
+            .thenAnswer(invocation -> {
+                invocation.getArgument(2, OutputStream.class).write("{\"id\":1}\n".getBytes(UTF_8));
+                return 1L;
+            });
+
+        MvcResult started = mockMvc.perform(get(API_BASE + "/export").param("gzip", "true"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/gzip"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.ndjson.gz\""))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream unzipped = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(unzipped.readAllBytes(), UTF_8)).isEqualTo("{\"id\":1}\n");
+        }
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/tasks/export?format=xml - Should return 400 for an unknown format")
+    void exportTasks_InvalidFormat() throws Exception {
+        mockMvc.perform(get(API_BASE + "/export").param("format", "xml"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.type", is("INVALID_ARGUMENT")));
+
+        verifyNoInteractions(taskExporter);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/tasks/import?format=csv - Should report imported rows and per-line errors")
+    void importTasks_Csv() throws Exception {
+        ImportResult result = new ImportResult(1, 1, true, 20, 50,
+            List.of(new ImportResult.LineError(3, "Title is required")));
+        when(taskImporter.importTasks(any(InputStream.class), eq(ExportFormat.CSV))).thenAnswer(invocation -> {
+            assertThat(new String(invocation.getArgument(0, InputStream.class).readAllBytes(), UTF_8))
+                .startsWith("title,dueDateTime");
+            return result;
+        });
+
+        mockMvc.perform(post(API_BASE + "/import")
+                .param("format", "csv")
+                .contentType("text/csv")
+                .content("title,dueDateTime\nFirst,2030-01-01T09:00:00\n,2030-01-01T09:00:00\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.message", is("1 task(s) imported, 1 rejected")))
+            .andExpect(jsonPath("$.data.imported", is(1)))
+            .andExpect(jsonPath("$.data.rowsPerSecond", is(50)))
+            .andExpect(jsonPath("$.data.errors[0].line", is(3)))
+            .andExpect(jsonPath("$.data.errors[0].message", is("Title is required")));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/tasks/import - Should decompress a gzip-encoded NDJSON body")
+    void importTasks_GzippedNdjson() throws Exception {
+        String ndjson = "{\"title\":\"First\",\"dueDateTime\":\"2030-01-01T09:00:00\"}\n";
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(ndjson.getBytes(UTF_8));
+        }
+        when(taskImporter.importTasks(any(InputStream.class), eq(ExportFormat.NDJSON))).thenAnswer(invocation -> {
+            assertThat(new String(invocation.getArgument(0, InputStream.class).readAllBytes(), UTF_8))
+                .isEqualTo(ndjson);
+            return new ImportResult(1, 0, true, 5, 200, List.of());
+        });
+
+        mockMvc.perform(post(API_BASE + "/import")
+                .contentType("application/x-ndjson")
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(compressed.toByteArray()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.imported", is(1)));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/tasks/import - Should return 400 for an unsupported Content-Encoding")
+    void importTasks_UnsupportedEncoding() throws Exception {
+        mockMvc.perform(post(API_BASE + "/import")
+                .contentType("application/x-ndjson")
+                .header(HttpHeaders.CONTENT_ENCODING, "br")
+                .content("{}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error.type", is("INVALID_ARGUMENT")));
+
+        verifyNoInteractions(taskImporter);
+    }
+
     @Test
     @DisplayName("POST /api/v1/tasks/bulk - Should create multiple tasks")
     void createBulkTasks_Success() throws Exception {
@@ -443,7 +1003,7 @@ class TaskControllerTest {
     void updateBulkStatus_Success() throws Exception {
         String requestJson = "{\"ids\": [1, 2, 3], \"status\": \"COMPLETED\"}";
 
-        when(taskService.updateTasksStatus(any(), eq(TaskStatus.COMPLETED))).thenReturn(3);
+        when(taskService.updateTasksStatus(any(), eq(TaskStatus.COMPLETED))).thenReturn(List.of(1L, 2L, 3L));
 
         mockMvc.perform(patch(API_BASE + "/bulk/status")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -459,7 +1019,7 @@ class TaskControllerTest {
     void deleteBulkTasks_Success() throws Exception {
         String requestJson = "{\"ids\": [1, 2, 3]}";
 
-        when(taskService.deleteTasks(any())).thenReturn(3);
+        when(taskService.deleteTasks(any())).thenReturn(List.of(1L, 2L, 3L));
 
         mockMvc.perform(delete(API_BASE + "/bulk")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -470,6 +1030,68 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.data.requested", is(3)));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/tasks/bulk - Should accept a job with Prefer: respond-async")
+    void createBulkTasks_RespondAsync() throws Exception {
+        List<CreateTaskRequest> requests = List.of(
+            new CreateTaskRequest("Task 1", "Desc 1", LocalDateTime.now().plusDays(1), TaskPriority.LOW),
+            new CreateTaskRequest("Task 2", "Desc 2", LocalDateTime.now().plusDays(2), TaskPriority.HIGH)
+        );
+
+        when(taskJobs.submitCreate(any())).thenReturn(queuedJob(5L, JobType.CREATE, 2));
+
+        mockMvc.perform(post(API_BASE + "/bulk")
+                .header("Prefer", "respond-async, wait=10")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string(HttpHeaders.LOCATION, "/api/v1/jobs/5"))
+            .andExpect(header().string("Preference-Applied", "respond-async"))
+            .andExpect(jsonPath("$.data.id", is(5)))
+            .andExpect(jsonPath("$.data.state", is("QUEUED")))
+            .andExpect(jsonPath("$.data.totalItems", is(2)));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/tasks/bulk/status - Should accept a job with Prefer: respond-async")
+    void updateBulkStatus_RespondAsync() throws Exception {
+        when(taskJobs.submitStatusUpdate(List.of(1L, 2L, 3L), TaskStatus.COMPLETED))
+            .thenReturn(queuedJob(6L, JobType.STATUS_UPDATE, 3));
+
+        mockMvc.perform(patch(API_BASE + "/bulk/status")
+                .header("Prefer", "Respond-Async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1, 2, 3], \"status\": \"COMPLETED\"}"))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string(HttpHeaders.LOCATION, "/api/v1/jobs/6"))
+            .andExpect(jsonPath("$.data.type", is("STATUS_UPDATE")));
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/tasks/bulk - Should run synchronously for other preferences")
+    void deleteBulkTasks_OtherPreference() throws Exception {
+        when(taskService.deleteTasks(any())).thenReturn(List.of(1L));
+
+        mockMvc.perform(delete(API_BASE + "/bulk")
+                .header("Prefer", "return=minimal")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [1, 2]}"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Preference-Applied"))
+            .andExpect(jsonPath("$.data.affected", is(1)));
+
+        verifyNoInteractions(taskJobs);
+    }
+
+    private TaskJobResponse queuedJob(long id, JobType type, int totalItems) {
+        return new TaskJobResponse(id, type, JobState.QUEUED, totalItems, 0, 0, 0, 0, 0,
+            LocalDateTime.now(), null, null, null, List.of());
+    }
+
     private Task createSampleTask() {
         Task task = new Task();
         task.setId(1L);
@@ -480,6 +1102,7 @@ class TaskControllerTest {
         task.setDueDateTime(LocalDateTime.now().plusDays(1));
         task.setCreatedAt(LocalDateTime.now());
         task.setUpdatedAt(LocalDateTime.now());
+        task.setVersion(0L);
         return task;
     }
 }
@@ -0,0 +1,218 @@
+package uk.gov.hmcts.reform.dev;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares platform and virtual request threads at 5,000 concurrent connections. Each mode starts
+ * the whole application and runs two scenarios: a request that waits on a slow dependency without
+ * holding a pooled connection, and {@code GET /api/v1/tasks/{id}} against the database.
+ *
+ * <p>Run with {@code ./gradlew load} after raising the open-file limit ({@code ulimit -n 20000}).
+ * {@code -Dload.connections} and {@code -Dload.requests-per-connection} change the load.
+ */
+class VirtualThreadLoadTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("load.connections", 5000);
+    private static final int REQUESTS_PER_CONNECTION = Integer.getInteger("load.requests-per-connection", 4);
+
+    // Stands in for a slow downstream call; long enough that a 200-thread pool is the limit
+    private static final Duration DEPENDENCY_WAIT = Duration.ofMillis(200);
+    private static final Pattern TASK_ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    @Test
+    @DisplayName("Virtual threads should serve slow requests at 5k connections faster than the platform pool")
+    void compareRequestThreads() throws Exception {
+        List<Result> results = new ArrayList<>();
+        Map<String, Integer> pinned = new ConcurrentHashMap<>();
+
+        results.addAll(run(false, null));
+        results.addAll(run(true, pinned));
+
+        System.out.printf("%nLoad: %,d connections x %d requests%n", CONNECTIONS, REQUESTS_PER_CONNECTION);
+        System.out.printf("%-9s %-10s %9s %7s %12s %9s %9s%n",
+            "threads", "scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms");
+        results.forEach(result -> System.out.println(result.row()));
+        System.out.printf("Virtual threads pinned for 20ms or more: %s%n", pinned.isEmpty() ? "none" : pinned);
+
+        results.forEach(result -> assertThat(result.errors()).as(result.row()).isZero());
+        assertThat(pinned).as("pinned carrier threads").isEmpty();
+        assertThat(throughput(results, "virtual", "slow"))
+            .isGreaterThan(throughput(results, "platform", "slow") * 2);
+    }
+
+    private static double throughput(List<Result> results, String threads, String scenario) {
+        return results.stream()
+            .filter(result -> result.threads().equals(threads) && result.scenario().equals(scenario))
+            .findFirst()
+            .orElseThrow()
+            .throughput();
+    }
+
+    private List<Result> run(boolean virtual, Map<String, Integer> pinned) throws Exception {
+        String threads = virtual ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = start(virtual);
+             RecordingStream recording = new RecordingStream();
+             HttpClient client = HttpClient.newBuilder()
+                 .executor(Executors.newVirtualThreadPerTaskExecutor())
+                 .connectTimeout(Duration.ofSeconds(30))
+                 .build()) {
+            if (pinned != null) {
+                recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(20)).withStackTrace();
+                recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.merge(topFrame(event), 1, Integer::sum));
+                recording.startAsync();
+            }
+
+            String base = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI slow = URI.create(base + "/load/slow");
+            URI task = URI.create(base + "/api/v1/tasks/" + createTask(client, base));
+
+            // Warm up connections, JIT and caches before measuring
+            load(client, slow, Math.min(CONNECTIONS, 500), 1);
+            load(client, task, Math.min(CONNECTIONS, 500), 1);
+
+            List<Result> results = List.of(
+                load(client, slow, CONNECTIONS, REQUESTS_PER_CONNECTION).named(threads, "slow"),
+                load(client, task, CONNECTIONS, REQUESTS_PER_CONNECTION).named(threads, "get-task"));
+            if (pinned != null) {
+                // Waits until every recorded event has been handed to onEvent
+                recording.stop();
+            }
+            return results;
+        }
+    }
+
+    private static String topFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame top = event.getStackTrace().getFrames().getFirst();
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        return new SpringApplicationBuilder(Application.class)
+            .properties(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtual,
+                // Platform mode keeps Tomcat's default pool; both modes accept every connection
+                "server.tomcat.threads.max=200",
+                "server.tomcat.max-connections=" + (CONNECTIONS * 2),
+                "server.tomcat.accept-count=" + CONNECTIONS,
+                "spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1",
+                "tasks.search.fulltext.index-path=" + Files.createTempDirectory("load-search-index"),
+                "tasks.outbox.file-sink.enabled=false",
+                "tasks.outbox.relay.enabled=false",
+                "logging.level.root=WARN",
+                "logging.level.uk.gov.hmcts.reform.dev=WARN",
+                "logging.level.org.hibernate.SQL=WARN")
+            .run();
+    }
+
+    private static long createTask(HttpClient client, String base) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(base + "/api/v1/tasks"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("""
+                {"title": "Load test task", "dueDateTime": "%s"}
+                """.formatted(LocalDateTime.now().plusDays(1).withNano(0))))
+            .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).isEqualTo(201);
+        Matcher id = TASK_ID.matcher(response.body());
+        assertThat(id.find()).isTrue();
+        return Long.parseLong(id.group(1));
+    }
+
+    /**
+     * Opens {@code connections} clients at once, each sending {@code requests} requests one after
+     * another, and measures the whole run.
+     */
+    private static Result load(HttpClient client, URI uri, int connections, int requests) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(120)).GET().build();
+        long[] latencies = new long[connections * requests];
+        AtomicInteger next = new AtomicInteger();
+        LongAdder errors = new LongAdder();
+
+        long started = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < connections; c++) {
+                clients.submit(() -> {
+                    for (int r = 0; r < requests; r++) {
+                        long sent = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.increment();
+                            }
+                        } catch (Exception e) {
+                            errors.increment();
+                        }
+                        latencies[next.getAndIncrement()] = System.nanoTime() - sent;
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        return new Result(null, null, latencies.length, errors.sum(),
+            latencies.length / (elapsed / 1e9), percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * quantile))] / 1e6;
+    }
+
+    private record Result(String threads, String scenario, int requests, long errors,
+                          double throughput, double p50Millis, double p99Millis) {
+
+        Result named(String threads, String scenario) {
+            return new Result(threads, scenario, requests, errors, throughput, p50Millis, p99Millis);
+        }
+
+        String row() {
+            return String.format("%-9s %-10s %,9d %7d %,12.0f %9.1f %9.1f",
+                threads, scenario, requests, errors, throughput, p50Millis, p99Millis);
+        }
+    }
+
+    // Found by component scan: the load test runs the application from this classpath
+    @RestController
+    static class SlowDependencyController {
+
+        @GetMapping("/load/slow")
+        String slow() throws InterruptedException {
+            Thread.sleep(DEPENDENCY_WAIT);
+            return "ok";
+        }
+    }
+}
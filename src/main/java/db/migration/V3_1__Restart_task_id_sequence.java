@@ -0,0 +1,31 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Moves {@code task_id_seq}, created by V3 at 1, past the highest existing task id, so new ids
+ * never collide with rows created before the sequence. A Java migration because the next value
+ * has to be read first: PostgreSQL, unlike H2, takes only a literal in {@code START WITH} and
+ * {@code RESTART WITH}. On an empty table the sequence stays at 1.
+ */
+@SuppressWarnings("checkstyle:TypeName")
+public class V3_1__Restart_task_id_sequence extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long next;
+            try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM tasks")) {
+                result.next();
+                next = result.getLong(1);
+            }
+            if (next > 1) {
+                statement.execute("ALTER SEQUENCE task_id_seq RESTART WITH " + next);
+            }
+        }
+    }
+}
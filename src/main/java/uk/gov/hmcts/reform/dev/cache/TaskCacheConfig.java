@@ -0,0 +1,83 @@
+package uk.gov.hmcts.reform.dev.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+/**
+ * Hibernate second-level cache for {@link Task}, held in a bounded in-process Caffeine cache.
+ * Lookups by id ({@code findById}, {@code findByIdAndDeletedFalse}) are answered from it, and
+ * Hibernate keeps it current on writes:
+ *
+ * <ul>
+ *   <li>entity updates, including soft deletes, replace the cached entry when the transaction commits</li>
+ *   <li>JPQL bulk {@code UPDATE}/{@code DELETE} statements (the bulk endpoints, the archiver's purge,
+ *   the overdue marker) evict the whole region, as Hibernate cannot tell which rows they touched</li>
+ * </ul>
+ *
+ * <p>Entries also expire after {@code tasks.cache.ttl}, which bounds staleness from writes made
+ * outside this application. Hits, misses, puts and evictions are published as {@code cache.*}
+ * metrics tagged {@code cache=tasks}.
+ *
+ * <p>With read replicas on, a read-only transaction may load a task from a replica that is behind
+ * the primary. Cached, that copy would outlive the replica's lag by up to the TTL, and a write
+ * loading it would fail its version check with a spurious conflict; this is most likely straight
+ * after a bulk statement has emptied the region. {@code ReplicaReadJpaDialect} therefore runs
+ * interactive read-only sessions in {@code CacheMode.GET}: they read the cache but never fill it,
+ * so only tasks loaded on the primary, by writes and bulk work, are cached.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "tasks.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager taskCacheManager(@Value("${tasks.cache.max-size:10000}") long maxSize,
+                                         @Value("${tasks.cache.ttl:10m}") Duration ttl) {
+        // A manager of its own per application context, so contexts sharing a JVM (tests) never
+        // share cached rows
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("task-cache/" + UUID.randomUUID()), getClass().getClassLoader());
+
+        CaffeineConfiguration<Object, Object> region = new CaffeineConfiguration<>();
+        region.setMaximumSize(OptionalLong.of(maxSize));
+        region.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        region.setStatisticsEnabled(true);
+        cacheManager.createCache(Task.CACHE_REGION, region);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer taskCacheProperties(CacheManager taskCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, taskCacheManager);
+            // Only regions created above; anything else would be unbounded
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+        };
+    }
+
+    @Bean
+    public MeterBinder taskCacheMetrics(CacheManager taskCacheManager) {
+        return registry -> JCacheMetrics.monitor(registry, taskCacheManager.getCache(Task.CACHE_REGION), Tags.empty());
+    }
+}
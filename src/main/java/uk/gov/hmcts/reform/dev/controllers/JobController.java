@@ -0,0 +1,43 @@
+package uk.gov.hmcts.reform.dev.controllers;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.reform.dev.jobs.TaskJobs;
+import uk.gov.hmcts.reform.dev.models.dto.ApiResponse;
+import uk.gov.hmcts.reform.dev.models.dto.TaskJobResponse;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/jobs")
+@RequiredArgsConstructor
+@Tag(name = "Bulk Jobs", description = "Status of asynchronous bulk task operations")
+public class JobController {
+
+    private final TaskJobs taskJobs;
+
+    @Operation(summary = "Get the progress of a bulk job")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", description = "Job found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "404", description = "Job not found, or finished and purged")
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<TaskJobResponse>> getJob(
+            @Parameter(description = "Job ID") @PathVariable Long id) {
+        log.debug("Fetching job ID: {}", id);
+
+        TaskJobResponse job = taskJobs.find(id);
+
+        return ResponseEntity.ok(ApiResponse.success(job, "Job retrieved successfully"));
+    }
+}
@@ -10,9 +10,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,23 +26,51 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import uk.gov.hmcts.reform.dev.jobs.TaskJobs;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
 import uk.gov.hmcts.reform.dev.models.TaskPriority;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
 import uk.gov.hmcts.reform.dev.models.dto.ApiResponse;
 import uk.gov.hmcts.reform.dev.models.dto.BulkDeleteRequest;
 import uk.gov.hmcts.reform.dev.models.dto.BulkStatusUpdateRequest;
+import uk.gov.hmcts.reform.dev.models.dto.ChangeToken;
+import uk.gov.hmcts.reform.dev.models.dto.CountMode;
 import uk.gov.hmcts.reform.dev.models.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.dto.CursorPagedData;
+import uk.gov.hmcts.reform.dev.models.dto.ExportFormat;
+import uk.gov.hmcts.reform.dev.models.dto.ImportResult;
 import uk.gov.hmcts.reform.dev.models.dto.PagedData;
+import uk.gov.hmcts.reform.dev.models.dto.TaskChanges;
+import uk.gov.hmcts.reform.dev.models.dto.TaskCursor;
+import uk.gov.hmcts.reform.dev.models.dto.TaskJobResponse;
 import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
 import uk.gov.hmcts.reform.dev.models.dto.UpdateStatusRequest;
 import uk.gov.hmcts.reform.dev.models.dto.UpdateTaskRequest;
+import uk.gov.hmcts.reform.dev.services.TaskEventStream;
+import uk.gov.hmcts.reform.dev.services.TaskExporter;
+import uk.gov.hmcts.reform.dev.services.TaskImporter;
 import uk.gov.hmcts.reform.dev.services.TaskService;
+import uk.gov.hmcts.reform.dev.services.TaskSync;
+import uk.gov.hmcts.reform.dev.services.TaskVersions;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @RestController
@@ -46,7 +79,21 @@ import java.util.List;
 @Tag(name = "Task Management", description = "APIs for managing tasks")
 public class TaskController {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 2000;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    private static final int GZIP_BUFFER_SIZE = 16 * 1024;
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final TaskService taskService;
+    private final TaskExporter taskExporter;
+    private final TaskImporter taskImporter;
+    private final TaskVersions taskVersions;
+    private final TaskSync taskSync;
+    private final TaskEventStream taskEventStream;
+    private final TaskJobs taskJobs;
 
     @Operation(summary = "Create a new task")
     @ApiResponses(value = {
@@ -68,23 +115,34 @@ public class TaskController {
         MDC.put("taskId", String.valueOf(task.getId()));
 
         return ResponseEntity.status(HttpStatus.CREATED)
+            .eTag(etag(task.getVersion()))
             .body(ApiResponse.created(TaskResponse.fromEntity(task), "Task created successfully"));
     }
 
-    @Operation(summary = "Create multiple tasks")
+    @Operation(summary = "Create multiple tasks",
+        description = "With Prefer: respond-async the tasks are created by a background job; the 202 response "
+            + "links to its status at /api/v1/jobs/{id}")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "201", description = "Tasks created successfully"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "202", description = "Job accepted"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "400", description = "Invalid request body")
     })
     @PostMapping("/bulk")
-    public ResponseEntity<ApiResponse<List<TaskResponse>>> createTasks(
+    public ResponseEntity<ApiResponse<?>> createTasks(
+            @Parameter(description = "respond-async to run the operation as a background job")
+            @RequestHeader(value = PREFER, required = false) String prefer,
             @Valid @RequestBody List<CreateTaskRequest> requests) {
         if (requests == null || requests.isEmpty()) {
             log.warn("Bulk create rejected: empty or null request list");
             throw new IllegalArgumentException("At least one task is required");
         }
+        if (respondAsync(prefer)) {
+            log.info("Queueing bulk create job for {} tasks", requests.size());
+            return accepted(taskJobs.submitCreate(requests));
+        }
         log.info("Creating {} tasks in bulk operation", requests.size());
         log.debug("Bulk create request details: titles={}",
             requests.stream().map(CreateTaskRequest::getTitle).toList());
@@ -102,66 +160,363 @@ public class TaskController {
                 String.format("%d task(s) created successfully", responses.size())));
     }
 
-    @Operation(summary = "Get a task by ID")
+    @Operation(summary = "Import tasks from an NDJSON or CSV file",
+        description = "The body is read and saved in chunks as it arrives, so it may be far larger than a bulk "
+            + "create. Each record is validated like a single create; invalid records are reported by line and "
+            + "skipped. Send Content-Encoding: gzip for a compressed body.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", description = "Import report with per-line errors"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400", description = "Unknown format, encoding or CSV header")
+    })
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<ImportResult>> importTasks(
+            @Parameter(description = "File format: ndjson (default) or csv")
+            @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @Parameter(hidden = true) InputStream body) throws IOException {
+        ExportFormat importFormat = ExportFormat.fromString(format);
+        String encoding = contentEncoding == null ? "identity" : contentEncoding.trim().toLowerCase(Locale.ROOT);
+        InputStream decoded = switch (encoding) {
+            case "identity" -> body;
+            case "gzip" -> new GZIPInputStream(body, GZIP_BUFFER_SIZE);
+            default -> throw new IllegalArgumentException(
+                String.format("Unsupported Content-Encoding '%s', expected gzip or none", contentEncoding));
+        };
+        log.info("Importing tasks - format: {}, encoding: {}", importFormat, encoding);
+
+        ImportResult result = taskImporter.importTasks(decoded, importFormat);
+
+        log.info("Import completed: {} imported, {} rejected, {} rows/s{}",
+            result.imported(), result.rejected(), result.rowsPerSecond(), result.complete() ? "" : ", stopped early");
+
+        return ResponseEntity.ok(ApiResponse.success(result,
+            String.format("%d task(s) imported, %d rejected", result.imported(), result.rejected())));
+    }
+
+    @Operation(summary = "Get a task by ID",
+        description = "Send the ETag from a previous response in If-None-Match to get 304 Not Modified while the "
+            + "task is unchanged.")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200", description = "Task found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304", description = "Task unchanged since the If-None-Match ETag"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "404", description = "Task not found")
     })
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<TaskResponse>> getTaskById(
-            @Parameter(description = "Task ID") @PathVariable Long id) {
+            @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(hidden = true) WebRequest webRequest) {
         log.info("Fetching task by ID: {}", id);
         MDC.put("taskId", String.valueOf(id));
 
-        Task task = taskService.getTaskById(id);
+        // A poll for a task whose current version is known is answered without reading or serializing it
+        Optional<TaskVersions.Version> known = taskVersions.get(id);
+        if (known.isPresent() && ifNoneMatch(webRequest, etag(known.get().version()))) {
+            log.info("Task {} not modified since version {}", id, known.get().version());
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag(known.get().version()))
+                .lastModified(known.get().lastModified())
+                .build();
+        }
+
+        TaskResponse task = taskService.getTaskView(id);
 
         log.info("Task found: ID={}, title='{}', status={}, priority={}",
             task.getId(), task.getTitle(), task.getStatus(), task.getPriority());
-        log.debug("Full task details: {}", task);
 
-        return ResponseEntity.ok(ApiResponse.success(TaskResponse.fromEntity(task), "Task retrieved successfully"));
+        // Spring still answers 304 here when the version just read matches, or for If-Modified-Since
+        return ResponseEntity.ok()
+            .eTag(etag(task.getVersion()))
+            .lastModified(TaskVersions.lastModified(task.getUpdatedAt()))
+            .body(ApiResponse.success(task, "Task retrieved successfully"));
     }
 
-    @Operation(summary = "Get all tasks with optional filtering, pagination and sorting")
-    @io.swagger.v3.oas.annotations.responses.ApiResponse(
-        responseCode = "200", description = "Page of tasks")
+    @Operation(summary = "Get all tasks with optional filtering, pagination and sorting",
+        description = "The ETag changes whenever any task changes; send it in If-None-Match to get 304 Not Modified "
+            + "until then.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", description = "Page of tasks"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304", description = "No task changed since the If-None-Match ETag")
+    })
     @GetMapping
     public ResponseEntity<ApiResponse<PagedData<TaskResponse>>> getAllTasks(
-            @Parameter(description = "Filter by status") @RequestParam(required = false) TaskStatus status,
-            @Parameter(description = "Filter by priority") @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filter by status; comma-separated for several")
+            @RequestParam(required = false) List<TaskStatus> status,
+            @Parameter(description = "Filter by priority; comma-separated for several")
+            @RequestParam(required = false) List<TaskPriority> priority,
             @Parameter(description = "Search in title") @RequestParam(required = false) String search,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        log.info("Fetching tasks with filters - status: {}, priority: {}, search: '{}', page: {}, size: {}, sort: {}",
-            status, priority, search, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+            @Parameter(description = "Only tasks due before this date-time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueBefore,
+            @Parameter(description = "Only tasks due after this date-time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueAfter,
+            @Parameter(description = "Only overdue (true) or only not overdue (false) tasks")
+            @RequestParam(required = false) Boolean overdue,
+            @Parameter(description = "Total count strategy: none, exact (default) or estimate")
+            @RequestParam(required = false) String count,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        CountMode countMode = CountMode.fromString(count);
+        TaskFilter filter = toFilter(status, priority, search, dueBefore, dueAfter, overdue);
+        log.info("Fetching tasks with filters - {}, page: {}, size: {}, sort: {}, count: {}",
+            filter, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), countMode);
+
+        TaskVersions.Watermark watermark = taskVersions.watermark();
+        if (ifNoneMatch(webRequest, watermark.etag())) {
+            log.info("Tasks not modified since watermark {}", watermark.generation());
+            return listResponse(HttpStatus.NOT_MODIFIED, watermark).build();
+        }
 
-        Page<TaskResponse> tasks = taskService.getTasksWithFilters(status, priority, search, pageable);
+        Slice<TaskResponse> tasks = taskService.getTasksWithFilters(filter, pageable, countMode);
 
-        log.info("Tasks retrieved: {} items on page {}/{}, total: {}",
-            tasks.getNumberOfElements(), tasks.getNumber() + 1, tasks.getTotalPages(), tasks.getTotalElements());
+        if (tasks instanceof Page<TaskResponse> page) {
+            log.info("Tasks retrieved: {} items on page {}/{}, total: {}",
+                page.getNumberOfElements(), page.getNumber() + 1, page.getTotalPages(), page.getTotalElements());
+        } else {
+            log.info("Tasks retrieved: {} items on page {}, hasNext: {}",
+                tasks.getNumberOfElements(), tasks.getNumber() + 1, tasks.hasNext());
+        }
         log.debug("Task IDs on this page: {}", tasks.getContent().stream().map(TaskResponse::getId).toList());
 
-        return ResponseEntity.ok(ApiResponse.success(PagedData.from(tasks), "Tasks retrieved successfully"));
+        return listResponse(HttpStatus.OK, watermark).body(ApiResponse.success(
+            PagedData.from(tasks, countMode), "Tasks retrieved successfully"));
+    }
+
+    @Operation(summary = "Get tasks using keyset (cursor) pagination",
+        description = "Selected when the 'after' parameter is present. Pass an empty 'after' for the first page, "
+            + "then the returned nextCursor. Ordered by createdAt then id; no total count is computed.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", description = "Slice of tasks with a cursor to the next slice"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304", description = "No task changed since the If-None-Match ETag")
+    })
+    @GetMapping(params = "after")
+    public ResponseEntity<ApiResponse<CursorPagedData<TaskResponse>>> getTasksByCursor(
+            @Parameter(description = "Filter by status; comma-separated for several")
+            @RequestParam(required = false) List<TaskStatus> status,
+            @Parameter(description = "Filter by priority; comma-separated for several")
+            @RequestParam(required = false) List<TaskPriority> priority,
+            @Parameter(description = "Search in title") @RequestParam(required = false) String search,
+            @Parameter(description = "Only tasks due before this date-time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueBefore,
+            @Parameter(description = "Only tasks due after this date-time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueAfter,
+            @Parameter(description = "Only overdue (true) or only not overdue (false) tasks")
+            @RequestParam(required = false) Boolean overdue,
+            @Parameter(description = "Cursor from the previous page, empty for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Sort direction on createdAt (ignored when a cursor is given)")
+            @RequestParam(defaultValue = "desc") String direction,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                String.format("Page size must be between 1 and %d", MAX_CURSOR_PAGE_SIZE));
+        }
+        TaskCursor cursor = TaskCursor.decode(after);
+        Sort.Direction sortDirection = cursor != null ? cursor.direction() : Sort.Direction.fromString(direction);
+
+        TaskFilter filter = toFilter(status, priority, search, dueBefore, dueAfter, overdue);
+
+        log.info("Fetching tasks by cursor - {}, after: {}, direction: {}, size: {}",
+            filter, cursor, sortDirection, size);
+
+        TaskVersions.Watermark watermark = taskVersions.watermark();
+        if (ifNoneMatch(webRequest, watermark.etag())) {
+            log.info("Tasks not modified since watermark {}", watermark.generation());
+            return listResponse(HttpStatus.NOT_MODIFIED, watermark).build();
+        }
+
+        Slice<TaskResponse> tasks = taskService.getTasksAfterCursor(filter, cursor, sortDirection, size);
+
+        String nextCursor = tasks.hasContent()
+            ? TaskCursor.of(tasks.getContent().get(tasks.getNumberOfElements() - 1), sortDirection).encode()
+            : null;
+
+        log.info("Tasks retrieved by cursor: {} items, hasNext: {}", tasks.getNumberOfElements(), tasks.hasNext());
+
+        return listResponse(HttpStatus.OK, watermark).body(ApiResponse.success(
+            CursorPagedData.from(tasks, nextCursor), "Tasks retrieved successfully"));
     }
 
     @Operation(summary = "Get overdue tasks")
-    @io.swagger.v3.oas.annotations.responses.ApiResponse(
-        responseCode = "200", description = "Page of overdue tasks")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", description = "Page of overdue tasks"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "304", description = "No task changed since the If-None-Match ETag")
+    })
     @GetMapping("/overdue")
     public ResponseEntity<ApiResponse<PagedData<TaskResponse>>> getOverdueTasks(
-            @PageableDefault(size = 20, sort = "dueDateTime", direction = Sort.Direction.ASC) Pageable pageable) {
-        log.info("Fetching overdue tasks - page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
+            @Parameter(description = "Total count strategy: none, exact (default) or estimate")
+            @RequestParam(required = false) String count,
+            @PageableDefault(size = 20, sort = "dueDateTime", direction = Sort.Direction.ASC) Pageable pageable,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        CountMode countMode = CountMode.fromString(count);
+        log.info("Fetching overdue tasks - page: {}, size: {}, count: {}",
+            pageable.getPageNumber(), pageable.getPageSize(), countMode);
+
+        TaskVersions.Watermark watermark = taskVersions.watermark();
+        if (ifNoneMatch(webRequest, watermark.etag())) {
+            log.info("Overdue tasks not modified since watermark {}", watermark.generation());
+            return listResponse(HttpStatus.NOT_MODIFIED, watermark).build();
+        }
+
+        Slice<TaskResponse> tasks = taskService.getOverdueTasks(pageable, countMode);
+
+        if (tasks instanceof Page<TaskResponse> page) {
+            log.info("Overdue tasks retrieved: {} items, total overdue: {}",
+                page.getNumberOfElements(), page.getTotalElements());
+            if (page.getTotalElements() > 0) {
+                log.warn("There are {} overdue tasks requiring attention", page.getTotalElements());
+            }
+        } else {
+            log.info("Overdue tasks retrieved: {} items, hasNext: {}", tasks.getNumberOfElements(), tasks.hasNext());
+        }
+
+        return listResponse(HttpStatus.OK, watermark).body(ApiResponse.success(
+            PagedData.from(tasks, countMode), "Overdue tasks retrieved successfully"));
+    }
+
+    @Operation(summary = "Export tasks as NDJSON or CSV",
+        description = "Streams every task matching the filters, in id order, as a file download. Rows are written "
+            + "as they are read, so there is no paging and no total count.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", description = "Matching tasks, one per line"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400", description = "Invalid filter or format")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "Filter by status; comma-separated for several")
+            @RequestParam(required = false) List<TaskStatus> status,
+            @Parameter(description = "Filter by priority; comma-separated for several")
+            @RequestParam(required = false) List<TaskPriority> priority,
+            @Parameter(description = "Search in title") @RequestParam(required = false) String search,
+            @Parameter(description = "Only tasks due before this date-time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueBefore,
+            @Parameter(description = "Only tasks due after this date-time (ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueAfter,
+            @Parameter(description = "Only overdue (true) or only not overdue (false) tasks")
+            @RequestParam(required = false) Boolean overdue,
+            @Parameter(description = "File format: ndjson (default) or csv")
+            @RequestParam(required = false) String format,
+            @Parameter(description = "Compress the file with gzip")
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        TaskFilter filter = toFilter(status, priority, search, dueBefore, dueAfter, overdue);
+        log.info("Exporting tasks - {}, format: {}, gzip: {}", filter, exportFormat, gzip);
+
+        // Runs on an async thread once the headers are sent; the exporter opens its own transaction
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                taskExporter.export(filter, exportFormat, compressed);
+                compressed.finish();
+            } else {
+                taskExporter.export(filter, exportFormat, out);
+            }
+        };
+
+        ContentDisposition attachment = ContentDisposition.attachment()
+            .filename("tasks." + exportFormat.extension() + (gzip ? ".gz" : ""))
+            .build();
+        return ResponseEntity.ok()
+            .contentType(gzip ? GZIP : exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, attachment.toString())
+            .body(body);
+    }
 
-        Page<TaskResponse> tasks = taskService.getOverdueTasks(pageable);
+    @Operation(summary = "Stream task changes as Server-Sent Events",
+        description = "Pushes an event for each committed change: created, updated, status-changed or deleted, "
+            + "with the changed tasks as JSON. Status and priority filters are applied to each task as it is "
+            + "after the change; deletes are always sent. A subscriber that falls behind is disconnected and "
+            + "should catch up through /changes.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", description = "Event stream, open until the client or the timeout closes it"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "503", description = "Subscriber limit reached")
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges(
+            @Parameter(description = "Only tasks with these statuses; comma-separated for several")
+            @RequestParam(required = false) List<TaskStatus> status,
+            @Parameter(description = "Only tasks with these priorities; comma-separated for several")
+            @RequestParam(required = false) List<TaskPriority> priority) {
+        Set<TaskStatus> statuses = status == null ? Set.of() : Set.copyOf(status);
+        Set<TaskPriority> priorities = priority == null ? Set.of() : Set.copyOf(priority);
+        log.info("Opening task stream - statuses: {}, priorities: {}", statuses, priorities);
+
+        return taskEventStream.subscribe(statuses, priorities);
+    }
 
-        log.info("Overdue tasks retrieved: {} items, total overdue: {}",
-            tasks.getNumberOfElements(), tasks.getTotalElements());
-        if (tasks.getTotalElements() > 0) {
-            log.warn("There are {} overdue tasks requiring attention", tasks.getTotalElements());
+    @Operation(summary = "Full-text search over task titles and descriptions",
+        description = "Words are stemmed and matched against title and description; results are ordered by "
+            + "relevance, with title matches ranked above description matches.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", description = "Matching tasks, best match first"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400", description = "Missing query or invalid limit")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<TaskResponse>>> searchTasks(
+            @Parameter(description = "Search text") @RequestParam(required = false) String q,
+            @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "20") int limit) {
+        if (q == null || q.isBlank()) {
+            throw new IllegalArgumentException("Search query 'q' must not be blank");
         }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new IllegalArgumentException(
+                String.format("Search limit must be between 1 and %d", MAX_SEARCH_LIMIT));
+        }
+        log.info("Searching tasks - q: '{}', limit: {}", q, limit);
+
+        List<TaskResponse> tasks = taskService.searchTasks(q, limit);
 
-        return ResponseEntity.ok(ApiResponse.success(PagedData.from(tasks), "Overdue tasks retrieved successfully"));
+        log.info("Task search returned {} result(s)", tasks.size());
+
+        return ResponseEntity.ok(ApiResponse.success(tasks, "Search results retrieved successfully"));
+    }
+
+    @Operation(summary = "Get tasks changed since a change token (delta sync)",
+        description = "Returns tasks created or changed since the token, and tombstones for tasks deleted since "
+            + "it, oldest change first. Omit 'since' for a full sync, then store nextToken and pass it next time; "
+            + "while hasMore is true, call again straight away with nextToken.")
+    @ApiResponses(value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", description = "Changes since the token, with the token to pass next"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400", description = "Invalid token or limit"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "410", description = "Token older than the deletion retention; sync from the start")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<TaskChanges>> getTaskChanges(
+            @Parameter(description = "nextToken from the previous sync, empty for a full sync")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes") @RequestParam(defaultValue = "500") int limit) {
+        if (limit < 1 || limit > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException(
+                String.format("Change limit must be between 1 and %d", MAX_CURSOR_PAGE_SIZE));
+        }
+        ChangeToken token = ChangeToken.decode(since);
+        log.info("Fetching task changes since {}, limit: {}", token, limit);
+
+        TaskChanges changes = taskSync.changesSince(token, limit);
+
+        log.info("Task changes retrieved: {} changed, {} deleted, hasMore: {}",
+            changes.changed().size(), changes.deleted().size(), changes.hasMore());
+
+        return ResponseEntity.ok(ApiResponse.success(changes, "Task changes retrieved successfully"));
     }
 
     @Operation(summary = "Update a task completely")
@@ -171,23 +526,29 @@ public class TaskController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "400", description = "Invalid request body"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
-            responseCode = "404", description = "Task not found")
+            responseCode = "404", description = "Task not found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "412", description = "Task changed since the If-Match ETag was read")
     })
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTask(
             @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "ETag from a previous read; the update only applies to that version")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTaskRequest request) {
         log.info("Updating task ID: {} with new values - title: '{}', status: {}, priority: {}",
             id, request.getTitle(), request.getStatus(), request.getPriority());
         log.debug("Full update request for task {}: {}", id, request);
         MDC.put("taskId", String.valueOf(id));
 
-        Task task = taskService.updateTask(id, request);
+        Task task = taskService.updateTask(id, request, expectedVersion(ifMatch));
 
-        log.info("Task {} updated successfully", id);
+        log.info("Task {} updated successfully to version {}", id, task.getVersion());
         log.debug("Updated task state: {}", task);
 
-        return ResponseEntity.ok(ApiResponse.success(TaskResponse.fromEntity(task), "Task updated successfully"));
+        return ResponseEntity.ok()
+            .eTag(etag(task.getVersion()))
+            .body(ApiResponse.success(TaskResponse.fromEntity(task), "Task updated successfully"));
     }
 
     @Operation(summary = "Update task status")
@@ -197,38 +558,53 @@ public class TaskController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "400", description = "Invalid status"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
-            responseCode = "404", description = "Task not found")
+            responseCode = "404", description = "Task not found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "412", description = "Task changed since the If-Match ETag was read")
     })
     @PatchMapping("/{id}/status")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTaskStatus(
             @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "ETag from a previous read; the update only applies to that version")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateStatusRequest request) {
         log.info("Updating status for task ID: {} to {}", id, request.getStatus());
         MDC.put("taskId", String.valueOf(id));
 
-        Task task = taskService.updateTaskStatus(id, request.getStatus());
+        TaskResponse task = taskService.updateTaskStatus(id, request.getStatus(), expectedVersion(ifMatch));
 
-        log.info("Task {} status updated from {} to {}", id, task.getStatus(), request.getStatus());
+        log.info("Task {} status updated to {}", id, task.getStatus());
 
-        return ResponseEntity.ok(
-            ApiResponse.success(TaskResponse.fromEntity(task), "Task status updated successfully"));
+        return ResponseEntity.ok()
+            .eTag(etag(task.getVersion()))
+            .body(ApiResponse.success(task, "Task status updated successfully"));
     }
 
-    @Operation(summary = "Update status for multiple tasks")
+    @Operation(summary = "Update status for multiple tasks",
+        description = "With Prefer: respond-async the update runs as a background job")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200", description = "Tasks status updated"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "202", description = "Job accepted"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "400", description = "Invalid request body")
     })
     @PatchMapping("/bulk/status")
-    public ResponseEntity<ApiResponse<BulkOperationResult>> updateTasksStatus(
+    public ResponseEntity<ApiResponse<?>> updateTasksStatus(
+            @Parameter(description = "respond-async to run the operation as a background job")
+            @RequestHeader(value = PREFER, required = false) String prefer,
             @Valid @RequestBody BulkStatusUpdateRequest request) {
+        if (respondAsync(prefer)) {
+            log.info("Queueing bulk status update job for {} tasks to {}",
+                request.getIds().size(), request.getStatus());
+            return accepted(taskJobs.submitStatusUpdate(request.getIds(), request.getStatus()));
+        }
         log.info("Bulk status update: updating {} tasks to status {}",
             request.getIds().size(), request.getStatus());
         log.debug("Task IDs for bulk status update: {}", request.getIds());
 
-        int count = taskService.updateTasksStatus(request.getIds(), request.getStatus());
+        int count = taskService.updateTasksStatus(request.getIds(), request.getStatus()).size();
         BulkOperationResult result = new BulkOperationResult(count, request.getIds().size());
 
         log.info("Bulk status update completed: {}/{} tasks updated to {}",
@@ -247,35 +623,48 @@ public class TaskController {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200", description = "Task deleted"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
-            responseCode = "404", description = "Task not found")
+            responseCode = "404", description = "Task not found"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "412", description = "Task changed since the If-Match ETag was read")
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteTask(
-            @Parameter(description = "Task ID") @PathVariable Long id) {
+            @Parameter(description = "Task ID") @PathVariable Long id,
+            @Parameter(description = "ETag from a previous read; the task is only deleted at that version")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         log.info("Deleting task ID: {} (soft delete)", id);
         MDC.put("taskId", String.valueOf(id));
 
-        taskService.deleteTask(id);
+        taskService.deleteTask(id, expectedVersion(ifMatch));
 
         log.info("Task {} soft deleted successfully", id);
 
         return ResponseEntity.ok(ApiResponse.deleted("Task deleted successfully"));
     }
 
-    @Operation(summary = "Delete multiple tasks (soft delete)")
+    @Operation(summary = "Delete multiple tasks (soft delete)",
+        description = "With Prefer: respond-async the delete runs as a background job")
     @ApiResponses(value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200", description = "Tasks deleted"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "202", description = "Job accepted"),
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "400", description = "Invalid request body")
     })
     @DeleteMapping("/bulk")
-    public ResponseEntity<ApiResponse<BulkOperationResult>> deleteTasks(
+    public ResponseEntity<ApiResponse<?>> deleteTasks(
+            @Parameter(description = "respond-async to run the operation as a background job")
+            @RequestHeader(value = PREFER, required = false) String prefer,
             @Valid @RequestBody BulkDeleteRequest request) {
+        if (respondAsync(prefer)) {
+            log.info("Queueing bulk delete job for {} tasks", request.getIds().size());
+            return accepted(taskJobs.submitDelete(request.getIds()));
+        }
         log.info("Bulk delete: deleting {} tasks (soft delete)", request.getIds().size());
         log.debug("Task IDs for bulk delete: {}", request.getIds());
 
-        int count = taskService.deleteTasks(request.getIds());
+        int count = taskService.deleteTasks(request.getIds()).size();
         BulkOperationResult result = new BulkOperationResult(count, request.getIds().size());
 
         log.info("Bulk delete completed: {}/{} tasks deleted", count, request.getIds().size());
@@ -288,5 +677,103 @@ public class TaskController {
             String.format("%d task(s) deleted successfully", count)));
     }
 
+    /**
+     * Whether the Prefer header asks for {@code respond-async} (RFC 7240). Other preferences, and
+     * parameters on this one, are ignored.
+     */
+    private static boolean respondAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            String token = preference.split("[;=]", 2)[0].trim();
+            if (token.equalsIgnoreCase(RESPOND_ASYNC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 202 pointing at the job's status
+    private static ResponseEntity<ApiResponse<?>> accepted(TaskJobResponse job) {
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/jobs/" + job.id()))
+            .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+            .body(ApiResponse.success(job,
+                String.format("Job %d accepted for %d item(s)", job.id(), job.totalItems())));
+    }
+
+    /**
+     * Whether If-None-Match names this ETag, or is {@code *}; checked before any query runs. Weak
+     * comparison, as for any GET. If-Modified-Since alone is left to Spring, which evaluates it
+     * against the Last-Modified of the response once it is built.
+     */
+    private static boolean ifNoneMatch(WebRequest webRequest, String etag) {
+        String[] headers = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (headers == null) {
+            return false;
+        }
+        for (String header : headers) {
+            for (String tag : header.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * List responses carry the change watermark as their validators. It is read before the list is,
+     * so a change committing while the list loads leaves the returned ETag already stale rather than
+     * hiding the change.
+     */
+    private static ResponseEntity.BodyBuilder listResponse(HttpStatus status, TaskVersions.Watermark watermark) {
+        return ResponseEntity.status(status)
+            .eTag(watermark.etag())
+            .lastModified(watermark.changedAt());
+    }
+
+    // The task's version as a strong ETag, e.g. "3"
+    private static String etag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * The version an If-Match header requires, or null when the write is unconditional (no header, or
+     * {@code *}, which only requires the task to exist). Weak ETags and lists are rejected: this API
+     * only issues strong ETags, and a write is checked against the one version the row holds.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        String version = tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")
+            ? tag.substring(1, tag.length() - 1)
+            : "";
+        if (!version.isEmpty() && version.length() <= 18 && version.chars().allMatch(Character::isDigit)) {
+            return Long.valueOf(version);
+        }
+        throw new IllegalArgumentException(
+            String.format("Invalid If-Match '%s', expected * or a single ETag as returned by this API", ifMatch));
+    }
+
+    private static TaskFilter toFilter(List<TaskStatus> statuses, List<TaskPriority> priorities, String search,
+                                       LocalDateTime dueBefore, LocalDateTime dueAfter, Boolean overdue) {
+        return TaskFilter.builder()
+            .statuses(statuses)
+            .priorities(priorities)
+            .search(search)
+            .dueBefore(dueBefore)
+            .dueAfter(dueAfter)
+            .overdue(overdue)
+            .build();
+    }
+
     public record BulkOperationResult(int affected, int requested) {}
 }
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated bean method on the bulk connection pool, so large or long-running work
+ * queues for its own few connections instead of taking the ones interactive requests need.
+ *
+ * <p>Only affects transactions the method starts; one it joins already has its connection.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BulkWorkload {
+}
@@ -0,0 +1,30 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks the thread as {@link Workload#BULK} for the duration of a {@link BulkWorkload} method.
+ * Ordered ahead of the transaction interceptor so the marker is already set when the method's
+ * transaction takes its connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BulkWorkloadAspect {
+
+    @Around("@annotation(uk.gov.hmcts.reform.dev.datasource.BulkWorkload)")
+    public Object onBulkPool(ProceedingJoinPoint joinPoint) throws Throwable {
+        Workload previous = Workload.current();
+        Workload.set(Workload.BULK);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            Workload.set(previous);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits the database connections into one Hikari pool per workload, all on {@code spring.datasource}:
+ *
+ * <ul>
+ *   <li>{@code read}: interactive {@code @Transactional(readOnly = true)} work, such as GET by id</li>
+ *   <li>{@code write}: interactive writes, and reads that join a write transaction</li>
+ *   <li>{@code bulk}: {@link BulkWorkload} methods (bulk endpoints, background jobs), reads or writes</li>
+ * </ul>
+ *
+ * <p>Each pool is sized under {@code tasks.pools.<name>} with the usual Hikari settings. Bulk work
+ * waits for its own few connections rather than taking the interactive ones. The pools are beans,
+ * so actuator publishes {@code hikaricp.connections.*} for each, tagged {@code pool}.
+ *
+ * <p>The {@code DataSource} everything else uses is a {@link LazyConnectionDataSourceProxy}. It only
+ * takes a real connection at the first statement, when the transaction has already marked it
+ * read-only or not and {@link Workload} has been set. With {@code tasks.replicas.enabled},
+ * interactive reads go through {@link ReplicaRoutingDataSource}, which falls back to the read pool.
+ */
+@Configuration(proxyBeanMethods = false)
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("tasks.pools.read")
+    public HikariDataSource readDataSource(DataSourceProperties properties) {
+        return pool(properties, "read");
+    }
+
+    @Bean
+    @ConfigurationProperties("tasks.pools.write")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        return pool(properties, "write");
+    }
+
+    @Bean
+    @ConfigurationProperties("tasks.pools.bulk")
+    public HikariDataSource bulkDataSource(DataSourceProperties properties) {
+        return pool(properties, "bulk");
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, String name) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        pool.setPoolName(name);
+        return pool;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("readDataSource") DataSource read,
+                                 @Qualifier("writeDataSource") DataSource write,
+                                 @Qualifier("bulkDataSource") DataSource bulk,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicas) {
+        DataSource interactiveReads = replicas.getIfAvailable(() -> read);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+            new WorkloadRoutingDataSource(write, bulk));
+        dataSource.setReadOnlyDataSource(new WorkloadRoutingDataSource(interactiveReads, bulk));
+        return dataSource;
+    }
+}
@@ -0,0 +1,82 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * Stands in for database replication in the local {@code replicas} profile, where the replica is
+ * just a second in-memory H2 database. Migrates each replica at startup, then periodically copies
+ * the primary's tables across, each replica in one transaction so readers never see it half done.
+ *
+ * <p>The heartbeat row is read from the primary before the tasks, so the lag a replica reports is
+ * never less than how stale its task rows really are. Whole tables are copied every time, which is
+ * fine for a development database; real replicas are kept current by the database itself.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = {"tasks.replicas.enabled", "tasks.replicas.local-sync.enabled"}, havingValue = "true")
+public class LocalReplicaSync {
+
+    private static final List<String> TABLES = List.of("replica_heartbeat", "tasks");
+
+    private final JdbcTemplate primary;
+    private final Map<String, DataSource> replicas;
+
+    public LocalReplicaSync(@Qualifier("bulkDataSource") DataSource primary, ReplicaRoutingDataSource routing) {
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = routing.replicas();
+
+        replicas.forEach((name, replica) -> {
+            Flyway.configure().dataSource(replica).load().migrate();
+            log.info("Replica: Schema migrated on local replica {}", name);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.replicas.local-sync.interval:PT1S}")
+    public void sync() {
+        Map<String, List<Map<String, Object>>> snapshot = new LinkedHashMap<>();
+        for (String table : TABLES) {
+            snapshot.put(table, primary.queryForList("SELECT * FROM " + table));
+        }
+
+        replicas.forEach((name, replica) -> {
+            try {
+                copy(replica, snapshot);
+                log.debug("Replica: Copied {} task(s) to {}", snapshot.get("tasks").size(), name);
+            } catch (DataAccessException e) {
+                log.warn("Replica: Could not copy to {}: {}", name, e.getMessage());
+            }
+        });
+    }
+
+    private static void copy(DataSource replica, Map<String, List<Map<String, Object>>> snapshot) {
+        JdbcTemplate jdbc = new JdbcTemplate(replica);
+        new TransactionTemplate(new DataSourceTransactionManager(replica)).executeWithoutResult(status ->
+            snapshot.forEach((table, rows) -> {
+                jdbc.update("DELETE FROM " + table);
+                if (rows.isEmpty()) {
+                    return;
+                }
+                List<String> columns = List.copyOf(rows.get(0).keySet());
+                String insert = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+                jdbc.batchUpdate(insert, rows.stream()
+                    .map(row -> columns.stream().map(row::get).toArray())
+                    .toList());
+            }));
+    }
+}
@@ -0,0 +1,65 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * Adds replica databases to the read side when {@code tasks.replicas.enabled} is set.
+ * {@link DataSourceConfig} then sends interactive read-only transactions through the
+ * {@link ReplicaRoutingDataSource} below instead of straight to the read pool, which becomes its
+ * fallback. Writes and bulk work stay on the primary, and so does the second-level cache: see
+ * {@link ReplicaReadJpaDialect}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "tasks.replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("readDataSource") DataSource primary,
+                                                             ReplicaProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaProperties.Node node : properties.nodes()) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(node.url())
+                .username(node.username())
+                .password(node.password())
+                .build();
+            replica.setPoolName(node.name());
+            replicas.put(node.name(), replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+    }
+
+    /**
+     * Installs {@link ReplicaReadJpaDialect} on the entity manager factory before it is initialised,
+     * so the factory does not take the vendor adapter's plain dialect. The transaction manager takes
+     * the factory's dialect in turn.
+     */
+    @Bean
+    public static BeanPostProcessor replicaReadJpaDialectInstaller() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean factory) {
+                    factory.setJpaDialect(new ReplicaReadJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
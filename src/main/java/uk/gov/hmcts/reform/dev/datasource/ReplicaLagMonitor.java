@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+
+/**
+ * Keeps {@link ReplicaRoutingDataSource} off replicas that have fallen behind. Each check reads the
+ * {@code replica_heartbeat} row from every replica, takes its age as that replica's lag, and only
+ * keeps replicas within {@code tasks.replicas.max-lag} in read rotation; then it writes a fresh
+ * heartbeat to the primary for the next check to look for. A replica that cannot be read at all is
+ * taken out of rotation the same way.
+ *
+ * <p>The lag includes up to one heartbeat interval of granularity, so {@code max-lag} should be
+ * comfortably above {@code heartbeat-interval}. Published as {@code tasks.replicas.lag} (seconds).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.replicas.enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private static final String READ_HEARTBEAT = "SELECT beat_at FROM replica_heartbeat WHERE id = 1";
+    private static final String WRITE_HEARTBEAT = "UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final ReplicaRoutingDataSource routing;
+    private final Duration maxLag;
+    private final Map<String, JdbcTemplate> replicas = new ConcurrentHashMap<>();
+    private final Map<String, Duration> lags = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> beats = new ConcurrentHashMap<>();
+
+    public ReplicaLagMonitor(@Qualifier("writeDataSource") DataSource primary,
+                             ReplicaRoutingDataSource routing,
+                             MeterRegistry meterRegistry,
+                             @Value("${tasks.replicas.max-lag:5s}") Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.routing = routing;
+        this.maxLag = maxLag;
+
+        routing.replicas().forEach((name, replica) -> {
+            replicas.put(name, new JdbcTemplate(replica));
+            Gauge.builder("tasks.replicas.lag", lags, l -> seconds(l.get(name)))
+                .description("Age of the newest primary heartbeat visible on the replica")
+                .tag("replica", name)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        });
+    }
+
+    private static double seconds(Duration lag) {
+        return lag == null ? Double.NaN : lag.toMillis() / 1000.0;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.replicas.heartbeat-interval:PT1S}")
+    public void check() {
+        LocalDateTime now = LocalDateTime.now();
+        replicas.forEach((name, replica) -> {
+            LocalDateTime beat = beatOf(name, replica);
+            if (beat == null) {
+                lags.remove(name);
+                beats.remove(name);
+                routing.setAvailable(name, false);
+                return;
+            }
+            Duration lag = Duration.between(beat, now);
+            lag = lag.isNegative() ? Duration.ZERO : lag;
+            lags.put(name, lag);
+            // Before the replica can join rotation, so caughtUpTo() always covers it
+            beats.put(name, beat);
+            boolean withinLimit = lag.compareTo(maxLag) <= 0;
+            if (!withinLimit && routing.isAvailable(name)) {
+                log.warn("Replica: {} is {} ms behind (limit {} ms), reading from primary until it catches up",
+                    name, lag.toMillis(), maxLag.toMillis());
+            }
+            routing.setAvailable(name, withinLimit);
+        });
+
+        try {
+            primary.update(WRITE_HEARTBEAT, now);
+        } catch (DataAccessException e) {
+            log.warn("Replica: Could not write heartbeat to primary: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * The time up to which every replica in read rotation had caught up at the last check: a change
+     * that committed on the primary before it is visible to any replica read. Reads go to the
+     * primary while no replica is in rotation, so it is then the current time.
+     */
+    public Instant caughtUpTo() {
+        return beats.entrySet().stream()
+            .filter(beat -> routing.isAvailable(beat.getKey()))
+            // Heartbeats are written from LocalDateTime.now(), i.e. in the server's zone
+            .map(beat -> beat.getValue().atZone(ZoneId.systemDefault()).toInstant())
+            .min(Comparator.naturalOrder())
+            .orElseGet(Instant::now);
+    }
+
+    // The newest heartbeat the replica can see, or null when it cannot be read
+    private LocalDateTime beatOf(String name, JdbcTemplate replica) {
+        try {
+            return replica.queryForObject(READ_HEARTBEAT, LocalDateTime.class);
+        } catch (DataAccessException e) {
+            log.warn("Replica: Could not read heartbeat from {}: {}", name, e.getMessage());
+            return null;
+        }
+    }
+}
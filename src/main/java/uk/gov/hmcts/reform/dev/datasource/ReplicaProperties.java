@@ -0,0 +1,28 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Replica databases that read-only transactions may be routed to ({@code tasks.replicas.nodes}).
+ *
+ * @param nodes replicas in routing order; reads rotate over the ones within the lag limit
+ */
+@ConfigurationProperties("tasks.replicas")
+public record ReplicaProperties(List<Node> nodes) {
+
+    public ReplicaProperties {
+        nodes = nodes == null ? List.of() : List.copyOf(nodes);
+    }
+
+    /**
+     * One replica's connection settings.
+     *
+     * @param name     pool name, also used in logs and metric tags
+     * @param url      JDBC URL
+     * @param username database user
+     * @param password database password
+     */
+    public record Node(String name, String url, String username, String password) {}
+}
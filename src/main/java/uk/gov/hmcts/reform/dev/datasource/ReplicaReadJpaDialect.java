@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps replica reads out of the second-level cache. An interactive read-only transaction may be
+ * served by a replica up to {@code tasks.replicas.max-lag} behind, and an entity it loaded would
+ * otherwise be cached for {@code tasks.cache.ttl} and handed to later write transactions, which
+ * would then fail their version check. Such sessions use {@link CacheMode#GET}: they are still
+ * answered from the cache, but only entities loaded on the primary are put in it.
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        // Bulk work reads from the primary's bulk pool, so what it loads is current
+        if (definition.isReadOnly() && Workload.current() == Workload.INTERACTIVE) {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+        return transactionData;
+    }
+}
@@ -0,0 +1,111 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * The read-only side of the task datasource. Each connection comes from the next replica, in turn,
+ * that {@link ReplicaLagMonitor} last found within the lag limit, and from the primary when none is.
+ * A replica that refuses a connection is dropped straight away rather than waiting for the next
+ * lag check, and that read falls back to the primary too.
+ *
+ * <p>Replicas start out excluded, so nothing is read from one until its lag has been measured.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Set<String> available = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Map<String, Counter> reads = new LinkedHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = Map.copyOf(new LinkedHashMap<>(replicas));
+        reads.put(PRIMARY, readCounter(meterRegistry, PRIMARY));
+        replicas.keySet().forEach(name -> reads.put(name, readCounter(meterRegistry, name)));
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("tasks.replicas.reads")
+            .description("Read-only connections handed out, by database")
+            .tag("target", target)
+            .register(meterRegistry);
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    /**
+     * Includes or excludes a replica from read routing.
+     */
+    public void setAvailable(String name, boolean inRotation) {
+        boolean changed = inRotation ? available.add(name) : available.remove(name);
+        if (changed) {
+            log.info("Replica: {} {} read rotation", name, inRotation ? "joined" : "left");
+        }
+    }
+
+    public boolean isAvailable(String name) {
+        return available.contains(name);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(ConnectionSource source) throws SQLException {
+        List<String> candidates = replicas.keySet().stream().filter(available::contains).toList();
+        if (!candidates.isEmpty()) {
+            String name = candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+            try {
+                Connection connection = source.open(replicas.get(name));
+                reads.get(name).increment();
+                return connection;
+            } catch (SQLException e) {
+                setAvailable(name, false);
+                log.warn("Replica: {} refused a connection, reading from primary: {}", name, e.getMessage());
+            }
+        }
+        reads.get(PRIMARY).increment();
+        return source.open(primary);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
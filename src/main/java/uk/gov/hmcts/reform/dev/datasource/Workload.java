@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+/**
+ * What kind of work the current thread's database connections are for, which decides the pool
+ * they come from. Everything is {@link #INTERACTIVE} unless it runs inside a {@link BulkWorkload}
+ * method.
+ */
+public enum Workload {
+    INTERACTIVE,
+    BULK;
+
+    private static final ThreadLocal<Workload> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    public static Workload current() {
+        return CURRENT.get();
+    }
+
+    static void set(Workload workload) {
+        CURRENT.set(workload);
+    }
+}
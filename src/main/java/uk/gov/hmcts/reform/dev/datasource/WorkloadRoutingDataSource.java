@@ -0,0 +1,25 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.Map;
+import javax.sql.DataSource;
+
+/**
+ * Hands out connections from the bulk pool while the thread is in a {@link BulkWorkload} method,
+ * and from the interactive target otherwise.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    public WorkloadRoutingDataSource(DataSource interactive, DataSource bulk) {
+        setTargetDataSources(Map.of(Workload.INTERACTIVE, interactive, Workload.BULK, bulk));
+        setDefaultTargetDataSource(interactive);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return Workload.current();
+    }
+}
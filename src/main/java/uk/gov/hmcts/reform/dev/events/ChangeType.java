@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.dev.events;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+}
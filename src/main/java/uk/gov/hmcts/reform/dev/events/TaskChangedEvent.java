@@ -0,0 +1,21 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+
+import java.util.List;
+
+/**
+ * Published by TaskService for every mutation, and by TaskImporter for each committed chunk.
+ * Listeners that maintain derived state (search indexes, caches) should use
+ * {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public record TaskChangedEvent(ChangeType type, List<TaskSnapshot> tasks) {
+
+    public static TaskChangedEvent of(ChangeType type, Task task) {
+        return new TaskChangedEvent(type, List.of(TaskSnapshot.from(task)));
+    }
+
+    public static TaskChangedEvent of(ChangeType type, List<Task> tasks) {
+        return new TaskChangedEvent(type, tasks.stream().map(TaskSnapshot::from).toList());
+    }
+}
@@ -0,0 +1,51 @@
+package uk.gov.hmcts.reform.dev.events;
+
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of a task's state at the time of a change, safe to hand to listeners
+ * that run after the transaction (and the entity) are gone.
+ */
+public record TaskSnapshot(
+    Long id,
+    String title,
+    String description,
+    TaskStatus status,
+    TaskPriority priority,
+    LocalDateTime dueDateTime,
+    LocalDateTime updatedAt,
+    boolean deleted
+) {
+
+    public static TaskSnapshot from(Task task) {
+        return new TaskSnapshot(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getPriority(),
+            task.getDueDateTime(),
+            task.getUpdatedAt(),
+            task.isDeleted()
+        );
+    }
+
+    /**
+     * Snapshot for a set-based status change, which never loads the row: only the fields the
+     * statement wrote are known, the rest are null.
+     */
+    public static TaskSnapshot statusChanged(Long id, TaskStatus status, LocalDateTime updatedAt) {
+        return new TaskSnapshot(id, null, null, status, null, null, updatedAt, false);
+    }
+
+    /**
+     * Snapshot for a set-based soft delete; listeners only need the id to drop the task.
+     */
+    public static TaskSnapshot deleted(Long id, LocalDateTime deletedAt) {
+        return new TaskSnapshot(id, null, null, null, null, null, deletedAt, true);
+    }
+}
@@ -0,0 +1,11 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+import java.time.Duration;
+
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    public ChangeTokenExpiredException(Duration retention) {
+        super(String.format("Change token is older than the deletion retention (%s): deleted tasks may "
+            + "have been archived since, so sync again from the start without 'since'", retention));
+    }
+}
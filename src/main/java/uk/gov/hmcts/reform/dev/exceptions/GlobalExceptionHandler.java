@@ -1,7 +1,9 @@
 package uk.gov.hmcts.reform.dev.exceptions;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -30,6 +32,72 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleJobNotFound(JobNotFoundException ex) {
+        log.warn("Exception: Job not found - {}", ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.error(
+            HttpStatus.NOT_FOUND.value(),
+            "NOT_FOUND",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<ApiResponse<Void>> handleVersionMismatch(TaskVersionMismatchException ex) {
+        log.warn("Exception: Precondition failed - {}", ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.error(
+            HttpStatus.PRECONDITION_FAILED.value(),
+            "PRECONDITION_FAILED",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
+    // Another transaction changed the task between this one reading and writing it
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Exception: Concurrent modification - {}", ex.getMessage());
+        log.debug("OptimisticLockingFailureException details", ex);
+
+        ApiResponse<Void> response = ApiResponse.error(
+            HttpStatus.CONFLICT.value(),
+            "CONFLICT",
+            "The task was modified concurrently, reload it and retry"
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ApiResponse<Void>> handleChangeTokenExpired(ChangeTokenExpiredException ex) {
+        log.warn("Exception: Change token expired - {}", ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.error(
+            HttpStatus.GONE.value(),
+            "SYNC_TOKEN_EXPIRED",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.GONE).body(response);
+    }
+
+    // Raised for GET /tasks/stream, whose clients accept text/event-stream: the JSON content type is set
+    // explicitly so the error body is written instead of failing content negotiation
+    @ExceptionHandler(SubscriberLimitException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSubscriberLimit(SubscriberLimitException ex) {
+        log.warn("Exception: Subscriber limit reached - {}", ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.error(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "SERVICE_UNAVAILABLE",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(response);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidationErrors(MethodArgumentNotValidException ex) {
         Map<String, String> fieldErrors = new HashMap<>();
@@ -0,0 +1,8 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+public class JobNotFoundException extends RuntimeException {
+
+    public JobNotFoundException(Long id) {
+        super("Job not found with id: " + id);
+    }
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+public class SubscriberLimitException extends RuntimeException {
+
+    public SubscriberLimitException(int maxSubscribers) {
+        super(String.format("The task stream already has its maximum of %d subscribers, retry later",
+            maxSubscribers));
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.exceptions;
+
+public class TaskVersionMismatchException extends RuntimeException {
+
+    public TaskVersionMismatchException(Long id, long expected, long actual) {
+        super(String.format("Task %d has been modified: If-Match version %d, current version %d",
+            id, expected, actual));
+    }
+
+    // A concurrent write moved the task on after the If-Match check passed; its version is not known
+    public TaskVersionMismatchException(Long id, long expected, Throwable cause) {
+        super(String.format("Task %d has been modified: If-Match version %d is no longer current", id, expected),
+            cause);
+    }
+}
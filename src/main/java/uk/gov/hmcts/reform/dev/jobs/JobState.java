@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.jobs;
+
+/**
+ * {@code QUEUED} until a worker claims it, then {@code RUNNING} until every chunk has committed
+ * ({@code COMPLETED}) or a chunk could not be saved ({@code FAILED}). A job stopped by a shutdown
+ * goes back to {@code QUEUED}.
+ */
+public enum JobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package uk.gov.hmcts.reform.dev.jobs;
+
+/**
+ * The bulk operation an asynchronous job runs, one per bulk endpoint.
+ */
+public enum JobType {
+    CREATE,
+    STATUS_UPDATE,
+    DELETE
+}
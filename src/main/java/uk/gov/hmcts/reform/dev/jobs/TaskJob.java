@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.dev.jobs;
+
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A {@code task_jobs} row. {@code nextChunk} is the first chunk whose changes have not committed.
+ */
+public record TaskJob(long id, JobType type, JobState state, TaskStatus targetStatus, int totalItems,
+                      int totalChunks, int nextChunk, int succeeded, int failed, String error,
+                      LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime finishedAt) {
+}
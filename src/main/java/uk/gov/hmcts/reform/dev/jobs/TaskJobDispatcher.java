@@ -0,0 +1,158 @@
+package uk.gov.hmcts.reform.dev.jobs;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands queued jobs to a fixed pool of {@code tasks.jobs.workers} threads, one job per thread. It
+ * polls every {@code tasks.jobs.poll-interval}, and is also called when a job is submitted and when
+ * a worker frees up. A worker is reserved before a job is claimed, so a job only leaves the queue
+ * when it can start straight away; the rest wait in {@code task_jobs}, so a burst of submissions
+ * never grows an in-memory queue.
+ *
+ * <p>Jobs are claimed in the database, so several instances can share the queue. A running job
+ * whose heartbeat is older than {@code tasks.jobs.stale-after} (its instance died) is claimed again.
+ * On shutdown each worker finishes its chunk and queues its job again for the next start.
+ *
+ * <p>A job holds a {@code bulk} pool connection while it applies a chunk, so {@code tasks.jobs.workers}
+ * must be below {@code tasks.pools.bulk.maximum-pool-size}; startup fails otherwise.
+ *
+ * <p>Metrics: {@code tasks.jobs.running} (jobs on this instance's workers) and
+ * {@code tasks.jobs.queued} (jobs waiting for any worker).
+ */
+@Slf4j
+@Component
+public class TaskJobDispatcher {
+
+    private static final Duration SHUTDOWN_WAIT = Duration.ofSeconds(30);
+
+    private final TaskJobStore store;
+    private final TaskJobRunner runner;
+    private final Duration staleAfter;
+    private final Duration retention;
+    private final ThreadPoolExecutor workers;
+    // One permit per worker, taken before a claim and given back once the job has run
+    private final Semaphore free;
+    private final Set<Long> active = ConcurrentHashMap.newKeySet();
+    private final AtomicLong queued = new AtomicLong();
+
+    public TaskJobDispatcher(TaskJobStore store,
+                             TaskJobRunner runner,
+                             MeterRegistry meterRegistry,
+                             @Value("${tasks.jobs.workers:2}") int workerCount,
+                             @Value("${tasks.pools.bulk.maximum-pool-size:10}") int bulkPoolSize,
+                             @Value("${tasks.jobs.stale-after:2m}") Duration staleAfter,
+                             @Value("${tasks.jobs.retention:7d}") Duration retention) {
+        // Each running job holds a bulk connection; the relay, archiver, overdue marker, imports,
+        // exports and synchronous bulk endpoints need at least one left
+        if (workerCount >= bulkPoolSize) {
+            throw new IllegalStateException("tasks.jobs.workers (" + workerCount + ") must be below "
+                + "tasks.pools.bulk.maximum-pool-size (" + bulkPoolSize + ")");
+        }
+        this.store = store;
+        this.runner = runner;
+        this.staleAfter = staleAfter;
+        this.retention = retention;
+        this.free = new Semaphore(workerCount);
+        // The permits bound what is queued here: a job waits only for a thread that is finishing the
+        // job before it, never behind other jobs
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), Thread.ofPlatform().name("task-job-", 0).daemon().factory());
+
+        Gauge.builder("tasks.jobs.running", active, Set::size)
+            .description("Bulk jobs running on this instance")
+            .register(meterRegistry);
+        Gauge.builder("tasks.jobs.queued", queued, AtomicLong::get)
+            .description("Bulk jobs waiting for a worker")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Claims queued or stale jobs for any free workers and starts them.
+     */
+    @Scheduled(fixedDelayString = "${tasks.jobs.poll-interval:PT5S}")
+    public void dispatch() {
+        int available = free.availablePermits();
+        if (available > 0 && !workers.isShutdown()) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime staleBefore = now.minus(staleAfter);
+            List<Long> candidates = store.claimable(staleBefore, available);
+            for (Long id : candidates) {
+                // A long chunk can look stale; the job is still ours
+                if (active.contains(id)) {
+                    continue;
+                }
+                // A concurrent dispatch took the last worker
+                if (!free.tryAcquire()) {
+                    break;
+                }
+                if (store.claim(id, staleBefore, now)) {
+                    start(id);
+                } else {
+                    free.release();
+                }
+            }
+        }
+        queued.set(store.countQueued());
+    }
+
+    // Called holding a permit, which the job gives back once it has run
+    private void start(long id) {
+        active.add(id);
+        try {
+            workers.execute(() -> {
+                try {
+                    runner.run(id);
+                } finally {
+                    active.remove(id);
+                    free.release();
+                }
+                // A job claimed now waits in the pool's queue only until this thread returns
+                dispatch();
+            });
+            log.info("Jobs: Started job {}", id);
+        } catch (RejectedExecutionException e) {
+            // Shutting down: the job goes back to the queue for the next start
+            active.remove(id);
+            free.release();
+            store.requeue(id);
+        }
+    }
+
+    /**
+     * Deletes finished jobs older than {@code tasks.jobs.retention}; their status is gone after that.
+     */
+    @Scheduled(fixedDelayString = "${tasks.jobs.purge-interval:PT1H}", initialDelayString = "PT1M")
+    public void purge() {
+        int purged = store.purgeFinishedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Jobs: Purged {} finished job(s) older than {}", purged, retention);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        runner.stop();
+        workers.shutdown();
+        if (!workers.awaitTermination(SHUTDOWN_WAIT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Jobs: {} job(s) still running at shutdown; they are claimed again once stale", active.size());
+        }
+    }
+}
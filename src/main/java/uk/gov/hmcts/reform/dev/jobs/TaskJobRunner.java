@@ -0,0 +1,215 @@
+package uk.gov.hmcts.reform.dev.jobs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import uk.gov.hmcts.reform.dev.datasource.BulkWorkload;
+import uk.gov.hmcts.reform.dev.models.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.dto.TaskJobResponse.ItemFailure;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a claimed job chunk by chunk. Each chunk is one transaction on the bulk pool: the move to the
+ * next chunk, the task writes through {@link TaskService}, the outcome and any item failures all
+ * commit together, so a restart resumes at the first chunk that did not commit.
+ *
+ * <p>Items that cannot be applied (invalid create requests, ids not found or already deleted) are
+ * counted as failed and the job carries on. A chunk that throws stops the job as {@code FAILED}.
+ *
+ * <p>Metrics: {@code tasks.jobs.items} (items processed, tagged {@code result=succeeded|failed};
+ * its rate is the throughput) and {@code tasks.jobs.chunk} (time per chunk).
+ */
+@Slf4j
+@Component
+public class TaskJobRunner {
+
+    private static final String NOT_FOUND = "Task not found or already deleted";
+
+    private final TaskJobStore store;
+    private final TaskService taskService;
+    private final Validator validator;
+    private final TransactionOperations transactions;
+    private final ObjectReader createReader;
+    private final ObjectReader idsReader;
+    private final int maxFailures;
+
+    private final Counter succeededItems;
+    private final Counter failedItems;
+    private final Timer chunkTimer;
+
+    private volatile boolean stopping;
+
+    public TaskJobRunner(TaskJobStore store,
+                         TaskService taskService,
+                         Validator validator,
+                         TransactionOperations transactions,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${tasks.jobs.max-failures:1000}") int maxFailures) {
+        this.store = store;
+        this.taskService = taskService;
+        this.validator = validator;
+        this.transactions = transactions;
+        this.createReader = objectMapper.readerFor(new TypeReference<List<CreateTaskRequest>>() { });
+        this.idsReader = objectMapper.readerFor(new TypeReference<List<Long>>() { });
+        this.maxFailures = maxFailures;
+
+        this.succeededItems = items(meterRegistry, "succeeded");
+        this.failedItems = items(meterRegistry, "failed");
+        this.chunkTimer = Timer.builder("tasks.jobs.chunk")
+            .description("Time to apply and commit one chunk of a bulk job")
+            .register(meterRegistry);
+    }
+
+    private static Counter items(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tasks.jobs.items")
+            .description("Bulk job items processed")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Processes the job's remaining chunks. Returns when it is done, when another worker has taken
+     * it over, or, after {@link #stop()}, at the next chunk boundary with the job queued again.
+     */
+    @BulkWorkload
+    public void run(long jobId) {
+        int chunkNo = -1;
+        try {
+            while (true) {
+                TaskJob job = store.find(jobId).orElse(null);
+                if (job == null || job.state() != JobState.RUNNING) {
+                    return;
+                }
+                chunkNo = job.nextChunk();
+                if (chunkNo >= job.totalChunks()) {
+                    store.finish(jobId, JobState.COMPLETED, null, LocalDateTime.now());
+                    log.info("Jobs: Job {} completed - {} succeeded, {} failed",
+                        jobId, job.succeeded(), job.failed());
+                    return;
+                }
+                if (stopping) {
+                    store.requeue(jobId);
+                    log.info("Jobs: Job {} stopped at chunk {} of {}, queued again", jobId, chunkNo, job.totalChunks());
+                    return;
+                }
+
+                long started = System.nanoTime();
+                ChunkOutcome outcome = transactions.execute(status -> runChunk(job));
+                if (outcome == null) {
+                    log.info("Jobs: Job {} chunk {} was taken by another worker", jobId, chunkNo);
+                    return;
+                }
+                chunkTimer.record(Duration.ofNanos(System.nanoTime() - started));
+                succeededItems.increment(outcome.succeeded());
+                failedItems.increment(outcome.failed());
+                log.debug("Jobs: Job {} chunk {} of {} committed - {} succeeded, {} failed",
+                    jobId, chunkNo + 1, job.totalChunks(), outcome.succeeded(), outcome.failed());
+            }
+        } catch (RuntimeException e) {
+            log.error("Jobs: Job {} chunk {} failed, stopping the job", jobId, chunkNo, e);
+            store.finish(jobId, JobState.FAILED, String.format(
+                "Chunk %d not saved due to an error; the job stopped and its remaining items were not processed",
+                chunkNo), LocalDateTime.now());
+        }
+    }
+
+    // Lets running jobs finish their current chunk and hand the rest back to the queue
+    public void stop() {
+        stopping = true;
+    }
+
+    private ChunkOutcome runChunk(TaskJob job) {
+        int chunkNo = job.nextChunk();
+        if (!store.startChunk(job.id(), chunkNo, LocalDateTime.now())) {
+            return null;
+        }
+        TaskJobStore.Chunk chunk = store.chunk(job.id(), chunkNo)
+            .orElseThrow(() -> new IllegalStateException("Chunk " + chunkNo + " of job " + job.id() + " is missing"));
+
+        List<ItemFailure> failures = new ArrayList<>();
+        int succeeded = switch (job.type()) {
+            case CREATE -> create(chunk, failures);
+            case STATUS_UPDATE -> applyToIds(chunk, failures,
+                ids -> taskService.updateTasksStatus(ids, job.targetStatus()));
+            case DELETE -> applyToIds(chunk, failures, taskService::deleteTasks);
+        };
+
+        int reportable = Math.clamp(maxFailures - job.failed(), 0, failures.size());
+        store.finishChunk(job.id(), chunkNo, succeeded, failures.size(), failures.subList(0, reportable));
+        return new ChunkOutcome(succeeded, failures.size());
+    }
+
+    private int create(TaskJobStore.Chunk chunk, List<ItemFailure> failures) {
+        List<CreateTaskRequest> requests = read(createReader, chunk.items());
+        List<CreateTaskRequest> valid = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            String problem = request == null ? "Item is empty" : violations(request);
+            if (problem != null) {
+                failures.add(new ItemFailure(chunk.firstItem() + i, null, problem));
+            } else {
+                valid.add(request);
+            }
+        }
+        if (!valid.isEmpty()) {
+            taskService.createTasks(valid);
+        }
+        return valid.size();
+    }
+
+    private String violations(CreateTaskRequest request) {
+        Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+            .map(ConstraintViolation::getMessage)
+            .collect(Collectors.joining("; "));
+    }
+
+    // Ids are de-duplicated when the job is submitted, so each id is one item
+    private int applyToIds(TaskJobStore.Chunk chunk, List<ItemFailure> failures,
+                           UnaryOperator<List<Long>> action) {
+        List<Long> ids = read(idsReader, chunk.items());
+        Set<Long> applied = new HashSet<>(action.apply(ids));
+        for (int i = 0; i < ids.size(); i++) {
+            if (!applied.contains(ids.get(i))) {
+                failures.add(new ItemFailure(chunk.firstItem() + i, ids.get(i), NOT_FOUND));
+            }
+        }
+        return ids.size() - failures.size();
+    }
+
+    private static <T> T read(ObjectReader reader, String json) {
+        try {
+            return reader.readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record ChunkOutcome(int succeeded, int failed) {}
+}
@@ -0,0 +1,202 @@
+package uk.gov.hmcts.reform.dev.jobs;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.TaskJobResponse.ItemFailure;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * The {@code task_jobs} tables. A job is claimed by one worker at a time, and every chunk is guarded
+ * by {@link #startChunk}: the chunk's changes and the move to the next chunk commit together, so a
+ * chunk is applied once even when a stale job is claimed again while its first worker still runs.
+ *
+ * <p>Plain JDBC, like {@code TaskOutbox}: the rows are bookkeeping next to task writes and never
+ * need the persistence context.
+ */
+@Component
+public class TaskJobStore {
+
+    private static final String INSERT_JOB = "INSERT INTO task_jobs "
+        + "(type, state, target_status, total_items, total_chunks, created_at, heartbeat_at) "
+        + "VALUES (?, 'QUEUED', ?, ?, ?, ?, ?)";
+    private static final String INSERT_CHUNK =
+        "INSERT INTO task_job_chunks (job_id, chunk_no, first_item, items) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_JOB = "SELECT id, type, state, target_status, total_items, total_chunks, "
+        + "next_chunk, succeeded, failed, error, created_at, started_at, finished_at FROM task_jobs WHERE id = ?";
+    // Queued jobs, and running ones whose worker has not committed a chunk within the stale period
+    private static final String CLAIMABLE = "(state = 'QUEUED' OR (state = 'RUNNING' AND heartbeat_at < ?))";
+
+    // Rows per JDBC batch, matching hibernate.jdbc.batch_size
+    private static final int BATCH_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskJobStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts a queued job and its chunks, chunk {@code n} starting at item {@code n * chunkSize}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long insert(JobType type, TaskStatus targetStatus, int totalItems, List<String> chunks, int chunkSize,
+                       LocalDateTime now) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_JOB, new String[] {"id"});
+            statement.setString(1, type.name());
+            statement.setString(2, targetStatus != null ? targetStatus.name() : null);
+            statement.setInt(3, totalItems);
+            statement.setInt(4, chunks.size());
+            statement.setTimestamp(5, Timestamp.valueOf(now));
+            statement.setTimestamp(6, Timestamp.valueOf(now));
+            return statement;
+        }, keys);
+        long id = Objects.requireNonNull(keys.getKey(), "No id generated for job").longValue();
+
+        jdbcTemplate.batchUpdate(INSERT_CHUNK, IntStream.range(0, chunks.size()).boxed().toList(), BATCH_SIZE,
+            (statement, chunkNo) -> {
+                statement.setLong(1, id);
+                statement.setInt(2, chunkNo);
+                statement.setInt(3, chunkNo * chunkSize);
+                statement.setString(4, chunks.get(chunkNo));
+            });
+        return id;
+    }
+
+    public Optional<TaskJob> find(long id) {
+        return jdbcTemplate.query(SELECT_JOB, TaskJobStore::toJob, id).stream().findFirst();
+    }
+
+    public List<ItemFailure> failures(long jobId, int limit) {
+        return jdbcTemplate.query("SELECT item_index, task_id, message FROM task_job_failures WHERE job_id = ? "
+                + "ORDER BY item_index FETCH FIRST ? ROWS ONLY",
+            (row, rowNum) -> new ItemFailure(row.getInt("item_index"), row.getObject("task_id", Long.class),
+                row.getString("message")),
+            jobId, limit);
+    }
+
+    /**
+     * Ids of up to {@code limit} jobs a worker could claim, oldest first.
+     */
+    public List<Long> claimable(LocalDateTime staleBefore, int limit) {
+        return jdbcTemplate.queryForList("SELECT id FROM task_jobs WHERE " + CLAIMABLE
+            + " ORDER BY id FETCH FIRST ? ROWS ONLY", Long.class, Timestamp.valueOf(staleBefore), limit);
+    }
+
+    /**
+     * Marks the job running for the caller; false when another worker claimed it first.
+     */
+    public boolean claim(long id, LocalDateTime staleBefore, LocalDateTime now) {
+        return jdbcTemplate.update("UPDATE task_jobs SET state = 'RUNNING', started_at = COALESCE(started_at, ?), "
+                + "heartbeat_at = ? WHERE id = ? AND " + CLAIMABLE,
+            Timestamp.valueOf(now), Timestamp.valueOf(now), id, Timestamp.valueOf(staleBefore)) == 1;
+    }
+
+    /**
+     * Moves the job past {@code chunkNo} inside the caller's transaction, which then applies the chunk.
+     * False when the job is no longer at that chunk or no longer running: another worker has it. The
+     * row stays locked until the chunk commits, so a second worker waits here rather than redoing it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean startChunk(long jobId, int chunkNo, LocalDateTime now) {
+        return jdbcTemplate.update("UPDATE task_jobs SET next_chunk = next_chunk + 1, heartbeat_at = ? "
+                + "WHERE id = ? AND next_chunk = ? AND state = 'RUNNING'",
+            Timestamp.valueOf(now), jobId, chunkNo) == 1;
+    }
+
+    public Optional<Chunk> chunk(long jobId, int chunkNo) {
+        return jdbcTemplate.query("SELECT first_item, items FROM task_job_chunks WHERE job_id = ? AND chunk_no = ?",
+                (row, rowNum) -> new Chunk(row.getInt("first_item"), row.getString("items")), jobId, chunkNo)
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * Adds a chunk's outcome to the job, stores the failures to report and drops the chunk's items.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void finishChunk(long jobId, int chunkNo, int succeeded, int failed, List<ItemFailure> failures) {
+        jdbcTemplate.update("UPDATE task_jobs SET succeeded = succeeded + ?, failed = failed + ? WHERE id = ?",
+            succeeded, failed, jobId);
+        jdbcTemplate.batchUpdate("INSERT INTO task_job_failures (job_id, item_index, task_id, message) "
+                + "VALUES (?, ?, ?, ?)", failures, BATCH_SIZE,
+            (statement, failure) -> {
+                statement.setLong(1, jobId);
+                statement.setInt(2, failure.index());
+                if (failure.taskId() != null) {
+                    statement.setLong(3, failure.taskId());
+                } else {
+                    statement.setNull(3, Types.BIGINT);
+                }
+                statement.setString(4, failure.message());
+            });
+        jdbcTemplate.update("DELETE FROM task_job_chunks WHERE job_id = ? AND chunk_no = ?", jobId, chunkNo);
+    }
+
+    public void finish(long jobId, JobState state, String error, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE task_jobs SET state = ?, error = ?, finished_at = ?, heartbeat_at = ? "
+                + "WHERE id = ? AND state = 'RUNNING'",
+            state.name(), error, Timestamp.valueOf(now), Timestamp.valueOf(now), jobId);
+    }
+
+    // Hands a running job back to the queue, for a worker that stops before the job is done
+    public void requeue(long jobId) {
+        jdbcTemplate.update("UPDATE task_jobs SET state = 'QUEUED' WHERE id = ? AND state = 'RUNNING'", jobId);
+    }
+
+    public long countQueued() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_jobs WHERE state = 'QUEUED'", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Deletes jobs that finished before {@code cutoff}, with their chunks and failures.
+     */
+    public int purgeFinishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM task_jobs WHERE state IN ('COMPLETED', 'FAILED') AND finished_at < ?",
+            Timestamp.valueOf(cutoff));
+    }
+
+    private static TaskJob toJob(ResultSet row, int rowNum) throws SQLException {
+        String targetStatus = row.getString("target_status");
+        return new TaskJob(
+            row.getLong("id"),
+            JobType.valueOf(row.getString("type")),
+            JobState.valueOf(row.getString("state")),
+            targetStatus != null ? TaskStatus.valueOf(targetStatus) : null,
+            row.getInt("total_items"),
+            row.getInt("total_chunks"),
+            row.getInt("next_chunk"),
+            row.getInt("succeeded"),
+            row.getInt("failed"),
+            row.getString("error"),
+            toLocalDateTime(row.getTimestamp("created_at")),
+            toLocalDateTime(row.getTimestamp("started_at")),
+            toLocalDateTime(row.getTimestamp("finished_at")));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    /**
+     * A chunk's items as stored: a JSON array, the first of which is item {@code firstItem} of the job.
+     */
+    public record Chunk(int firstItem, String items) {}
+}
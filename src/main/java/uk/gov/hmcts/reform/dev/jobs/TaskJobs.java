@@ -0,0 +1,105 @@
+package uk.gov.hmcts.reform.dev.jobs;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import uk.gov.hmcts.reform.dev.exceptions.JobNotFoundException;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.dto.TaskJobResponse;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Accepts bulk operations as jobs and reports on them. Submitting stores the request in chunks of
+ * {@code tasks.jobs.chunk-size} items and returns at once; {@link TaskJobDispatcher} runs the job.
+ */
+@Slf4j
+@Service
+public class TaskJobs {
+
+    private final TaskJobStore store;
+    private final TaskJobDispatcher dispatcher;
+    private final TransactionOperations transactions;
+    private final ObjectWriter jsonWriter;
+    private final int chunkSize;
+    private final int maxItems;
+    private final int maxFailures;
+
+    public TaskJobs(TaskJobStore store,
+                    TaskJobDispatcher dispatcher,
+                    TransactionOperations transactions,
+                    ObjectMapper objectMapper,
+                    @Value("${tasks.jobs.chunk-size:500}") int chunkSize,
+                    @Value("${tasks.jobs.max-items:100000}") int maxItems,
+                    @Value("${tasks.jobs.max-failures:1000}") int maxFailures) {
+        this.store = store;
+        this.dispatcher = dispatcher;
+        this.transactions = transactions;
+        this.jsonWriter = objectMapper.writer();
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+        this.maxFailures = maxFailures;
+    }
+
+    public TaskJobResponse submitCreate(List<CreateTaskRequest> requests) {
+        return submit(JobType.CREATE, null, requests);
+    }
+
+    public TaskJobResponse submitStatusUpdate(List<Long> ids, TaskStatus status) {
+        return submit(JobType.STATUS_UPDATE, status, ids.stream().distinct().toList());
+    }
+
+    public TaskJobResponse submitDelete(List<Long> ids) {
+        return submit(JobType.DELETE, null, ids.stream().distinct().toList());
+    }
+
+    /**
+     * The job's progress and its first {@code tasks.jobs.max-failures} item failures. Read from the
+     * primary, outside a read-only transaction, so a job is found as soon as it has been accepted.
+     */
+    public TaskJobResponse find(long id) {
+        TaskJob job = store.find(id).orElseThrow(() -> new JobNotFoundException(id));
+        return TaskJobResponse.of(job, store.failures(id, maxFailures), LocalDateTime.now());
+    }
+
+    private <T> TaskJobResponse submit(JobType type, TaskStatus status, List<T> items) {
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException(
+                String.format("A bulk job takes at most %d items, got %d", maxItems, items.size()));
+        }
+        List<String> chunks = new ArrayList<>(items.size() / chunkSize + 1);
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            chunks.add(write(items.subList(from, Math.min(from + chunkSize, items.size()))));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        long id = Objects.requireNonNull(transactions.execute(
+            transaction -> store.insert(type, status, items.size(), chunks, chunkSize, now)));
+        log.info("Jobs: Queued {} job {} - {} item(s) in {} chunk(s)", type, id, items.size(), chunks.size());
+
+        // Start it now if a worker is free, rather than at the next poll
+        try {
+            dispatcher.dispatch();
+        } catch (RuntimeException e) {
+            log.warn("Jobs: Job {} left for the next poll - {}", id, e.getMessage());
+        }
+        return find(id);
+    }
+
+    private String write(List<?> chunk) {
+        try {
+            return jsonWriter.writeValueAsString(chunk);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -33,6 +34,11 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
     private static final String STATUS_CODE = "statusCode";
     private static final String DURATION = "duration";
 
+    // Bodies streamed to or from these paths are never buffered: a caching wrapper would hold the
+    // whole body in memory, and a response written after this filter returns would never be copied out
+    private static final Set<String> STREAMED_PATHS = Set.of(
+        "/api/v1/tasks/export", "/api/v1/tasks/import", "/api/v1/tasks/stream");
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -44,8 +50,9 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
             return;
         }
 
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean streamed = STREAMED_PATHS.contains(uri);
+        HttpServletRequest requestWrapper = streamed ? request : new ContentCachingRequestWrapper(request);
+        HttpServletResponse responseWrapper = streamed ? response : new ContentCachingResponseWrapper(response);
 
         String requestId = UUID.randomUUID().toString().substring(0, 8);
         long startTime = System.currentTimeMillis();
@@ -69,7 +76,9 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
 
         } finally {
             // Copy response body to actual response
-            responseWrapper.copyBodyToResponse();
+            if (responseWrapper instanceof ContentCachingResponseWrapper cachingResponse) {
+                cachingResponse.copyBodyToResponse();
+            }
             // Clear MDC
             MDC.clear();
         }
@@ -84,7 +93,7 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
             || uri.endsWith(".ico");
     }
 
-    private void logRequestStart(ContentCachingRequestWrapper request, String requestId) {
+    private void logRequestStart(HttpServletRequest request, String requestId) {
         String queryString = request.getQueryString();
         String fullPath = queryString != null ? request.getRequestURI() + "?" + queryString : request.getRequestURI();
 
@@ -104,8 +113,8 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         );
     }
 
-    private void logRequestComplete(ContentCachingRequestWrapper request,
-                                    ContentCachingResponseWrapper response,
+    private void logRequestComplete(HttpServletRequest request,
+                                    HttpServletResponse response,
                                     long duration,
                                     String requestId) {
         int status = response.getStatus();
@@ -135,8 +144,11 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         }
     }
 
-    private void logResponseBody(ContentCachingResponseWrapper response) {
-        byte[] content = response.getContentAsByteArray();
+    private void logResponseBody(HttpServletResponse response) {
+        if (!(response instanceof ContentCachingResponseWrapper cachingResponse)) {
+            return;
+        }
+        byte[] content = cachingResponse.getContentAsByteArray();
         if (content.length > 0 && content.length < 2000) {
             String body = new String(content, StandardCharsets.UTF_8);
             log.debug("Response body: {}", body);
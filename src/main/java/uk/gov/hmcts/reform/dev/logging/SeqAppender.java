@@ -3,7 +3,7 @@ package uk.gov.hmcts.reform.dev.logging;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.IThrowableProxy;
 import ch.qos.logback.classic.spi.StackTraceElementProxy;
-import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
 
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
@@ -18,8 +18,12 @@ import java.util.concurrent.BlockingQueue;
 
 /**
  * Logback appender that sends logs to Seq via HTTP in CLEF format.
+ *
+ * <p>Unsynchronized: {@code append} only formats the event and offers it to a concurrent queue, so
+ * logging threads need no shared lock. {@code AppenderBase} would take a monitor on every event,
+ * which serialises all request threads on each log line.
  */
-public class SeqAppender extends AppenderBase<ILoggingEvent> {
+public class SeqAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
 
     private static final DateTimeFormatter ISO_FORMAT = DateTimeFormatter.ISO_INSTANT;
     private static final int QUEUE_SIZE = 1000;
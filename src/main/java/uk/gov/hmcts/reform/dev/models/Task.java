@@ -1,6 +1,7 @@
 package uk.gov.hmcts.reform.dev.models;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -10,24 +11,36 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "tasks")
+// Second-level cached by id (see TaskCacheConfig); READ_WRITE keeps concurrent readers off entries
+// being updated until the writing transaction completes
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class Task {
 
+    public static final String CACHE_REGION = "tasks";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence: one nextval per 50 new tasks, and ids known before INSERT so inserts batch
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id")
+    @SequenceGenerator(name = "task_id", sequenceName = "task_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -58,21 +71,35 @@ public class Task {
 
     private LocalDateTime deletedAt;
 
+    // Stored rather than computed per read so overdue lists and counts are index lookups. Set on
+    // every write here and advanced by OverdueTaskMarker as due dates pass.
+    @Column(nullable = false)
+    private boolean overdue = false;
+
+    // Checked by every entity UPDATE and returned as the ETag; the bulk UPDATEs in TaskRepository
+    // increment it themselves
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Public so inserts through a StatelessSession, which runs no entity callbacks, can apply it
     @PrePersist
-    protected void onCreate() {
+    public void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        refreshOverdue();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        refreshOverdue();
     }
 
-    public boolean isOverdue() {
-        return !deleted
+    private void refreshOverdue() {
+        overdue = !deleted
             && status != TaskStatus.COMPLETED
             && dueDateTime != null
-            && LocalDateTime.now().isAfter(dueDateTime);
+            && updatedAt.isAfter(dueDateTime);
     }
 }
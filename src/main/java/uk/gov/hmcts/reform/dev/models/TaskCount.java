@@ -0,0 +1,17 @@
+package uk.gov.hmcts.reform.dev.models;
+
+/**
+ * Number of tasks in one combination of status, priority, overdue flag and deleted flag.
+ * Read with {@code GROUP BY} queries to seed and adjust the in-memory task counters.
+ */
+public record TaskCount(TaskStatus status, TaskPriority priority, boolean overdue, boolean deleted, long count) {
+
+    // The single cell a task currently falls in
+    public static TaskCount of(Task task) {
+        return new TaskCount(task.getStatus(), task.getPriority(), task.isOverdue(), task.isDeleted(), 1);
+    }
+
+    public TaskCount withOverdue(boolean flagged) {
+        return new TaskCount(status, priority, flagged, deleted, count);
+    }
+}
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.reform.dev.models;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Criteria for listing live tasks. Every field is optional and only the ones that are set
+ * become predicates, so each combination of filters gets its own query (and plan).
+ *
+ * @param statuses   match any of these statuses
+ * @param priorities match any of these priorities
+ * @param search     case-insensitive substring of the title
+ * @param dueBefore  due strictly before this time
+ * @param dueAfter   due strictly after this time
+ * @param ids        restrict to these ids (set when an index has already resolved {@code search})
+ * @param overdue    match on the stored overdue flag
+ */
+@Builder(toBuilder = true)
+public record TaskFilter(
+    List<TaskStatus> statuses,
+    List<TaskPriority> priorities,
+    String search,
+    LocalDateTime dueBefore,
+    LocalDateTime dueAfter,
+    Collection<Long> ids,
+    Boolean overdue
+) {
+
+    public TaskFilter {
+        statuses = normalize(statuses);
+        priorities = normalize(priorities);
+        search = search == null || search.isBlank() ? null : search;
+    }
+
+    public static TaskFilter none() {
+        return builder().build();
+    }
+
+    public boolean hasStatuses() {
+        return !statuses.isEmpty();
+    }
+
+    public boolean hasPriorities() {
+        return !priorities.isEmpty();
+    }
+
+    // Distinct and in declaration order, so equal filters compare and print the same
+    private static <E extends Enum<E>> List<E> normalize(List<E> values) {
+        return values == null ? List.of() : values.stream().filter(Objects::nonNull).distinct().sorted().toList();
+    }
+}
@@ -0,0 +1,46 @@
+package uk.gov.hmcts.reform.dev.models.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque delta-sync position: the (updatedAt, id) of the last change returned, so the next sync
+ * seeks past it. A blank token starts from the beginning, i.e. a full sync.
+ */
+public record ChangeToken(LocalDateTime updatedAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    // Before any task can have been written
+    public static final ChangeToken START = new ChangeToken(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+    public String encode() {
+        String raw = updatedAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a change token. Returns {@link #START} for a blank token.
+     */
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid change token: " + token);
+            }
+            return new ChangeToken(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid change token: " + token, ex);
+        }
+    }
+
+    public boolean isStart() {
+        return START.equals(this);
+    }
+}
@@ -0,0 +1,26 @@
+package uk.gov.hmcts.reform.dev.models.dto;
+
+import java.util.Locale;
+
+/**
+ * How list endpoints compute totals.
+ * NONE skips the COUNT query entirely, ESTIMATE serves a recently cached count,
+ * EXACT runs a COUNT alongside every page (the historical behaviour).
+ */
+public enum CountMode {
+    NONE,
+    EXACT,
+    ESTIMATE;
+
+    public static CountMode fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException(
+                String.format("Invalid count mode '%s', expected one of none, exact, estimate", value), ex);
+        }
+    }
+}
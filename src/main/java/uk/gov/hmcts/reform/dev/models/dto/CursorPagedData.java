@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.dev.models.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * Keyset pagination wrapper. Unlike {@link PagedData} it carries no totals;
+ * clients follow {@code nextCursor} until {@code hasNext} is false.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class CursorPagedData<T> {
+
+    private List<T> items;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public static <T> CursorPagedData<T> from(Slice<T> slice, String nextCursor) {
+        return CursorPagedData.<T>builder()
+            .items(slice.getContent())
+            .size(slice.getSize())
+            .hasNext(slice.hasNext())
+            .nextCursor(slice.hasNext() ? nextCursor : null)
+            .build();
+    }
+}
@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.models.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a task import. Line numbers count from 1 over the uploaded file; in CSV the header is
+ * line 1 and a record is numbered by the line it starts on. {@code errors} is capped, so
+ * {@code rejected} can exceed its size. {@code complete} is false when a chunk failed to save and
+ * the rest of the file was not read.
+ */
+public record ImportResult(long imported, long rejected, boolean complete, long elapsedMillis,
+                           long rowsPerSecond, List<LineError> errors) {
+
+    public record LineError(long line, String message) {}
+}
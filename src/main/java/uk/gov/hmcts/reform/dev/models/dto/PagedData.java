@@ -1,11 +1,13 @@
 package uk.gov.hmcts.reform.dev.models.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -19,8 +21,12 @@ public class PagedData<T> {
     private List<T> items;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean totalEstimated;
     private boolean first;
     private boolean last;
     private boolean hasNext;
@@ -39,4 +45,27 @@ public class PagedData<T> {
             .hasPrevious(page.hasPrevious())
             .build();
     }
+
+    /**
+     * Builds paged data from a slice. Totals are only present when the slice is a {@link Page};
+     * with {@link CountMode#ESTIMATE} they are flagged as approximate.
+     */
+    public static <T> PagedData<T> from(Slice<T> slice, CountMode countMode) {
+        if (slice instanceof Page<T> page) {
+            PagedData<T> data = from(page);
+            if (countMode == CountMode.ESTIMATE) {
+                data.setTotalEstimated(true);
+            }
+            return data;
+        }
+        return PagedData.<T>builder()
+            .items(slice.getContent())
+            .page(slice.getNumber())
+            .size(slice.getSize())
+            .first(slice.isFirst())
+            .last(slice.isLast())
+            .hasNext(slice.hasNext())
+            .hasPrevious(slice.hasPrevious())
+            .build();
+    }
 }
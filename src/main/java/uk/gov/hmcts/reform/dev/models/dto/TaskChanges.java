@@ -0,0 +1,15 @@
+package uk.gov.hmcts.reform.dev.models.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One delta-sync page: tasks created or changed since the token, and tombstones for tasks deleted
+ * since it. Clients store {@code nextToken} and pass it as {@code since} next time; while
+ * {@code hasMore} is true there are further changes to fetch straight away.
+ */
+public record TaskChanges(List<TaskResponse> changed, List<Tombstone> deleted, boolean hasMore,
+                          String nextToken) {
+
+    public record Tombstone(Long id, LocalDateTime deletedAt) {}
+}
@@ -0,0 +1,50 @@
+package uk.gov.hmcts.reform.dev.models.dto;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset position for cursor pagination.
+ * Encodes the (createdAt, id) of the last row returned plus the sort direction,
+ * so the next page can seek past it instead of using OFFSET.
+ */
+public record TaskCursor(LocalDateTime createdAt, Long id, Sort.Direction direction) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id + SEPARATOR + direction.name();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor token. Returns {@code null} for a blank token, which marks the first page.
+     */
+    public static TaskCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new TaskCursor(
+                LocalDateTime.parse(parts[0]),
+                Long.valueOf(parts[1]),
+                Sort.Direction.valueOf(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, ex);
+        }
+    }
+
+    public static TaskCursor of(TaskResponse task, Sort.Direction direction) {
+        return new TaskCursor(task.getCreatedAt(), task.getId(), direction);
+    }
+}
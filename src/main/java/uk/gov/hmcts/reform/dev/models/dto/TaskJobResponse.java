@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.dev.models.dto;
+
+import uk.gov.hmcts.reform.dev.jobs.JobState;
+import uk.gov.hmcts.reform.dev.jobs.JobType;
+import uk.gov.hmcts.reform.dev.jobs.TaskJob;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress of an asynchronous bulk job. Item indexes count from 0 over the submitted list; ids are
+ * de-duplicated first. {@code failures} is capped, so {@code failed} can exceed its size.
+ * {@code itemsPerSecond} is measured from when the job started to when it finished, or to now.
+ */
+public record TaskJobResponse(long id, JobType type, JobState state, int totalItems, int processed,
+                              int succeeded, int failed, int percentComplete, long itemsPerSecond,
+                              LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime finishedAt,
+                              String error, List<ItemFailure> failures) {
+
+    public record ItemFailure(int index, Long taskId, String message) {}
+
+    public static TaskJobResponse of(TaskJob job, List<ItemFailure> failures, LocalDateTime now) {
+        int processed = job.succeeded() + job.failed();
+        int percent = job.totalItems() == 0 ? 100 : (int) (processed * 100L / job.totalItems());
+        long itemsPerSecond = 0;
+        if (job.startedAt() != null) {
+            LocalDateTime end = job.finishedAt() != null ? job.finishedAt() : now;
+            long elapsedMillis = Math.max(1, Duration.between(job.startedAt(), end).toMillis());
+            itemsPerSecond = processed * 1000L / elapsedMillis;
+        }
+        return new TaskJobResponse(job.id(), job.type(), job.state(), job.totalItems(), processed,
+            job.succeeded(), job.failed(), percent, itemsPerSecond, job.createdAt(), job.startedAt(),
+            job.finishedAt(), job.error(), failures);
+    }
+}
@@ -25,6 +25,7 @@ public class TaskResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean overdue;
+    private Long version;
 
     public static TaskResponse fromEntity(Task task) {
         TaskResponse response = new TaskResponse();
@@ -37,6 +38,7 @@ public class TaskResponse {
         response.setCreatedAt(task.getCreatedAt());
         response.setUpdatedAt(task.getUpdatedAt());
         response.setOverdue(task.isOverdue());
+        response.setVersion(task.getVersion());
         return response;
     }
 }
@@ -0,0 +1,56 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each outbox event to a local file as one JSON object per line, for development and
+ * tests. Each write is synced to disk, so a batch is on disk before it counts as delivered.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.file-sink.enabled", havingValue = "true")
+public class NdjsonFileSink implements TaskEventSink {
+
+    private final Path path;
+    private final ObjectWriter jsonWriter;
+
+    public NdjsonFileSink(@Value("${tasks.outbox.file-sink.path}") Path path, ObjectMapper objectMapper)
+            throws IOException {
+        this.path = path;
+        this.jsonWriter = objectMapper.writerFor(OutboxEvent.class);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        log.info("Outbox: Writing task events to {}", path.toAbsolutePath());
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    // Called by the relay one batch at a time
+    @Override
+    public void publish(List<OutboxEvent> events) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+            for (OutboxEvent event : events) {
+                writer.write(jsonWriter.writeValueAsString(event));
+                writer.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of {@code task_outbox}: which task changed, how, and when. {@code status} and
+ * {@code priority} are the values after the change where the writer knew them, otherwise null
+ * (set-based status changes know only the status, deletes neither). {@code id} increases with
+ * insertion and lets sinks drop a redelivered event.
+ */
+public record OutboxEvent(long id, Long taskId, ChangeType type, TaskStatus status, TaskPriority priority,
+                          LocalDateTime occurredAt) {}
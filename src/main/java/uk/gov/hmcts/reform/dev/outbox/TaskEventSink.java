@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A downstream destination for outbox events. Every sink bean gets every batch, in id order.
+ * Delivery is at least once: a batch is deleted from the outbox only after all sinks have taken
+ * it, so one that failed part way, or on another sink, is sent again.
+ */
+public interface TaskEventSink {
+
+    String name();
+
+    void publish(List<OutboxEvent> events) throws IOException;
+}
@@ -0,0 +1,132 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The {@code task_outbox} table. Writers append to it inside their own transaction, so a change
+ * and its event rows commit or roll back together; {@link TaskOutboxRelay} reads and deletes them.
+ *
+ * <p>Plain JDBC rather than an entity: rows are written in batches next to set-based task updates,
+ * and never need the persistence context or the second-level cache.
+ */
+@Slf4j
+@Component
+public class TaskOutbox {
+
+    private static final String INSERT = "INSERT INTO task_outbox "
+        + "(task_id, change_type, status, priority, occurred_at) VALUES (?, ?, ?, ?, ?)";
+    // Locks the batch until the reader's transaction ends; rows another relay has locked are skipped
+    private static final String SELECT_BATCH = "SELECT id, task_id, change_type, status, priority, occurred_at "
+        + "FROM task_outbox ORDER BY id FETCH FIRST ? ROWS ONLY FOR UPDATE SKIP LOCKED";
+    private static final String DELETE = "DELETE FROM task_outbox WHERE id = ?";
+
+    // Rows per JDBC batch, matching hibernate.jdbc.batch_size
+    private static final int BATCH_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Appends a row per task in the event. Must join the writer's transaction: the connection is the
+     * one that transaction is bound to, so the rows commit with the change.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(TaskChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT, event.tasks(), BATCH_SIZE,
+            (statement, task) -> bind(statement, event.type(), task, now));
+        log.debug("Outbox: Appended {} {} event(s)", event.tasks().size(), event.type());
+    }
+
+    /**
+     * Appends on a connection whose transaction the caller manages, for writers outside Spring's
+     * transactions such as the import's stateless session.
+     */
+    public void append(Connection connection, TaskChangedEvent event) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            int pending = 0;
+            for (TaskSnapshot task : event.tasks()) {
+                bind(statement, event.type(), task, now);
+                statement.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+        log.debug("Outbox: Appended {} {} event(s)", event.tasks().size(), event.type());
+    }
+
+    private static void bind(PreparedStatement statement, ChangeType type, TaskSnapshot task, LocalDateTime now)
+            throws SQLException {
+        statement.setLong(1, task.id());
+        statement.setString(2, type.name());
+        statement.setString(3, task.status() != null ? task.status().name() : null);
+        statement.setString(4, task.priority() != null ? task.priority().name() : null);
+        statement.setTimestamp(5, Timestamp.valueOf(task.updatedAt() != null ? task.updatedAt() : now));
+    }
+
+    /**
+     * The oldest {@code limit} rows no other transaction has locked, in id order, locked for the
+     * caller's transaction so that no other relay delivers them meanwhile.
+     */
+    public List<OutboxEvent> next(int limit) {
+        return jdbcTemplate.query(SELECT_BATCH, TaskOutbox::toEvent, limit);
+    }
+
+    public void delete(List<OutboxEvent> events) {
+        jdbcTemplate.batchUpdate(DELETE, events, BATCH_SIZE, (statement, event) -> statement.setLong(1, event.id()));
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_outbox", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * When the oldest row still waiting was written, if any.
+     */
+    public Optional<LocalDateTime> oldest() {
+        return jdbcTemplate.query("SELECT occurred_at FROM task_outbox ORDER BY id FETCH FIRST 1 ROWS ONLY",
+                (row, rowNum) -> row.getTimestamp(1).toLocalDateTime())
+            .stream()
+            .findFirst();
+    }
+
+    private static OutboxEvent toEvent(ResultSet row, int rowNum) throws SQLException {
+        String status = row.getString("status");
+        String priority = row.getString("priority");
+        return new OutboxEvent(
+            row.getLong("id"),
+            row.getLong("task_id"),
+            ChangeType.valueOf(row.getString("change_type")),
+            status != null ? TaskStatus.valueOf(status) : null,
+            priority != null ? TaskPriority.valueOf(priority) : null,
+            row.getTimestamp("occurred_at").toLocalDateTime());
+    }
+}
@@ -0,0 +1,143 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import uk.gov.hmcts.reform.dev.datasource.BulkWorkload;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains {@code task_outbox} to every {@link TaskEventSink}. Each batch is read, handed to the sinks
+ * and deleted in one transaction, so it leaves the outbox only once every sink has taken it; a sink
+ * failure rolls the batch back and it is retried on the next run. Writers never wait on the sinks.
+ *
+ * <p>Every instance can run it: a batch stays locked while it is delivered, and other relays skip
+ * locked rows and take the next ones. Batches from different instances may then arrive out of id
+ * order. Sinks see events at least once, and can drop repeats by event id.
+ *
+ * <p>Metrics: {@code tasks.outbox.relayed} (events delivered; its rate is the throughput),
+ * {@code tasks.outbox.batch} (time per batch), {@code tasks.outbox.failures} (batches a sink
+ * refused), {@code tasks.outbox.pending} (rows waiting) and {@code tasks.outbox.lag} (age of the
+ * oldest waiting row).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskOutboxRelay {
+
+    private final TaskOutbox outbox;
+    private final List<TaskEventSink> sinks;
+    private final TransactionOperations transactions;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final Counter relayed;
+    private final Counter failures;
+    private final Timer batchTimer;
+    private final AtomicLong pending;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public TaskOutboxRelay(TaskOutbox outbox,
+                           List<TaskEventSink> sinks,
+                           TransactionOperations transactions,
+                           MeterRegistry meterRegistry,
+                           @Value("${tasks.outbox.relay.batch-size:500}") int batchSize,
+                           @Value("${tasks.outbox.relay.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.outbox = outbox;
+        this.sinks = List.copyOf(sinks);
+        this.transactions = transactions;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+
+        this.relayed = Counter.builder("tasks.outbox.relayed")
+            .description("Outbox events delivered to every sink")
+            .register(meterRegistry);
+        this.failures = Counter.builder("tasks.outbox.failures")
+            .description("Outbox batches rolled back because a sink failed")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("tasks.outbox.batch")
+            .description("Time to read, deliver and delete one batch of outbox events")
+            .register(meterRegistry);
+        this.pending = meterRegistry.gauge("tasks.outbox.pending", new AtomicLong());
+        TimeGauge.builder("tasks.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+            .description("Age of the oldest outbox event not yet delivered")
+            .register(meterRegistry);
+
+        if (this.sinks.isEmpty()) {
+            log.warn("Outbox: No sinks configured, events stay in task_outbox until one is");
+        } else {
+            log.info("Outbox: Relaying task events to {}", this.sinks.stream().map(TaskEventSink::name).toList());
+        }
+    }
+
+    /**
+     * One relay pass: delivers up to {@code max-batches-per-run} batches, stopping early once a batch
+     * comes back short or a sink fails, then refreshes the backlog gauges.
+     *
+     * @return the number of events delivered in this pass
+     */
+    @BulkWorkload
+    @Scheduled(fixedDelayString = "${tasks.outbox.relay.interval:PT1S}")
+    public int relay() {
+        int delivered = 0;
+        if (!sinks.isEmpty()) {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                long batchStarted = System.nanoTime();
+                int count;
+                try {
+                    Integer result = transactions.execute(status -> relayBatch());
+                    count = result == null ? 0 : result;
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    log.warn("Outbox: Batch not delivered, retrying on the next run - {}", e.getMessage());
+                    break;
+                }
+                batchTimer.record(Duration.ofNanos(System.nanoTime() - batchStarted));
+                delivered += count;
+                relayed.increment(count);
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        }
+
+        pending.set(outbox.count());
+        lagMillis.set(outbox.oldest()
+            .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+            .orElse(0L));
+        if (delivered > 0) {
+            log.debug("Outbox: Delivered {} event(s), {} pending", delivered, pending.get());
+        }
+        return delivered;
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> events = outbox.next(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        for (TaskEventSink sink : sinks) {
+            try {
+                sink.publish(events);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Sink " + sink.name() + " failed", e);
+            }
+        }
+        outbox.delete(events);
+        return events.size();
+    }
+}
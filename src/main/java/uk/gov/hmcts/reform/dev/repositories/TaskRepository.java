@@ -1,24 +1,42 @@
 package uk.gov.hmcts.reform.dev.repositories;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskCount;
 import uk.gov.hmcts.reform.dev.models.TaskPriority;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.search.TaskText;
+import uk.gov.hmcts.reform.dev.search.TaskTitle;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 
-    // Find by ID excluding soft-deleted
-    Optional<Task> findByIdAndDeletedFalse(Long id);
+    // Grouped counts for TaskCounters: one row per (status, priority, overdue, deleted) present
+    String SELECT_TASK_COUNT = "SELECT new uk.gov.hmcts.reform.dev.models.TaskCount("
+        + "t.status, t.priority, t.overdue, t.deleted, COUNT(t)) FROM Task t ";
+    String GROUP_TASK_COUNT = "GROUP BY t.status, t.priority, t.overdue, t.deleted";
+
+    // Find by ID excluding soft-deleted. Goes through findById so the second-level cache can answer
+    // it; a query would always hit the database, and a query cache is dropped on any write to tasks
+    default Optional<Task> findByIdAndDeletedFalse(Long id) {
+        return findById(id).filter(task -> !task.isDeleted());
+    }
 
     // Find all excluding soft-deleted
     Page<Task> findByDeletedFalse(Pageable pageable);
@@ -40,9 +58,46 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     // Search by title (case-insensitive)
     Page<Task> findByTitleContainingIgnoreCaseAndDeletedFalse(String title, Pageable pageable);
 
-    // Find overdue tasks
-    @Query("SELECT t FROM Task t WHERE t.deleted = false AND t.status != 'COMPLETED' AND t.dueDateTime < :now")
-    Page<Task> findOverdueTasks(@Param("now") LocalDateTime now, Pageable pageable);
+    // Find overdue tasks: equality on the maintained overdue flag, read from idx_tasks_overdue_due
+    @Query("SELECT t FROM Task t WHERE t.deleted = false AND t.overdue = true")
+    Page<Task> findOverdueTasks(Pageable pageable);
+
+    // Overdue tasks as read-only views, with and without the COUNT
+    @Query(value = SELECT_TASK_VIEW + " WHERE t.deleted = false AND t.overdue = true",
+           countQuery = "SELECT COUNT(t) FROM Task t WHERE t.deleted = false AND t.overdue = true")
+    Page<TaskResponse> findOverdueViews(Pageable pageable);
+
+    @Query(SELECT_TASK_VIEW + " WHERE t.deleted = false AND t.overdue = true")
+    Slice<TaskResponse> findOverdueViewsSlice(Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.deleted = false AND t.overdue = true")
+    long countOverdueTasks();
+
+    // Flags every open task whose due date has passed; run once at startup to catch up
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = true, t.updatedAt = :now, t.version = t.version + 1 "
+           + "WHERE t.deleted = false AND t.overdue = false AND t.status <> 'COMPLETED' AND t.dueDateTime < :now")
+    int markOverdue(@Param("now") LocalDateTime now);
+
+    // Flags open tasks that fell due in [since, now): a short range on due_date_time, so each
+    // periodic run only touches rows whose due date passed since the previous one
+    @Modifying
+    @Query("UPDATE Task t SET t.overdue = true, t.updatedAt = :now, t.version = t.version + 1 "
+           + "WHERE t.deleted = false AND t.overdue = false AND t.status <> 'COMPLETED' "
+           + "AND t.dueDateTime >= :since AND t.dueDateTime < :now")
+    int markOverdueSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    // The rows markOverdue and markOverdueSince would flag, by status and priority. Read first to
+    // adjust the task counters, and to skip the UPDATE when there are none: any bulk UPDATE of
+    // tasks evicts the whole Task cache region, even one that matches no rows
+    @Query(SELECT_TASK_COUNT + "WHERE t.deleted = false AND t.overdue = false "
+           + "AND t.status <> 'COMPLETED' AND t.dueDateTime < :now " + GROUP_TASK_COUNT)
+    List<TaskCount> countNewlyOverdue(@Param("now") LocalDateTime now);
+
+    @Query(SELECT_TASK_COUNT + "WHERE t.deleted = false AND t.overdue = false "
+           + "AND t.status <> 'COMPLETED' AND t.dueDateTime >= :since AND t.dueDateTime < :now "
+           + GROUP_TASK_COUNT)
+    List<TaskCount> countNewlyOverdueSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
 
     // Find tasks due before a certain date
     Page<Task> findByDueDateTimeBeforeAndDeletedFalse(LocalDateTime dateTime, Pageable pageable);
@@ -50,18 +105,83 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     // Find tasks due after a certain date
     Page<Task> findByDueDateTimeAfterAndDeletedFalse(LocalDateTime dateTime, Pageable pageable);
 
-    // Complex filter query
-    @Query("SELECT t FROM Task t WHERE t.deleted = false "
-           + "AND (:status IS NULL OR t.status = :status) "
-           + "AND (:priority IS NULL OR t.priority = :priority) "
-           + "AND (:search IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :search, '%')))")
-    Page<Task> findWithFilters(
-        @Param("status") TaskStatus status,
-        @Param("priority") TaskPriority priority,
-        @Param("search") String search,
-        Pageable pageable
-    );
+    // Live (id, title) pairs in id order, for building the title index in batches
+    @Query("SELECT new uk.gov.hmcts.reform.dev.search.TaskTitle(t.id, t.title) FROM Task t "
+           + "WHERE t.deleted = false AND t.id > :afterId ORDER BY t.id")
+    List<TaskTitle> findTitlesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Live (id, title, description) rows in id order, for building the full-text index in batches
+    @Query("SELECT new uk.gov.hmcts.reform.dev.search.TaskText(t.id, t.title, t.description) FROM Task t "
+           + "WHERE t.deleted = false AND t.id > :afterId ORDER BY t.id")
+    List<TaskText> findTextsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
     // Find all by IDs excluding soft-deleted
     List<Task> findByIdInAndDeletedFalse(List<Long> ids);
+
+    // Read-only views by IDs excluding soft-deleted, in no particular order
+    @Query(SELECT_TASK_VIEW + " WHERE t.id IN :ids AND t.deleted = false")
+    List<TaskResponse> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Tasks changed, created or soft-deleted after the (updatedAt, id) position and before :until, in that
+    // order, for delta sync. The redundant updatedAt bound gives the planner a plain range on idx_tasks_updated_id
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT t FROM Task t WHERE t.updatedAt >= :updatedAt AND t.updatedAt < :until "
+           + "AND (t.updatedAt > :updatedAt OR (t.updatedAt = :updatedAt AND t.id > :id)) "
+           + "ORDER BY t.updatedAt, t.id")
+    List<Task> findChangedAfter(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+                                @Param("until") LocalDateTime until, Pageable pageable);
+
+    // Every task, by status, priority, overdue and deleted; seeds the task counters
+    @Query(SELECT_TASK_COUNT + GROUP_TASK_COUNT)
+    List<TaskCount> countByState();
+
+    // The given IDs by status, priority, overdue and deleted; read either side of a set-based mutation
+    @Query(SELECT_TASK_COUNT + "WHERE t.id IN :ids " + GROUP_TASK_COUNT)
+    List<TaskCount> countByStateIn(@Param("ids") Collection<Long> ids);
+
+    // The non-deleted subset of the given IDs, i.e. the rows a set-based mutation below will touch
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids AND t.deleted = false")
+    List<Long> findLiveIdsIn(@Param("ids") Collection<Long> ids);
+
+    // Set-based mutations: one UPDATE per call, no entity loads. They bypass @PreUpdate and the
+    // version check, so updatedAt and version are set explicitly, and clear the persistence context
+    // so later reads see the change.
+    default int updateStatusByIdIn(Collection<Long> ids, TaskStatus status, LocalDateTime now) {
+        return updateStatusByIdIn(ids, status, status != TaskStatus.COMPLETED, now);
+    }
+
+    // The overdue flag follows the new status: set for open tasks already past due, cleared on completion
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now, t.version = t.version + 1, "
+           + "t.overdue = CASE WHEN :open = true AND t.dueDateTime < :now THEN true ELSE false END "
+           + "WHERE t.id IN :ids AND t.deleted = false")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") TaskStatus status,
+                           @Param("open") boolean open, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.deleted = true, t.deletedAt = :now, t.updatedAt = :now, t.version = t.version + 1 "
+           + "WHERE t.id IN :ids AND t.deleted = false")
+    int softDeleteByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // Soft-deleted rows past retention, oldest deletion first, for TaskArchiver to work through in batches
+    @Query("SELECT t.id FROM Task t WHERE t.deleted = true AND t.deletedAt < :cutoff ORDER BY t.deletedAt, t.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.deleted = true AND t.deletedAt < :cutoff")
+    long countArchivable(@Param("cutoff") LocalDateTime cutoff);
+
+    // Copies soft-deleted rows into tasks_archive; the caller removes them from tasks in the same transaction
+    // The native-space hint tells Hibernate only tasks_archive changes, so the Task cache survives
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks_archive"))
+    @Query(value = "INSERT INTO tasks_archive (id, title, description, status, priority, due_date_time, "
+                   + "created_at, updated_at, deleted_at, archived_at) "
+                   + "SELECT id, title, description, status, priority, due_date_time, "
+                   + "created_at, updated_at, deleted_at, :now FROM tasks WHERE id IN (:ids) AND deleted = true",
+           nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids AND t.deleted = true")
+    int purgeDeleted(@Param("ids") Collection<Long> ids);
 }
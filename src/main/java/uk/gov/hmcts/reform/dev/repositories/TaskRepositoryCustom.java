@@ -0,0 +1,42 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
+import uk.gov.hmcts.reform.dev.models.dto.TaskCursor;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Filtered task queries built from only the predicates a {@link TaskFilter} actually sets.
+ * Rows are selected straight into {@link TaskResponse}, so no entity is loaded or tracked.
+ */
+public interface TaskRepositoryCustom {
+
+    // Constructor projection shared by every read path
+    String SELECT_TASK_VIEW = "SELECT new uk.gov.hmcts.reform.dev.models.dto.TaskResponse("
+        + "t.id, t.title, t.description, t.status, t.priority, t.dueDateTime, t.createdAt, t.updatedAt, "
+        + "t.overdue, t.version) FROM Task t";
+
+    // Properties a filtered query may be sorted by; anything else is rejected before it reaches JPQL
+    Set<String> SORTABLE_PROPERTIES =
+        Set.of("id", "title", "status", "priority", "dueDateTime", "createdAt", "updatedAt");
+
+    Page<TaskResponse> findWithFilters(TaskFilter filter, Pageable pageable);
+
+    // Filter query without COUNT; also the first page of keyset pagination
+    Slice<TaskResponse> findSliceWithFilters(TaskFilter filter, Pageable pageable);
+
+    // Keyset pagination: rows strictly past the cursor's (createdAt, id) in the cursor's direction
+    Slice<TaskResponse> findWithFiltersAfter(TaskFilter filter, TaskCursor cursor, int size);
+
+    long countWithFilters(TaskFilter filter);
+
+    // Every matching row in sort order, read forward-only fetchSize rows at a time for exports.
+    // Must be consumed and closed inside the transaction that opened it
+    Stream<TaskResponse> streamWithFilters(TaskFilter filter, Sort sort, int fetchSize);
+}
@@ -0,0 +1,257 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
+import uk.gov.hmcts.reform.dev.models.dto.TaskCursor;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Builds the JPQL for a {@link TaskFilter} from only the predicates that are set, instead of one
+ * catch-all query with {@code (:param IS NULL OR ...)} guards that the planner must treat generically.
+ * The text for each query shape (which filters are present, single or multi-valued, seek direction
+ * and sort) is built once and reused, so Hibernate and the database see one stable statement per
+ * combination and keep a plan for it.
+ */
+@Slf4j
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final int MAX_CACHED_QUERIES = 1000;
+    private static final char LIKE_ESCAPE = '!';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ConcurrentMap<String, String> queries = new ConcurrentHashMap<>();
+
+    @Override
+    public Page<TaskResponse> findWithFilters(TaskFilter filter, Pageable pageable) {
+        if (isEmptyIdFilter(filter)) {
+            return Page.empty(pageable);
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(select(filter, null, pageable.getSort(), 0, -1));
+        }
+        List<TaskResponse> content = select(
+            filter, null, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        // Skips the COUNT when the page itself shows where the results end
+        return PageableExecutionUtils.getPage(content, pageable, () -> countWithFilters(filter));
+    }
+
+    @Override
+    public Slice<TaskResponse> findSliceWithFilters(TaskFilter filter, Pageable pageable) {
+        if (isEmptyIdFilter(filter)) {
+            return Page.empty(pageable);
+        }
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(select(filter, null, pageable.getSort(), 0, -1));
+        }
+        List<TaskResponse> rows = select(
+            filter, null, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+        return toSlice(rows, pageable);
+    }
+
+    @Override
+    public Slice<TaskResponse> findWithFiltersAfter(TaskFilter filter, TaskCursor cursor, int size) {
+        Sort sort = Sort.by(cursor.direction(), "createdAt").and(Sort.by(cursor.direction(), "id"));
+        Pageable pageable = PageRequest.of(0, size, sort);
+        if (isEmptyIdFilter(filter)) {
+            return Page.empty(pageable);
+        }
+        return toSlice(select(filter, cursor, sort, 0, size + 1), pageable);
+    }
+
+    @Override
+    public long countWithFilters(TaskFilter filter) {
+        if (isEmptyIdFilter(filter)) {
+            return 0;
+        }
+        String jpql = query("count|" + shape(filter, null), () -> "SELECT COUNT(t) FROM Task t" + where(filter, null));
+        TypedQuery<Long> query = entityManager.createQuery(jpql, Long.class);
+        bind(query, filter, null);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public Stream<TaskResponse> streamWithFilters(TaskFilter filter, Sort sort, int fetchSize) {
+        if (isEmptyIdFilter(filter)) {
+            return Stream.empty();
+        }
+        TypedQuery<TaskResponse> query = selectQuery(filter, null, sort);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        return query.getResultStream();
+    }
+
+    private List<TaskResponse> select(TaskFilter filter, TaskCursor cursor, Sort sort, long offset, int limit) {
+        TypedQuery<TaskResponse> query = selectQuery(filter, cursor, sort);
+        if (limit >= 0) {
+            query.setFirstResult(Math.toIntExact(offset));
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    private TypedQuery<TaskResponse> selectQuery(TaskFilter filter, TaskCursor cursor, Sort sort) {
+        String orderBy = orderBy(sort);
+        String jpql = query("select|" + shape(filter, cursor) + orderBy,
+            () -> SELECT_TASK_VIEW + where(filter, cursor) + orderBy);
+        TypedQuery<TaskResponse> query = entityManager.createQuery(jpql, TaskResponse.class);
+        bind(query, filter, cursor);
+        return query;
+    }
+
+    private String query(String shape, Supplier<String> builder) {
+        String jpql = queries.get(shape);
+        if (jpql == null) {
+            if (queries.size() >= MAX_CACHED_QUERIES) {
+                queries.clear();
+            }
+            jpql = queries.computeIfAbsent(shape, key -> builder.get());
+            log.debug("Built task query for shape {}: {}", shape, jpql);
+        }
+        return jpql;
+    }
+
+    // Everything that changes the statement text, and nothing that only changes bound values
+    private static String shape(TaskFilter filter, TaskCursor cursor) {
+        return cardinality(filter.statuses())
+            + cardinality(filter.priorities())
+            + present(filter.search())
+            + present(filter.ids())
+            + present(filter.dueAfter())
+            + present(filter.dueBefore())
+            + present(filter.overdue())
+            + (cursor == null ? "-" : cursor.direction().name());
+    }
+
+    private static String where(TaskFilter filter, TaskCursor cursor) {
+        StringBuilder jpql = new StringBuilder(" WHERE t.deleted = false");
+        if (filter.statuses().size() == 1) {
+            jpql.append(" AND t.status = :status");
+        } else if (filter.hasStatuses()) {
+            jpql.append(" AND t.status IN :statuses");
+        }
+        if (filter.priorities().size() == 1) {
+            jpql.append(" AND t.priority = :priority");
+        } else if (filter.hasPriorities()) {
+            jpql.append(" AND t.priority IN :priorities");
+        }
+        if (filter.search() != null) {
+            jpql.append(" AND LOWER(t.title) LIKE :search ESCAPE '").append(LIKE_ESCAPE).append('\'');
+        }
+        if (filter.ids() != null) {
+            jpql.append(" AND t.id IN :ids");
+        }
+        if (filter.dueAfter() != null) {
+            jpql.append(" AND t.dueDateTime > :dueAfter");
+        }
+        if (filter.dueBefore() != null) {
+            jpql.append(" AND t.dueDateTime < :dueBefore");
+        }
+        if (filter.overdue() != null) {
+            jpql.append(" AND t.overdue = :overdue");
+        }
+        if (cursor != null) {
+            // The redundant createdAt bound gives the planner a plain range it can seek on
+            String past = cursor.direction().isDescending() ? "<" : ">";
+            jpql.append(" AND t.createdAt ").append(past).append("= :createdAt")
+                .append(" AND (t.createdAt ").append(past).append(" :createdAt")
+                .append(" OR (t.createdAt = :createdAt AND t.id ").append(past).append(" :id))");
+        }
+        return jpql.toString();
+    }
+
+    private static void bind(TypedQuery<?> query, TaskFilter filter, TaskCursor cursor) {
+        if (filter.statuses().size() == 1) {
+            query.setParameter("status", filter.statuses().get(0));
+        } else if (filter.hasStatuses()) {
+            query.setParameter("statuses", filter.statuses());
+        }
+        if (filter.priorities().size() == 1) {
+            query.setParameter("priority", filter.priorities().get(0));
+        } else if (filter.hasPriorities()) {
+            query.setParameter("priorities", filter.priorities());
+        }
+        if (filter.search() != null) {
+            query.setParameter("search", "%" + escapeLike(filter.search().toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (filter.ids() != null) {
+            query.setParameter("ids", filter.ids());
+        }
+        if (filter.dueAfter() != null) {
+            query.setParameter("dueAfter", filter.dueAfter());
+        }
+        if (filter.dueBefore() != null) {
+            query.setParameter("dueBefore", filter.dueBefore());
+        }
+        if (filter.overdue() != null) {
+            query.setParameter("overdue", filter.overdue());
+        }
+        if (cursor != null) {
+            query.setParameter("createdAt", cursor.createdAt());
+            query.setParameter("id", cursor.id());
+        }
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "";
+        }
+        StringJoiner orderBy = new StringJoiner(", ", " ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+            orderBy.add("t." + order.getProperty() + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return orderBy.toString();
+    }
+
+    private static Slice<TaskResponse> toSlice(List<TaskResponse> rows, Pageable pageable) {
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<TaskResponse> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static boolean isEmptyIdFilter(TaskFilter filter) {
+        return filter.ids() != null && filter.ids().isEmpty();
+    }
+
+    private static String cardinality(List<?> values) {
+        return values.isEmpty() ? "0" : values.size() == 1 ? "1" : "n";
+    }
+
+    private static String present(Object value) {
+        return value == null ? "0" : "1";
+    }
+}
@@ -0,0 +1,6 @@
+package uk.gov.hmcts.reform.dev.search;
+
+/**
+ * A task id matched by the full-text index, with its relevance score.
+ */
+public record SearchHit(Long id, float score) {}
@@ -0,0 +1,266 @@
+package uk.gov.hmcts.reform.dev.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.Lock;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Embedded Lucene index over live task titles and descriptions.
+ * Text is analysed with the English analyzer (tokenisation, stop words, stemming) and hits are
+ * ranked by BM25 with titles weighted above descriptions. Only task ids are stored; the caller
+ * loads the matching rows by primary key. The index is derived data: it is rebuilt from the
+ * tasks table when the application starts and kept current from {@link TaskChangedEvent}s.
+ *
+ * <p>Changes become searchable at the next {@link #refresh()}, every
+ * {@code tasks.search.fulltext.refresh-interval}. While a rebuild is loading, searches keep being
+ * answered from the index as it was before the rebuild started.
+ */
+@Slf4j
+@Component
+public class TaskSearchIndex {
+
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String DESCRIPTION = "description";
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private static final Map<String, Float> BOOSTS = Map.of(TITLE, 2.0f, DESCRIPTION, 1.0f);
+
+    private final TaskRepository taskRepository;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // Ids written by events while a rebuild is loading; the rebuild's older copy must not replace them
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    // Held by a refresh while it opens a reader, so none is opened once a rebuild has started
+    private final Object refreshLock = new Object();
+
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           @Value("${tasks.search.fulltext.index-path:${java.io.tmpdir}/task-search-index}")
+                           String indexPath) throws IOException {
+        this(taskRepository, openDirectory(Path.of(indexPath)));
+    }
+
+    TaskSearchIndex(TaskRepository taskRepository, Directory directory) throws IOException {
+        this.taskRepository = taskRepository;
+        this.directory = directory;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            synchronized (refreshLock) {
+                rebuilding = true;
+            }
+            writer.deleteAll();
+
+            long lastId = 0;
+            int loaded = 0;
+            List<TaskText> batch;
+            do {
+                batch = taskRepository.findTextsAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (TaskText task : batch) {
+                    if (!changedDuringRebuild.contains(task.id())) {
+                        write(task.id(), task.title(), task.description());
+                    }
+                    lastId = task.id();
+                }
+                loaded += batch.size();
+            } while (batch.size() == LOAD_BATCH_SIZE);
+
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            log.info("Full-text index built: {} tasks in {}ms", loaded, System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            log.error("Full-text index rebuild failed", e);
+        } finally {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Status changes leave the indexed text untouched
+        if (event.type() == ChangeType.STATUS_CHANGED) {
+            return;
+        }
+        try {
+            for (TaskSnapshot task : event.tasks()) {
+                if (rebuilding) {
+                    changedDuringRebuild.add(task.id());
+                }
+                if (task.deleted()) {
+                    writer.deleteDocuments(idTerm(task.id()));
+                } else if (task.title() != null) {
+                    write(task.id(), task.title(), task.description());
+                }
+            }
+        } catch (IOException e) {
+            // The database change is already committed; the next rebuild brings the index back in line
+            log.error("Failed to apply {} event for {} task(s) to the full-text index",
+                event.type(), event.tasks().size(), e);
+        }
+    }
+
+    /**
+     * Opens a reader on the writes made since the last refresh. Runs on a timer rather than after
+     * each event, so a committing request never waits for it, and is skipped during a rebuild so the
+     * emptied, partly loaded index is never published.
+     */
+    @Scheduled(fixedDelayString = "${tasks.search.fulltext.refresh-interval:PT1S}")
+    public void refresh() {
+        synchronized (refreshLock) {
+            if (rebuilding) {
+                return;
+            }
+            try {
+                searcherManager.maybeRefreshBlocking();
+            } catch (IOException e) {
+                log.error("Failed to refresh the full-text index", e);
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} matching task ids, best match first. The text is treated as plain
+     * words rather than Lucene query syntax, and any word may match.
+     */
+    public List<SearchHit> search(String text, int limit) {
+        Query query = parse(text);
+        if (query == null) {
+            return List.of();
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query, limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<SearchHit> hits = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc scoreDoc : top.scoreDocs) {
+                    Document document = storedFields.document(scoreDoc.doc, Set.of(ID));
+                    hits.add(new SearchHit(Long.valueOf(document.get(ID)), scoreDoc.score));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Full-text search failed", e);
+        }
+    }
+
+    public int size() {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.getIndexReader().numDocs();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the full-text index size", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query parse(String text) {
+        // The parser is not thread-safe, so one is built per search
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(new String[] {TITLE, DESCRIPTION}, analyzer, BOOSTS);
+        try {
+            // Lower-casing keeps AND/OR/NOT as plain words; escaping covers the remaining syntax
+            return parser.parse(QueryParser.escape(text.trim().toLowerCase(Locale.ROOT)));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid search query: " + text, e);
+        }
+    }
+
+    private void write(Long id, String title, String description) throws IOException {
+        writer.updateDocument(idTerm(id), toDocument(id, title, description));
+    }
+
+    private static Document toDocument(Long id, String title, String description) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(id), Field.Store.YES));
+        document.add(new TextField(TITLE, title, Field.Store.NO));
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static Term idTerm(Long id) {
+        return new Term(ID, String.valueOf(id));
+    }
+
+    private static Directory openDirectory(Path path) throws IOException {
+        Files.createDirectories(path);
+        Directory directory = FSDirectory.open(path);
+        // A second application context in the same JVM (e.g. tests) cannot share the write lock
+        try (Lock lock = directory.obtainLock(IndexWriter.WRITE_LOCK_NAME)) {
+            log.info("Full-text index directory: {}", path.toAbsolutePath());
+            return directory;
+        } catch (LockObtainFailedException e) {
+            log.warn("Full-text index at {} is locked by another writer, using an in-memory index", path);
+            directory.close();
+            return new ByteBuffersDirectory();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package uk.gov.hmcts.reform.dev.search;
+
+/**
+ * Projection used to (re)build the full-text index without loading full entities.
+ */
+public record TaskText(Long id, String title, String description) {}
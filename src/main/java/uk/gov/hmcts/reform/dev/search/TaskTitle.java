@@ -0,0 +1,6 @@
+package uk.gov.hmcts.reform.dev.search;
+
+/**
+ * Projection used to (re)build the title index without loading full entities.
+ */
+public record TaskTitle(Long id, String title) {}
@@ -0,0 +1,213 @@
+package uk.gov.hmcts.reform.dev.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory trigram inverted index over live task titles.
+ * A substring search of three or more characters is answered by intersecting the posting
+ * lists of its trigrams and confirming each candidate against the indexed title, so the
+ * database only ever sees an {@code id IN (...)} predicate instead of a leading-wildcard LIKE.
+ */
+@Slf4j
+@Component
+public class TitleTrigramIndex {
+
+    static final int GRAM_LENGTH = 3;
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final int maxCandidates;
+
+    private final ConcurrentMap<Long, String> titles = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    // Ids written by events while a rebuild is loading; the rebuild's older copy must not replace them
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public TitleTrigramIndex(TaskRepository taskRepository,
+                             @Value("${tasks.search.trigram.max-candidates:1000}") int maxCandidates) {
+        this.taskRepository = taskRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long lastId = 0;
+        int loaded = 0;
+        rebuilding = true;
+        try {
+            List<TaskTitle> batch;
+            do {
+                batch = taskRepository.findTitlesAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (TaskTitle task : batch) {
+                    load(task);
+                    lastId = task.id();
+                }
+                loaded += batch.size();
+            } while (batch.size() == LOAD_BATCH_SIZE);
+        } finally {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        }
+
+        ready = true;
+        log.info("Title trigram index built: {} tasks, {} trigrams in {}ms",
+            loaded, postings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Indexes a title read by the rebuild unless an event has written that id since the rebuild
+     * started, including a delete that left nothing behind. The check runs inside the id's compute
+     * so it is atomic with the event's own update of the same id.
+     */
+    private void load(TaskTitle task) {
+        titles.compute(task.id(), (id, current) -> {
+            if (current != null || changedDuringRebuild.contains(id)) {
+                return current;
+            }
+            return addPostings(id, normalize(task.title()));
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        for (TaskSnapshot task : event.tasks()) {
+            if (rebuilding) {
+                changedDuringRebuild.add(task.id());
+            }
+            if (task.deleted()) {
+                remove(task.id());
+            } else if (task.title() != null) {
+                index(task.id(), task.title());
+            }
+        }
+    }
+
+    public void index(Long id, String title) {
+        String normalized = normalize(title);
+        titles.compute(id, (key, previous) -> {
+            if (previous != null) {
+                if (previous.equals(normalized)) {
+                    return previous;
+                }
+                removePostings(key, previous);
+            }
+            return addPostings(key, normalized);
+        });
+    }
+
+    public void remove(Long id) {
+        titles.computeIfPresent(id, (key, previous) -> {
+            removePostings(key, previous);
+            return null;
+        });
+    }
+
+    /**
+     * Returns the ids of live tasks whose title contains {@code search} (case-insensitive).
+     * Empty when the index cannot answer: the term is shorter than a trigram, the index is
+     * still loading, or the match set is too large to be worth an IN list.
+     */
+    public Optional<Set<Long>> match(String search) {
+        if (!ready || search == null) {
+            return Optional.empty();
+        }
+        String term = normalize(search);
+        if (term.length() < GRAM_LENGTH) {
+            return Optional.empty();
+        }
+
+        List<Set<Long>> lists = trigrams(term).stream()
+            .map(gram -> postings.getOrDefault(gram, Set.of()))
+            .sorted(Comparator.comparingInt(Set::size))
+            .toList();
+
+        Set<Long> matches = new HashSet<>();
+        for (Long id : lists.get(0)) {
+            if (!inAll(lists, id)) {
+                continue;
+            }
+            String title = titles.get(id);
+            if (title != null && title.contains(term)) {
+                matches.add(id);
+                if (matches.size() > maxCandidates) {
+                    log.debug("Trigram match for '{}' exceeds {} candidates, falling back to LIKE",
+                        search, maxCandidates);
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(matches);
+    }
+
+    public int size() {
+        return titles.size();
+    }
+
+    int trigramCount() {
+        return postings.size();
+    }
+
+    private static boolean inAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String addPostings(Long id, String normalized) {
+        for (String gram : trigrams(normalized)) {
+            // Added inside compute so the id never lands in a set removePostings has just dropped
+            postings.compute(gram, (key, ids) -> {
+                Set<Long> posting = ids != null ? ids : ConcurrentHashMap.newKeySet();
+                posting.add(id);
+                return posting;
+            });
+        }
+        return normalized;
+    }
+
+    private void removePostings(Long id, String normalized) {
+        for (String gram : trigrams(normalized)) {
+            // Drop a trigram once no live title has it, so deletes shrink the map
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    static Set<String> trigrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+}
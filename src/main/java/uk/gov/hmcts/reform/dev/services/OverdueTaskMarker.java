@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.datasource.BulkWorkload;
+import uk.gov.hmcts.reform.dev.models.TaskCount;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Advances the stored {@code overdue} flag as time passes. Writes already set it for the state they
+ * leave behind; this only has to catch open tasks whose due date has gone by since they were last
+ * written. The first run sweeps everything; later runs scan just the due dates that passed since the
+ * previous run, widened by a small overlap so rows committed by transactions still in flight at the
+ * last run are not missed.
+ */
+@Slf4j
+@Component
+public class OverdueTaskMarker {
+
+    private static final Duration WINDOW_OVERLAP = Duration.ofMinutes(5);
+
+    private final TaskRepository taskRepository;
+    private final TaskListCache listCache;
+    private final TaskVersions versions;
+    private final TaskCounters counters;
+    private final Counter marked;
+
+    // Due dates before this have already been swept; null until the first full sweep
+    private volatile LocalDateTime markedUpTo;
+
+    public OverdueTaskMarker(TaskRepository taskRepository, TaskListCache listCache, TaskVersions versions,
+                             TaskCounters counters, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.listCache = listCache;
+        this.versions = versions;
+        this.counters = counters;
+        this.marked = Counter.builder("tasks.overdue.marked")
+            .description("Tasks flagged overdue as their due date passed")
+            .register(meterRegistry);
+    }
+
+    @BulkWorkload
+    @Scheduled(fixedDelayString = "${tasks.overdue.refresh-interval:PT1M}")
+    @Transactional
+    public int markOverdue() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = markedUpTo;
+
+        LocalDateTime from = since == null ? null : since.minus(WINDOW_OVERLAP);
+        List<TaskCount> due = from == null
+            ? taskRepository.countNewlyOverdue(now)
+            : taskRepository.countNewlyOverdueSince(from, now);
+
+        // Skip the UPDATE when nothing fell due: it would still evict the whole Task cache region
+        int count = 0;
+        if (!due.isEmpty()) {
+            count = from == null
+                ? taskRepository.markOverdue(now)
+                : taskRepository.markOverdueSince(from, now);
+        }
+        markedUpTo = now;
+        marked.increment(count);
+
+        if (count > 0) {
+            counters.applyAfterCommit(new TaskCounters.Delta()
+                .remove(due)
+                .add(due.stream().map(group -> group.withOverdue(true)).toList()));
+            // Cached overdue=true pages, and the flag on every cached page, are now out of date
+            listCache.invalidateAfterCommit();
+            // The flagged tasks have new versions, and the UPDATE does not say which they are
+            versions.invalidateAllAfterCommit();
+            log.info("Overdue: Flagged {} task(s) that fell due before {}", count, now);
+        } else {
+            log.debug("Overdue: No tasks fell due between {} and {}", since, now);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,155 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import uk.gov.hmcts.reform.dev.datasource.BulkWorkload;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves soft-deleted tasks out of the hot {@code tasks} table once their {@code deletedAt} is older
+ * than the retention period: into {@code tasks_archive}, or dropped outright when hard-delete is set.
+ * Work is done in small batches, each in its own short transaction with a pause in between, so a
+ * large backlog drains over several runs without holding locks or starving request traffic.
+ *
+ * <p>Metrics: {@code tasks.archiver.rows} (rows moved, tagged by mode), {@code tasks.archiver.batch}
+ * (time per batch), {@code tasks.archiver.pending} (rows past retention still in {@code tasks}) and
+ * {@code tasks.archiver.last-run.rows}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tasks.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class TaskArchiver {
+
+    private final TaskRepository taskRepository;
+    private final TaskCounters counters;
+    private final TransactionOperations transactions;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pause;
+    private final boolean hardDelete;
+
+    private final Counter rows;
+    private final Timer batchTimer;
+    private final AtomicLong pending;
+    private final AtomicLong lastRunRows;
+
+    public TaskArchiver(TaskRepository taskRepository,
+                        TaskCounters counters,
+                        TransactionOperations transactions,
+                        MeterRegistry meterRegistry,
+                        @Value("${tasks.archive.retention:30d}") Duration retention,
+                        @Value("${tasks.archive.batch-size:500}") int batchSize,
+                        @Value("${tasks.archive.max-batches-per-run:100}") int maxBatchesPerRun,
+                        @Value("${tasks.archive.pause:200ms}") Duration pause,
+                        @Value("${tasks.archive.hard-delete:false}") boolean hardDelete) {
+        this.taskRepository = taskRepository;
+        this.counters = counters;
+        this.transactions = transactions;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pause = pause;
+        this.hardDelete = hardDelete;
+
+        String mode = hardDelete ? "purge" : "archive";
+        this.rows = Counter.builder("tasks.archiver.rows")
+            .description("Soft-deleted tasks moved out of the tasks table")
+            .tag("mode", mode)
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("tasks.archiver.batch")
+            .description("Time to move one batch of soft-deleted tasks")
+            .tag("mode", mode)
+            .register(meterRegistry);
+        this.pending = meterRegistry.gauge("tasks.archiver.pending", new AtomicLong());
+        this.lastRunRows = meterRegistry.gauge("tasks.archiver.last-run.rows", new AtomicLong());
+    }
+
+    /**
+     * One archiving pass: drains up to {@code max-batches-per-run} batches, stopping early once a
+     * batch comes back short (nothing left) or the thread is interrupted.
+     *
+     * @return the number of rows moved in this pass
+     */
+    @BulkWorkload
+    @Scheduled(initialDelayString = "${tasks.archive.initial-delay:PT5M}",
+               fixedDelayString = "${tasks.archive.interval:PT1H}")
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long backlog = taskRepository.countArchivable(cutoff);
+        pending.set(backlog);
+        if (backlog == 0) {
+            log.debug("Archiver: No tasks deleted before {}", cutoff);
+            lastRunRows.set(0);
+            return 0;
+        }
+        log.info("Archiver: {} task(s) deleted before {} to {}", backlog, cutoff, hardDelete ? "purge" : "archive");
+
+        long started = System.nanoTime();
+        int moved = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            long batchStarted = System.nanoTime();
+            Integer result = transactions.execute(status -> moveBatch(cutoff));
+            batchTimer.record(Duration.ofNanos(System.nanoTime() - batchStarted));
+
+            int count = result == null ? 0 : result;
+            moved += count;
+            rows.increment(count);
+            pending.set(Math.max(0, pending.get() - count));
+
+            if (count < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        lastRunRows.set(moved);
+        long elapsedMillis = Math.max(1, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        log.info("Archiver: Moved {} task(s) in {} ms ({} rows/s), {} still pending",
+            moved, elapsedMillis, moved * 1000L / elapsedMillis, pending.get());
+        return moved;
+    }
+
+    private int moveBatch(LocalDateTime cutoff) {
+        List<Long> ids = taskRepository.findArchivableIds(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (!hardDelete) {
+            taskRepository.copyToArchive(ids, LocalDateTime.now());
+        }
+        // The rows leave the deleted cells of the counters once the batch commits
+        TaskCounters.Delta delta = new TaskCounters.Delta().remove(taskRepository.countByStateIn(ids));
+        int deleted = taskRepository.purgeDeleted(ids);
+        counters.applyAfterCommit(delta);
+        log.debug("Archiver: Batch moved {} task(s), ids {}..{}", deleted, ids.get(0), ids.get(ids.size() - 1));
+        return deleted;
+    }
+
+    // Throttle between batches; false when interrupted (e.g. shutdown), which ends the pass
+    private boolean pause() {
+        if (pause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("Archiver: Interrupted, stopping this pass early");
+            return false;
+        }
+    }
+}
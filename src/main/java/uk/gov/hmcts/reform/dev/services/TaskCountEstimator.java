@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Serves approximate totals for count=estimate list calls.
+ * Each distinct filter combination is counted at most once per TTL; concurrent callers
+ * for the same key wait on the single in-flight count instead of issuing their own.
+ *
+ * <p>The count runs outside the map: waiting callers block on a future, not on a map lock held
+ * across a database call, which would stall unrelated keys and pin virtual threads to a carrier
+ * on runtimes before JDK 24.
+ */
+@Slf4j
+@Component
+public class TaskCountEstimator {
+
+    private static final int MAX_ENTRIES = 1000;
+
+    private final Duration ttl;
+    private final ConcurrentMap<String, CompletableFuture<CachedCount>> counts = new ConcurrentHashMap<>();
+
+    public TaskCountEstimator(@Value("${tasks.count.estimate-ttl:30s}") Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public long estimate(String key, LongSupplier exactCount) {
+        if (counts.size() >= MAX_ENTRIES && !counts.containsKey(key)) {
+            log.debug("Count estimate cache full ({} entries), clearing", counts.size());
+            counts.clear();
+        }
+        long now = System.nanoTime();
+        CompletableFuture<CachedCount> load = new CompletableFuture<>();
+        while (true) {
+            CompletableFuture<CachedCount> existing = counts.putIfAbsent(key, load);
+            if (existing == null) {
+                return refresh(key, load, exactCount);
+            }
+            if (!existing.isDone()) {
+                try {
+                    return existing.join().count();
+                } catch (CompletionException e) {
+                    // The count we waited on failed and has been dropped; run our own
+                    return exactCount.getAsLong();
+                }
+            }
+            if (!existing.isCompletedExceptionally() && now - existing.join().computedAt() < ttl.toNanos()) {
+                return existing.join().count();
+            }
+            // Expired: whoever swaps in their own future recounts, the others wait on it
+            if (counts.replace(key, existing, load)) {
+                return refresh(key, load, exactCount);
+            }
+        }
+    }
+
+    private long refresh(String key, CompletableFuture<CachedCount> load, LongSupplier exactCount) {
+        try {
+            long count = exactCount.getAsLong();
+            log.debug("Count estimate refreshed for '{}': {}", key, count);
+            load.complete(new CachedCount(count, System.nanoTime()));
+            return count;
+        } catch (RuntimeException e) {
+            counts.remove(key, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private record CachedCount(long count, long computedAt) {}
+}
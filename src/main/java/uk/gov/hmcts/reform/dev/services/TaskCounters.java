@@ -0,0 +1,218 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.datasource.BulkWorkload;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskCount;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Task counts by status, priority, overdue flag and live/deleted, held in memory so exact totals
+ * for status, priority and overdue filters need no COUNT query.
+ *
+ * <p>Seeded from one {@code GROUP BY} when the application is ready, then adjusted by every
+ * {@code TaskService} mutation, {@code OverdueTaskMarker} run and {@code TaskArchiver} batch once its
+ * transaction commits.
+ * A write that races a seed, or another transaction's set-based mutation of the same rows, can
+ * leave a count slightly off; the seed is rerun every {@code tasks.counters.reseed-interval} to
+ * correct that. Until the first seed, {@link #count} is empty and callers run the COUNT query.
+ */
+@Slf4j
+@Component
+public class TaskCounters {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final boolean[] FLAGS = {false, true};
+
+    private final TaskRepository taskRepository;
+
+    // One cell per (status, priority, overdue, deleted); null until the first seed
+    private volatile AtomicLongArray counts;
+
+    public TaskCounters(TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        for (TaskStatus status : STATUSES) {
+            for (boolean deleted : FLAGS) {
+                Gauge.builder("tasks.total", this, counters -> counters.total(status, deleted))
+                    .description("Tasks by status, from the in-memory counters")
+                    .tag("status", status.name())
+                    .tag("state", deleted ? "deleted" : "live")
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    private static int cell(TaskStatus status, TaskPriority priority, boolean overdue, boolean deleted) {
+        int index = status.ordinal() * PRIORITIES.length + priority.ordinal();
+        return index * 4 + (overdue ? 2 : 0) + (deleted ? 1 : 0);
+    }
+
+    private static int cell(TaskCount count) {
+        return cell(count.status(), count.priority(), count.overdue(), count.deleted());
+    }
+
+    @BulkWorkload
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tasks.counters.reseed-interval:PT10M}",
+               initialDelayString = "${tasks.counters.reseed-interval:PT10M}")
+    @Transactional(readOnly = true)
+    public void seed() {
+        AtomicLongArray seeded = new AtomicLongArray(STATUSES.length * PRIORITIES.length * 4);
+        List<TaskCount> rows = taskRepository.countByState();
+        for (TaskCount row : rows) {
+            seeded.addAndGet(cell(row), row.count());
+        }
+
+        AtomicLongArray previous = counts;
+        counts = seeded;
+
+        if (previous != null && !sameCounts(previous, seeded)) {
+            log.info("Counters: Reseed corrected drifted task counts");
+        }
+        log.debug("Counters: Seeded from {} group(s)", rows.size());
+    }
+
+    private static boolean sameCounts(AtomicLongArray left, AtomicLongArray right) {
+        for (int i = 0; i < left.length(); i++) {
+            if (left.get(i) != right.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Exact number of live tasks matching the filter, if the counters can answer it: they are
+     * seeded and the filter only sets statuses, priorities and the overdue flag.
+     */
+    public OptionalLong count(TaskFilter filter) {
+        AtomicLongArray current = counts;
+        if (current == null || filter.search() != null || filter.ids() != null
+            || filter.dueBefore() != null || filter.dueAfter() != null) {
+            return OptionalLong.empty();
+        }
+
+        long total = 0;
+        for (TaskStatus status : STATUSES) {
+            if (filter.hasStatuses() && !filter.statuses().contains(status)) {
+                continue;
+            }
+            for (TaskPriority priority : PRIORITIES) {
+                if (filter.hasPriorities() && !filter.priorities().contains(priority)) {
+                    continue;
+                }
+                for (boolean overdue : FLAGS) {
+                    if (filter.overdue() == null || filter.overdue() == overdue) {
+                        total += current.get(cell(status, priority, overdue, false));
+                    }
+                }
+            }
+        }
+        return OptionalLong.of(Math.max(total, 0));
+    }
+
+    private double total(TaskStatus status, boolean deleted) {
+        AtomicLongArray current = counts;
+        if (current == null) {
+            return Double.NaN;
+        }
+        long total = 0;
+        for (TaskPriority priority : PRIORITIES) {
+            for (boolean overdue : FLAGS) {
+                total += current.get(cell(status, priority, overdue, deleted));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Applies the delta once the current transaction commits, or straight away outside one.
+     * Nothing is applied if the transaction rolls back.
+     */
+    public void applyAfterCommit(Delta delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                // Before TaskListCache moves on, so pages reloaded after the change see the new totals
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                apply(delta);
+            }
+        });
+    }
+
+    private void apply(Delta delta) {
+        AtomicLongArray current = counts;
+        if (current == null) {
+            return;
+        }
+        for (TaskCount count : delta.removed) {
+            current.addAndGet(cell(count), -count.count());
+        }
+        for (TaskCount count : delta.added) {
+            current.addAndGet(cell(count), count.count());
+        }
+        for (Task task : delta.addedTasks) {
+            current.incrementAndGet(cell(TaskCount.of(task)));
+        }
+    }
+
+    /**
+     * Counts leaving and entering cells in one transaction. A task passed to {@link #remove(Task)}
+     * is read straight away, before it is modified; one passed to {@link #add(Task)} is read at
+     * commit, once the entity callbacks have set its final state (such as the overdue flag).
+     */
+    public static final class Delta {
+
+        private final List<TaskCount> removed = new ArrayList<>();
+        private final List<TaskCount> added = new ArrayList<>();
+        private final List<Task> addedTasks = new ArrayList<>();
+
+        public Delta remove(Task task) {
+            removed.add(TaskCount.of(task));
+            return this;
+        }
+
+        public Delta add(Task task) {
+            addedTasks.add(task);
+            return this;
+        }
+
+        public Delta remove(Collection<TaskCount> counts) {
+            removed.addAll(counts);
+            return this;
+        }
+
+        public Delta add(Collection<TaskCount> counts) {
+            added.addAll(counts);
+            return this;
+        }
+    }
+}
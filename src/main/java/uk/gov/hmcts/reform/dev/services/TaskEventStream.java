@@ -0,0 +1,233 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.exceptions.SubscriberLimitException;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed task changes to Server-Sent Events subscribers ({@code GET /api/v1/tasks/stream}).
+ *
+ * <p>An idle subscriber is an open async request and an empty queue: no thread is held and nothing
+ * runs for it until a change or heartbeat arrives. After a change commits, each subscriber's filter
+ * picks the tasks it wants; the payload is built once per distinct filter and queued. A subscriber
+ * with queued events gets a virtual thread of its own that writes them out in order and ends once
+ * the queue is empty. A client that stops reading blocks only its own thread, never another
+ * subscriber's events.
+ *
+ * <p>Each subscriber's queue holds at most {@code tasks.stream.buffer-size} events, allocated as
+ * they are queued rather than up front. A subscriber that falls that far behind is disconnected
+ * rather than buffered without bound; its client should reconnect and catch up through
+ * {@code GET /api/v1/tasks/changes}.
+ *
+ * <p>Metrics: {@code tasks.stream.subscribers}, {@code tasks.stream.events} (events queued) and
+ * {@code tasks.stream.overflows} (subscribers dropped for falling behind).
+ */
+@Slf4j
+@Component
+public class TaskEventStream {
+
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService sender;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final Counter events;
+    private final Counter overflows;
+
+    public TaskEventStream(@Value("${tasks.stream.buffer-size:256}") int bufferSize,
+                           @Value("${tasks.stream.max-subscribers:10000}") int maxSubscribers,
+                           @Value("${tasks.stream.timeout:30m}") Duration timeout,
+                           MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        // One thread per subscriber with events to send, so a blocked write stalls only that subscriber
+        this.sender = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-stream-", 0).factory());
+        this.events = Counter.builder("tasks.stream.events")
+            .description("Change events queued for stream subscribers")
+            .register(meterRegistry);
+        this.overflows = Counter.builder("tasks.stream.overflows")
+            .description("Stream subscribers disconnected for falling behind")
+            .register(meterRegistry);
+        meterRegistry.gauge("tasks.stream.subscribers", subscribers, Set::size);
+    }
+
+    /**
+     * Opens a stream of the changes to tasks matching the filter. An empty set matches any value.
+     */
+    public SseEmitter subscribe(Set<TaskStatus> statuses, Set<TaskPriority> priorities) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new SubscriberLimitException(maxSubscribers);
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        // Linked, so an idle subscriber holds no buffer-size array of empty slots
+        Subscriber subscriber = new Subscriber(emitter, new Filter(statuses, priorities),
+            new LinkedBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        subscribers.add(subscriber);
+
+        // Sent straight away so the client and any proxy see the stream open before the first change
+        offer(subscriber, SseEmitter.event().comment("connected").build());
+        log.debug("Stream: Subscribed with {}, {} subscriber(s)", subscriber.filter(), subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * Every task change committed through {@code TaskService} or {@code TaskImporter} publishes an
+     * event; this runs on the committing thread, so it only filters and queues.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Map<Filter, Optional<Set<DataWithMediaType>>> payloads = new HashMap<>();
+        for (Subscriber subscriber : subscribers) {
+            payloads.computeIfAbsent(subscriber.filter(), filter -> payload(event, filter))
+                .filter(payload -> offer(subscriber, payload))
+                .ifPresent(payload -> events.increment());
+        }
+    }
+
+    private static Optional<Set<DataWithMediaType>> payload(TaskChangedEvent event, Filter filter) {
+        List<TaskSnapshot> tasks = event.tasks().stream().filter(filter::matches).toList();
+        if (tasks.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(SseEmitter.event()
+            .name(eventName(event.type()))
+            .data(new TaskChangedEvent(event.type(), tasks), MediaType.APPLICATION_JSON)
+            .build());
+    }
+
+    private static String eventName(ChangeType type) {
+        return type.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    // Keeps idle connections from being closed by proxies, and finds clients that have gone away
+    @Scheduled(fixedDelayString = "${tasks.stream.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment(HEARTBEAT).build();
+        subscribers.forEach(subscriber -> offer(subscriber, heartbeat));
+    }
+
+    private boolean offer(Subscriber subscriber, Set<DataWithMediaType> payload) {
+        if (!subscriber.queue().offer(payload)) {
+            overflows.increment();
+            log.warn("Stream: Disconnecting a subscriber {} events behind", bufferSize);
+            remove(subscriber);
+            subscriber.queue().clear();
+            subscriber.emitter().complete();
+            return false;
+        }
+        if (subscriber.sending().compareAndSet(false, true)) {
+            sender.execute(() -> send(subscriber));
+        }
+        return true;
+    }
+
+    // At most one of these runs per subscriber at a time, so its events go out in order. A client that
+    // has stopped reading blocks the send here, on this subscriber's own virtual thread, until the
+    // write fails or the stream ends; meanwhile its queue overflows and it is disconnected
+    private void send(Subscriber subscriber) {
+        while (true) {
+            Set<DataWithMediaType> payload = subscriber.queue().poll();
+            if (payload == null) {
+                subscriber.sending().set(false);
+                // An offer between the poll and the reset found sending set and left this event to us
+                if (subscriber.queue().isEmpty() || !subscriber.sending().compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                subscriber.emitter().send(payload);
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Stream: Dropping a subscriber that has gone away - {}", ex.getMessage());
+                remove(subscriber);
+                subscriber.queue().clear();
+                return;
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            log.debug("Stream: Unsubscribed, {} subscriber(s)", subscribers.size());
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+        sender.shutdown();
+    }
+
+    record Filter(Set<TaskStatus> statuses, Set<TaskPriority> priorities) {
+
+        Filter {
+            statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+            priorities = priorities == null ? Set.of() : Set.copyOf(priorities);
+        }
+
+        // Deletes always pass, since a subscriber may hold the task. Set-based writes leave fields they
+        // did not touch null; a filter only excludes a task on a value it knows
+        boolean matches(TaskSnapshot task) {
+            return task.deleted()
+                || matches(statuses, task.status()) && matches(priorities, task.priority());
+        }
+
+        private static <T> boolean matches(Collection<T> allowed, T value) {
+            return allowed.isEmpty() || value == null || allowed.contains(value);
+        }
+    }
+
+    private record Subscriber(SseEmitter emitter, Filter filter,
+                              BlockingQueue<Set<DataWithMediaType>> queue,
+                              AtomicBoolean sending) {
+
+        Subscriber(SseEmitter emitter, Filter filter,
+                   BlockingQueue<Set<DataWithMediaType>> queue) {
+            this(emitter, filter, queue, new AtomicBoolean());
+        }
+    }
+}
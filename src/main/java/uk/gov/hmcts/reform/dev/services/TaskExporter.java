@@ -0,0 +1,149 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.datasource.BulkWorkload;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
+import uk.gov.hmcts.reform.dev.models.dto.ExportFormat;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes every task matching a filter to an output stream, for reporting.
+ *
+ * <p>Rows come from one forward-only query, fetched {@code tasks.export.fetch-size} at a time, and
+ * are written as they arrive as {@link TaskResponse} projections that the persistence context never
+ * holds, so memory use stays flat however many tasks match. The export runs on the bulk pool and
+ * holds its connection until the last row is written.
+ */
+@Slf4j
+@Component
+public class TaskExporter {
+
+    // Ordered by primary key so the scan is stable and needs no sort on an indexed table
+    private static final Sort BY_ID = Sort.by("id");
+
+    private static final String CSV_HEADER =
+        "id,title,description,status,priority,dueDateTime,createdAt,updatedAt,overdue\r\n";
+    private static final int CSV_BUFFER_SIZE = 16 * 1024;
+
+    private final TaskRepository taskRepository;
+    private final ObjectWriter jsonWriter;
+    private final int fetchSize;
+
+    public TaskExporter(TaskRepository taskRepository,
+                        ObjectMapper objectMapper,
+                        @Value("${tasks.export.fetch-size:500}") int fetchSize) {
+        this.taskRepository = taskRepository;
+        // Flushed once at the end rather than after every row
+        this.jsonWriter = objectMapper.writerFor(TaskResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes the matching tasks in id order and returns how many were written. The stream is
+     * flushed but not closed, so the caller can finish a wrapping stream such as gzip.
+     */
+    @BulkWorkload
+    @Transactional(readOnly = true)
+    public long export(TaskFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        log.debug("Export: Streaming tasks with filters - {} as {}, fetch size: {}", filter, format, fetchSize);
+
+        long rows;
+        try (Stream<TaskResponse> tasks = taskRepository.streamWithFilters(filter, BY_ID, fetchSize)) {
+            rows = switch (format) {
+                case NDJSON -> writeNdjson(tasks.iterator(), out);
+                case CSV -> writeCsv(tasks.iterator(), out);
+            };
+        }
+
+        log.info("Export: Wrote {} task(s) as {}", rows, format);
+        return rows;
+    }
+
+    private long writeNdjson(Iterator<TaskResponse> tasks, OutputStream out) throws IOException {
+        long rows = 0;
+        try (JsonGenerator generator = jsonWriter.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // One value per line, with no space between values
+            generator.setRootValueSeparator(null);
+            while (tasks.hasNext()) {
+                jsonWriter.writeValue(generator, tasks.next());
+                generator.writeRaw('\n');
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    private static long writeCsv(Iterator<TaskResponse> tasks, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSV_BUFFER_SIZE);
+        writer.write(CSV_HEADER);
+
+        long rows = 0;
+        while (tasks.hasNext()) {
+            TaskResponse task = tasks.next();
+            writer.write(String.valueOf(task.getId()));
+            writer.write(',');
+            writeCsvField(writer, task.getTitle());
+            writer.write(',');
+            writeCsvField(writer, task.getDescription());
+            writer.write(',');
+            writer.write(task.getStatus().name());
+            writer.write(',');
+            writer.write(task.getPriority().name());
+            writer.write(',');
+            writer.write(format(task.getDueDateTime()));
+            writer.write(',');
+            writer.write(format(task.getCreatedAt()));
+            writer.write(',');
+            writer.write(format(task.getUpdatedAt()));
+            writer.write(',');
+            writer.write(String.valueOf(task.isOverdue()));
+            writer.write("\r\n");
+            rows++;
+        }
+        // Not closed: that would close the caller's stream
+        writer.flush();
+        return rows;
+    }
+
+    // RFC 4180: quoted when it holds a comma, quote or line break, with quotes doubled
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    // Same ISO-8601 form as the JSON responses
+    private static String format(LocalDateTime value) {
+        return value == null ? "" : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+    }
+}
@@ -0,0 +1,392 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.dev.datasource.BulkWorkload;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.dto.ExportFormat;
+import uk.gov.hmcts.reform.dev.models.dto.ImportResult;
+import uk.gov.hmcts.reform.dev.outbox.TaskOutbox;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Loads tasks from an NDJSON or CSV upload, for loads too large for {@code POST /api/v1/tasks/bulk}.
+ *
+ * <p>The body is parsed one record at a time and each record is validated as a create request would
+ * be; invalid records are reported by line and skipped. Valid ones are inserted in chunks of
+ * {@code tasks.import.chunk-size}, each in its own short transaction through a Hibernate
+ * {@link StatelessSession}: no persistence context, dirty checking or cache puts, just batched
+ * INSERTs. Memory use depends on the chunk size rather than the upload, and no transaction outlives
+ * its chunk. If a chunk fails to save, the chunks before it stay committed and the import stops.
+ *
+ * <p>Metrics: {@code tasks.import.rows} (records read, tagged by result).
+ */
+@Slf4j
+@Component
+public class TaskImporter {
+
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String DUE_DATE_TIME = "duedatetime";
+    private static final String PRIORITY = "priority";
+
+    private final SessionFactory sessionFactory;
+    private final Validator validator;
+    private final ObjectReader jsonReader;
+    private final TaskCounters counters;
+    private final TaskOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    private final Counter importedRows;
+    private final Counter rejectedRows;
+
+    public TaskImporter(EntityManagerFactory entityManagerFactory,
+                        Validator validator,
+                        ObjectMapper objectMapper,
+                        TaskCounters counters,
+                        TaskOutbox outbox,
+                        ApplicationEventPublisher eventPublisher,
+                        MeterRegistry meterRegistry,
+                        @Value("${tasks.import.chunk-size:500}") int chunkSize,
+                        @Value("${tasks.import.max-errors:1000}") int maxErrors) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.validator = validator;
+        this.jsonReader = objectMapper.readerFor(CreateTaskRequest.class);
+        this.counters = counters;
+        this.outbox = outbox;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.importedRows = rows(meterRegistry, "imported");
+        this.rejectedRows = rows(meterRegistry, "rejected");
+    }
+
+    private static Counter rows(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tasks.import.rows")
+            .description("Task records read by the import")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reads the whole body, committing chunk by chunk, and reports what was imported and which
+     * lines were rejected. The body is read but not closed.
+     */
+    @BulkWorkload
+    public ImportResult importTasks(InputStream body, ExportFormat format) throws IOException {
+        log.debug("Import: Reading {} body in chunks of {}", format, chunkSize);
+
+        long started = System.nanoTime();
+        Run run = new Run();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        switch (format) {
+            case NDJSON -> readNdjson(reader, run);
+            case CSV -> readCsv(reader, run);
+        }
+        run.flush();
+
+        long elapsedMillis = Math.max(1, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        long rowsPerSecond = run.imported * 1000L / elapsedMillis;
+        log.info("Import: Imported {} task(s) and rejected {} in {} ms ({} rows/s){}",
+            run.imported, run.rejected, elapsedMillis, rowsPerSecond, run.complete ? "" : ", stopped early");
+
+        return new ImportResult(run.imported, run.rejected, run.complete, elapsedMillis, rowsPerSecond,
+            List.copyOf(run.errors));
+    }
+
+    private void readNdjson(BufferedReader reader, Run run) throws IOException {
+        long line = 0;
+        String text;
+        while (run.complete && (text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            CreateTaskRequest request;
+            try {
+                request = jsonReader.readValue(text);
+            } catch (JsonProcessingException e) {
+                run.reject(line, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            if (request == null) {
+                run.reject(line, "Expected a JSON object");
+                continue;
+            }
+            run.add(line, request);
+        }
+    }
+
+    private void readCsv(Reader reader, Run run) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            // A UTF-8 byte order mark, as spreadsheet tools write, is not part of the first name
+            String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        if (!columns.containsKey(TITLE) || !columns.containsKey(DUE_DATE_TIME)) {
+            throw new IllegalArgumentException("CSV header must include title and dueDateTime columns");
+        }
+
+        List<String> record;
+        while (run.complete && (record = csv.next()) != null) {
+            long line = csv.recordLine();
+            if (csv.unterminated()) {
+                run.reject(line, "Unterminated quoted field");
+            } else if (record.size() > 1 || !record.get(0).isBlank()) {
+                try {
+                    run.add(line, toRequest(record, columns));
+                } catch (DateTimeParseException e) {
+                    run.reject(line, "Invalid dueDateTime '" + e.getParsedString() + "', expected ISO-8601");
+                } catch (IllegalArgumentException e) {
+                    run.reject(line, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static CreateTaskRequest toRequest(List<String> record, Map<String, Integer> columns) {
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setTitle(field(record, columns, TITLE));
+        request.setDescription(field(record, columns, DESCRIPTION));
+        String dueDateTime = field(record, columns, DUE_DATE_TIME);
+        if (dueDateTime != null) {
+            request.setDueDateTime(LocalDateTime.parse(dueDateTime));
+        }
+        String priority = field(record, columns, PRIORITY);
+        if (priority != null) {
+            try {
+                request.setPriority(TaskPriority.valueOf(priority.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid priority '" + priority + "'", e);
+            }
+        }
+        return request;
+    }
+
+    // Blank and missing fields are both absent
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size() || record.get(index).isBlank()) {
+            return null;
+        }
+        return record.get(index).trim();
+    }
+
+    private void insert(List<Task> tasks) {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                tasks.forEach(session::insert);
+                // Ids are assigned by now; the outbox rows commit with the tasks
+                TaskChangedEvent event = TaskChangedEvent.of(ChangeType.CREATED, tasks);
+                session.doWork(connection -> outbox.append(connection, event));
+                transaction.commit();
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static Task toTask(CreateTaskRequest request) {
+        Task task = new Task();
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setDueDateTime(request.getDueDateTime());
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(request.getPriority() != null ? request.getPriority() : TaskPriority.MEDIUM);
+        return task;
+    }
+
+    /**
+     * State of one import: the pending chunk, its first line, totals and the reported errors.
+     */
+    private final class Run {
+
+        private final List<Task> chunk = new ArrayList<>(chunkSize);
+        private final List<ImportResult.LineError> errors = new ArrayList<>();
+        private long chunkStart;
+        private long imported;
+        private long rejected;
+        private boolean complete = true;
+
+        void add(long line, CreateTaskRequest request) {
+            Set<ConstraintViolation<CreateTaskRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                reject(line, violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; ")));
+                return;
+            }
+            if (chunk.isEmpty()) {
+                chunkStart = line;
+            }
+            chunk.add(toTask(request));
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(long line, String message) {
+            rejected++;
+            rejectedRows.increment();
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportResult.LineError(line, message));
+            }
+            log.debug("Import: Rejected line {}: {}", line, message);
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            // Timestamps and the overdue flag, which @PrePersist would set on a managed insert
+            chunk.forEach(Task::onCreate);
+            try {
+                insert(chunk);
+            } catch (RuntimeException e) {
+                log.error("Import: Chunk of {} task(s) from line {} failed, stopping", chunk.size(), chunkStart, e);
+                rejected += chunk.size();
+                rejectedRows.increment(chunk.size());
+                errors.add(new ImportResult.LineError(chunkStart, String.format(
+                    "Chunk of %d task(s) from this line not saved due to a database error; import stopped",
+                    chunk.size())));
+                chunk.clear();
+                complete = false;
+                return;
+            }
+
+            imported += chunk.size();
+            importedRows.increment(chunk.size());
+            log.debug("Import: Committed {} task(s) from line {}, {} so far", chunk.size(), chunkStart, imported);
+
+            // Committed outside any Spring transaction, so counters and listeners apply straight away
+            TaskCounters.Delta delta = new TaskCounters.Delta();
+            chunk.forEach(delta::add);
+            counters.applyAfterCommit(delta);
+            eventPublisher.publishEvent(TaskChangedEvent.of(ChangeType.CREATED, List.copyOf(chunk)));
+            chunk.clear();
+        }
+    }
+
+    /**
+     * Minimal RFC 4180 record reader: fields are comma separated, and quoted fields may hold commas,
+     * doubled quotes and line breaks. Line endings may be CRLF or LF.
+     */
+    private static final class CsvReader {
+
+        private final Reader reader;
+        private long line = 1;
+        private long recordLine;
+        private boolean unterminated;
+
+        CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        // The next record's fields, or null at end of input
+        List<String> next() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            unterminated = false;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        unterminated = true;
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c == '"') {
+                            field.append('"');
+                            c = reader.read();
+                        } else {
+                            quoted = false;
+                        }
+                        continue;
+                    }
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == -1 || c == '\n') {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        long recordLine() {
+            return recordLine;
+        }
+
+        boolean unterminated() {
+            return unterminated;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
+import uk.gov.hmcts.reform.dev.models.dto.CountMode;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps filtered list pages in memory between writes, for dashboards that poll the same filters.
+ *
+ * <p>Entries are keyed by the normalized filter, page, size, sort and count mode, plus a generation
+ * number. Every committed task change advances the generation, so later reads miss and reload;
+ * the old entries are never read again and age out. A load reads the generation before it starts,
+ * so a page read while a write commits is stored under the old generation and never served.
+ *
+ * <p>Concurrent misses on the same key share one load: the first caller runs it on its own thread
+ * (inside its transaction) and the others wait for its result.
+ */
+@Slf4j
+@Component
+public class TaskListCache {
+
+    private final boolean enabled;
+    private final Cache<Key, CompletableFuture<Slice<TaskResponse>>> pages;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public TaskListCache(@Value("${tasks.list-cache.enabled:true}") boolean enabled,
+                         @Value("${tasks.list-cache.max-size:1000}") long maxSize,
+                         @Value("${tasks.list-cache.ttl:1m}") Duration ttl,
+                         MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.pages = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        meterRegistry.gauge("tasks.list-cache.size", pages, Cache::estimatedSize);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tasks.list-cache.lookups")
+            .description("Filtered list pages looked up in the cache")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached page for these arguments, or runs {@code loader} and caches its result.
+     * Title searches are not cached: they depend on the title index, which is updated separately,
+     * and are rarely repeated.
+     */
+    public Slice<TaskResponse> get(TaskFilter filter, Pageable pageable, CountMode countMode,
+                                   Supplier<Slice<TaskResponse>> loader) {
+        if (!enabled || filter.search() != null) {
+            return loader.get();
+        }
+
+        Key key = new Key(generation.get(), filter, pageable.getPageNumber(), pageable.getPageSize(),
+            pageable.getSort(), countMode);
+        CompletableFuture<Slice<TaskResponse>> load = new CompletableFuture<>();
+        CompletableFuture<Slice<TaskResponse>> existing = pages.asMap().putIfAbsent(key, load);
+
+        if (existing != null) {
+            hits.increment();
+            log.debug("List cache: Hit for {}", key);
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                // The load we waited on failed and has been dropped; run our own
+                log.debug("List cache: Shared load for {} failed, loading again", key);
+                return loader.get();
+            }
+        }
+
+        misses.increment();
+        log.debug("List cache: Miss for {}", key);
+        try {
+            Slice<TaskResponse> page = loader.get();
+            load.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            pages.asMap().remove(key, load);
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Every task change committed through {@code TaskService} publishes an event; once it has
+     * committed, cached pages may be out of date.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * For writers that publish no event: invalidates once the current transaction commits, or
+     * straight away outside one.
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    private void invalidate() {
+        long next = generation.incrementAndGet();
+        log.debug("List cache: Advanced to generation {}", next);
+    }
+
+    private record Key(long generation, TaskFilter filter, int page, int size, Sort sort, CountMode countMode) {}
+}
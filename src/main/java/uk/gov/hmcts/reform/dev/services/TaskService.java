@@ -2,28 +2,71 @@ package uk.gov.hmcts.reform.dev.services;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.datasource.BulkWorkload;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
 import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
 import uk.gov.hmcts.reform.dev.models.TaskPriority;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.CountMode;
 import uk.gov.hmcts.reform.dev.models.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.dto.TaskCursor;
 import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
 import uk.gov.hmcts.reform.dev.models.dto.UpdateTaskRequest;
+import uk.gov.hmcts.reform.dev.outbox.TaskOutbox;
 import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.search.SearchHit;
+import uk.gov.hmcts.reform.dev.search.TaskSearchIndex;
+import uk.gov.hmcts.reform.dev.search.TitleTrigramIndex;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    // Ids per set-based UPDATE, well under the bind-parameter limits of common drivers
+    private static final int MUTATION_CHUNK_SIZE = 1000;
+
+    private static final TaskFilter OVERDUE = TaskFilter.builder().overdue(true).build();
+
     private final TaskRepository taskRepository;
+    private final TaskCountEstimator countEstimator;
+    private final TaskListCache listCache;
+    private final TaskVersions versions;
+    private final TaskCounters counters;
+    private final TitleTrigramIndex titleIndex;
+    private final TaskSearchIndex searchIndex;
+    private final TaskOutbox outbox;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Task createTask(CreateTaskRequest request) {
@@ -39,6 +82,9 @@ public class TaskService {
         log.trace("Saved task details - createdAt: {}, updatedAt: {}",
             savedTask.getCreatedAt(), savedTask.getUpdatedAt());
 
+        counters.applyAfterCommit(new TaskCounters.Delta().add(savedTask));
+        publish(TaskChangedEvent.of(ChangeType.CREATED, savedTask));
+
         return savedTask;
     }
 
@@ -58,6 +104,29 @@ public class TaskService {
             });
     }
 
+    /**
+     * Read-only lookup for GET by id, answered from the second-level cache when the task is in it.
+     * The version read is recorded in {@link TaskVersions} so later conditional GETs can skip it.
+     */
+    @Transactional(readOnly = true)
+    public TaskResponse getTaskView(Long id) {
+        log.debug("Service: Looking up task view by ID: {}", id);
+
+        TaskVersions.Watermark readAt = versions.watermark();
+        return taskRepository.findByIdAndDeletedFalse(id)
+            .map(TaskResponse::fromEntity)
+            .map(task -> {
+                log.debug("Service: Task found - ID: {}, title: '{}', status: {}, version: {}",
+                    task.getId(), task.getTitle(), task.getStatus(), task.getVersion());
+                versions.record(readAt, task);
+                return task;
+            })
+            .orElseThrow(() -> {
+                log.warn("Service: Task not found with ID: {} (or is deleted)", id);
+                return new TaskNotFoundException(id);
+            });
+    }
+
     @Transactional(readOnly = true)
     public List<Task> getAllTasks() {
         log.debug("Service: Fetching all non-deleted tasks");
@@ -71,15 +140,13 @@ public class TaskService {
     }
 
     @Transactional(readOnly = true)
-    public Page<TaskResponse> getTasksWithFilters(
-            TaskStatus status,
-            TaskPriority priority,
-            String search,
-            Pageable pageable) {
-        log.debug("Service: Fetching tasks with filters - status: {}, priority: {}, search: '{}', pageable: {}",
-            status, priority, search, pageable);
+    public Page<TaskResponse> getTasksWithFilters(TaskFilter filter, Pageable pageable) {
+        log.debug("Service: Fetching tasks with filters - {}, pageable: {}", filter, pageable);
+        checkSortable(pageable.getSort());
 
-        Page<Task> tasks = taskRepository.findWithFilters(status, priority, search, pageable);
+        Page<TaskResponse> tasks = narrowSearch(filter)
+            .map(narrowed -> findPage(narrowed, pageable))
+            .orElseGet(() -> Page.empty(pageable));
 
         log.debug("Service: Query returned {} tasks (page {}/{}, total: {})",
             tasks.getNumberOfElements(),
@@ -91,15 +158,114 @@ public class TaskService {
             log.debug("Service: No tasks found matching the filter criteria");
         }
 
-        return tasks.map(TaskResponse::fromEntity);
+        return tasks;
+    }
+
+    /**
+     * Filtered list with a caller-chosen count strategy. EXACT returns a {@link Page};
+     * NONE and ESTIMATE fetch one extra row to detect a next page and skip the COUNT query.
+     * Pages are served from {@link TaskListCache} until the next task change commits.
+     */
+    @Transactional(readOnly = true)
+    public Slice<TaskResponse> getTasksWithFilters(TaskFilter filter, Pageable pageable, CountMode countMode) {
+        return listCache.get(filter, pageable, countMode, () -> loadTasksWithFilters(filter, pageable, countMode));
+    }
+
+    private Slice<TaskResponse> loadTasksWithFilters(TaskFilter filter, Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return getTasksWithFilters(filter, pageable);
+        }
+        log.debug("Service: Fetching task slice with filters - {}, pageable: {}, count: {}",
+            filter, pageable, countMode);
+        checkSortable(pageable.getSort());
+
+        Optional<TaskFilter> narrowed = narrowSearch(filter);
+        if (narrowed.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Slice<TaskResponse> tasks = taskRepository.findSliceWithFilters(narrowed.get(), pageable);
+
+        log.debug("Service: Slice query returned {} tasks, hasNext: {}", tasks.getNumberOfElements(), tasks.hasNext());
+
+        if (countMode == CountMode.NONE) {
+            return tasks;
+        }
+        OptionalLong counted = counters.count(narrowed.get());
+        if (counted.isPresent()) {
+            return PageableExecutionUtils.getPage(tasks.getContent(), pageable, counted::getAsLong);
+        }
+        return withEstimatedTotal(tasks, pageable,
+            () -> taskRepository.countWithFilters(narrowed.get()), "filters:" + filter);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TaskResponse> getTasksAfterCursor(
+            TaskFilter filter,
+            TaskCursor after,
+            Sort.Direction direction,
+            int size) {
+        log.debug("Service: Fetching task slice by cursor - {}, after: {}, direction: {}, size: {}",
+            filter, after, direction, size);
+
+        Pageable pageable = PageRequest.of(0, size,
+            Sort.by(direction, "createdAt").and(Sort.by(direction, "id")));
+
+        Optional<TaskFilter> narrowed = narrowSearch(filter);
+        Slice<TaskResponse> tasks;
+        if (narrowed.isEmpty()) {
+            tasks = Page.empty(pageable);
+        } else if (after == null) {
+            tasks = taskRepository.findSliceWithFilters(narrowed.get(), pageable);
+        } else {
+            tasks = taskRepository.findWithFiltersAfter(narrowed.get(), after, size);
+        }
+
+        log.debug("Service: Cursor query returned {} tasks, hasNext: {}",
+            tasks.getNumberOfElements(), tasks.hasNext());
+
+        return tasks;
+    }
+
+    /**
+     * Ranked full-text search over title and description. The index supplies the ids in relevance
+     * order and only those rows are loaded; ids deleted since the index was updated are dropped.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> searchTasks(String query, int limit) {
+        log.debug("Service: Full-text search for '{}', limit: {}", query, limit);
+
+        List<SearchHit> hits = searchIndex.search(query, limit);
+        if (hits.isEmpty()) {
+            log.debug("Service: No full-text hits for '{}'", query);
+            return List.of();
+        }
+
+        Map<Long, TaskResponse> tasks = taskRepository
+            .findViewsByIdIn(hits.stream().map(SearchHit::id).toList())
+            .stream()
+            .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+
+        List<TaskResponse> results = hits.stream()
+            .map(hit -> tasks.get(hit.id()))
+            .filter(Objects::nonNull)
+            .toList();
+
+        log.debug("Service: Full-text search for '{}' returned {} hit(s), {} live task(s)",
+            query, hits.size(), results.size());
+        log.trace("Full-text hits: {}", hits);
+
+        return results;
     }
 
     @Transactional(readOnly = true)
     public Page<TaskResponse> getOverdueTasks(Pageable pageable) {
-        LocalDateTime now = LocalDateTime.now();
-        log.debug("Service: Fetching overdue tasks (dueDateTime before {})", now);
+        log.debug("Service: Fetching overdue tasks, pageable: {}", pageable);
 
-        Page<Task> tasks = taskRepository.findOverdueTasks(now, pageable);
+        OptionalLong counted = counters.count(OVERDUE);
+        Page<TaskResponse> tasks = counted.isPresent()
+            ? PageableExecutionUtils.getPage(taskRepository.findOverdueViewsSlice(pageable).getContent(), pageable,
+                counted::getAsLong)
+            : taskRepository.findOverdueViews(pageable);
 
         log.debug("Service: Found {} overdue tasks (total: {})",
             tasks.getNumberOfElements(), tasks.getTotalElements());
@@ -110,20 +276,50 @@ public class TaskService {
                 tasks.getContent().isEmpty() ? "N/A" : tasks.getContent().get(0).getDueDateTime());
         }
 
-        return tasks.map(TaskResponse::fromEntity);
+        return tasks;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TaskResponse> getOverdueTasks(Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return getOverdueTasks(pageable);
+        }
+        log.debug("Service: Fetching overdue task slice, pageable: {}, count: {}", pageable, countMode);
+
+        Slice<TaskResponse> tasks = taskRepository.findOverdueViewsSlice(pageable);
+
+        log.debug("Service: Found {} overdue tasks, hasNext: {}", tasks.getNumberOfElements(), tasks.hasNext());
+
+        if (countMode == CountMode.NONE) {
+            return tasks;
+        }
+        OptionalLong counted = counters.count(OVERDUE);
+        if (counted.isPresent()) {
+            return PageableExecutionUtils.getPage(tasks.getContent(), pageable, counted::getAsLong);
+        }
+        return withEstimatedTotal(tasks, pageable, taskRepository::countOverdueTasks, "overdue");
     }
 
+    /**
+     * Replaces the task's fields. With an {@code expectedVersion} (the If-Match ETag) the update is
+     * refused unless the task is still at that version; without one it applies to whatever is current.
+     * Either way the UPDATE itself is version-checked, so a concurrent write fails this one: with
+     * If-Match as a failed precondition, without it as an optimistic locking failure.
+     */
     @Transactional
-    public Task updateTask(Long id, UpdateTaskRequest request) {
-        log.debug("Service: Updating task ID: {} with request: {}", id, request);
+    public Task updateTask(Long id, UpdateTaskRequest request, Long expectedVersion) {
+        log.debug("Service: Updating task ID: {} with request: {}, expected version: {}",
+            id, request, expectedVersion);
 
         Task task = getTaskById(id);
+        checkVersion(task, expectedVersion);
         log.debug("Service: Current task state before update - title: '{}', status: {}, priority: {}",
             task.getTitle(), task.getStatus(), task.getPriority());
 
         final String oldTitle = task.getTitle();
         final TaskStatus oldStatus = task.getStatus();
         final TaskPriority oldPriority = task.getPriority();
+        TaskCounters.Delta delta = new TaskCounters.Delta().remove(task);
 
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -131,53 +327,64 @@ public class TaskService {
         task.setStatus(request.getStatus());
         task.setPriority(request.getPriority());
 
-        Task updatedTask = taskRepository.save(task);
+        // Flushed so @PreUpdate has set updatedAt before the event and its outbox row copy it
+        Task updatedTask = saveAndFlush(task, expectedVersion);
 
         log.debug("Service: Task {} updated - title: '{}'->'{}', status: {}->{}, priority: {}->{}",
             id, oldTitle, updatedTask.getTitle(),
             oldStatus, updatedTask.getStatus(),
             oldPriority, updatedTask.getPriority());
 
+        counters.applyAfterCommit(delta.add(updatedTask));
+        publish(TaskChangedEvent.of(ChangeType.UPDATED, updatedTask));
+
         return updatedTask;
     }
 
+    /**
+     * Single-task status change as load-modify-save: the load is usually a cache hit, and the
+     * entity update replaces just this task's cache entry, where a bulk UPDATE would evict them all.
+     */
     @Transactional
-    public Task updateTaskStatus(Long id, TaskStatus status) {
-        log.debug("Service: Updating status for task ID: {} to {}", id, status);
+    public TaskResponse updateTaskStatus(Long id, TaskStatus status, Long expectedVersion) {
+        log.debug("Service: Updating status for task ID: {} to {}, expected version: {}", id, status, expectedVersion);
 
         Task task = getTaskById(id);
-        TaskStatus oldStatus = task.getStatus();
-
-        log.debug("Service: Task {} current status: {}, new status: {}", id, oldStatus, status);
-
+        checkVersion(task, expectedVersion);
+        TaskCounters.Delta delta = new TaskCounters.Delta().remove(task);
         task.setStatus(status);
-        Task updatedTask = taskRepository.save(task);
+        // Flushed so @PreUpdate has set updatedAt and the overdue flag, and the version is incremented,
+        // for the response
+        Task updatedTask = saveAndFlush(task, expectedVersion);
 
-        log.info("Service: Task {} status changed from {} to {}", id, oldStatus, status);
+        log.info("Service: Task {} status changed to {}", id, status);
 
-        return updatedTask;
+        counters.applyAfterCommit(delta.add(updatedTask));
+        publish(TaskChangedEvent.of(ChangeType.STATUS_CHANGED, updatedTask));
+
+        return TaskResponse.fromEntity(updatedTask);
     }
 
     @Transactional
-    public void deleteTask(Long id) {
-        log.debug("Service: Soft deleting task ID: {}", id);
-
-        Task task = taskRepository.findByIdAndDeletedFalse(id)
-            .orElseThrow(() -> {
-                log.warn("Service: Cannot delete - task not found with ID: {} (or already deleted)", id);
-                return new TaskNotFoundException(id);
-            });
-
-        log.debug("Service: Task found for deletion - title: '{}', status: {}, createdAt: {}",
-            task.getTitle(), task.getStatus(), task.getCreatedAt());
+    public void deleteTask(Long id, Long expectedVersion) {
+        log.debug("Service: Soft deleting task ID: {}, expected version: {}", id, expectedVersion);
 
+        Task task = getTaskById(id);
+        checkVersion(task, expectedVersion);
+        TaskCounters.Delta delta = new TaskCounters.Delta().remove(task);
+        LocalDateTime now = LocalDateTime.now();
         task.setDeleted(true);
-        task.setDeletedAt(LocalDateTime.now());
-        taskRepository.save(task);
+        task.setDeletedAt(now);
+        // Flushed so the event carries the updatedAt set by @PreUpdate, not the previous one
+        saveAndFlush(task, expectedVersion);
+
+        log.info("Service: Task {} soft deleted at {}", id, now);
 
-        log.info("Service: Task {} soft deleted at {}", id, task.getDeletedAt());
+        counters.applyAfterCommit(delta.add(task));
+        publish(TaskChangedEvent.of(ChangeType.DELETED, task));
     }
 
+    @BulkWorkload
     @Transactional
     public List<Task> createTasks(List<CreateTaskRequest> requests) {
         log.debug("Service: Creating {} tasks in bulk", requests.size());
@@ -193,66 +400,176 @@ public class TaskService {
         log.info("Service: Bulk create completed - {} tasks saved", savedTasks.size());
         log.debug("Service: Created task IDs: {}", savedTasks.stream().map(Task::getId).toList());
 
+        TaskCounters.Delta delta = new TaskCounters.Delta();
+        savedTasks.forEach(delta::add);
+        counters.applyAfterCommit(delta);
+        publish(TaskChangedEvent.of(ChangeType.CREATED, savedTasks));
+
         return savedTasks;
     }
 
+    @BulkWorkload
     @Transactional
-    public int deleteTasks(List<Long> ids) {
+    public List<Long> deleteTasks(List<Long> ids) {
         log.debug("Service: Bulk soft delete requested for {} task IDs: {}", ids.size(), ids);
 
-        List<Task> tasks = taskRepository.findByIdInAndDeletedFalse(ids);
-
-        log.debug("Service: Found {} existing non-deleted tasks out of {} requested",
-            tasks.size(), ids.size());
-
-        if (tasks.size() < ids.size()) {
-            List<Long> foundIds = tasks.stream().map(Task::getId).toList();
-            List<Long> notFoundIds = ids.stream().filter(id -> !foundIds.contains(id)).toList();
-            log.warn("Service: {} task IDs not found or already deleted: {}", notFoundIds.size(), notFoundIds);
-        }
-
         LocalDateTime now = LocalDateTime.now();
-        tasks.forEach(task -> {
-            task.setDeleted(true);
-            task.setDeletedAt(now);
-            log.trace("Service: Marking task {} as deleted", task.getId());
-        });
+        List<Long> deleted = mutateLive(ids, chunk -> taskRepository.softDeleteByIdIn(chunk, now));
 
-        taskRepository.saveAll(tasks);
+        log.info("Service: Bulk delete completed - {} tasks soft deleted", deleted.size());
 
-        log.info("Service: Bulk delete completed - {} tasks soft deleted", tasks.size());
+        if (!deleted.isEmpty()) {
+            publish(new TaskChangedEvent(ChangeType.DELETED,
+                deleted.stream().map(id -> TaskSnapshot.deleted(id, now)).toList()));
+        }
 
-        return tasks.size();
+        return deleted;
     }
 
+    @BulkWorkload
     @Transactional
-    public int updateTasksStatus(List<Long> ids, TaskStatus status) {
+    public List<Long> updateTasksStatus(List<Long> ids, TaskStatus status) {
         log.debug("Service: Bulk status update requested for {} task IDs to status {}",
             ids.size(), status);
         log.trace("Service: Task IDs for status update: {}", ids);
 
-        List<Task> tasks = taskRepository.findByIdInAndDeletedFalse(ids);
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> updated = mutateLive(ids, chunk -> taskRepository.updateStatusByIdIn(chunk, status, now));
+
+        log.info("Service: Bulk status update completed - {} tasks updated to {}", updated.size(), status);
+
+        if (!updated.isEmpty()) {
+            publish(new TaskChangedEvent(ChangeType.STATUS_CHANGED,
+                updated.stream().map(id -> TaskSnapshot.statusChanged(id, status, now)).toList()));
+        }
+
+        return updated;
+    }
+
+    // The outbox rows are written in this transaction, so they commit or roll back with the change;
+    // in-process listeners only act once it has committed
+    private void publish(TaskChangedEvent event) {
+        outbox.append(event);
+        eventPublisher.publishEvent(event);
+    }
 
-        log.debug("Service: Found {} existing non-deleted tasks out of {} requested",
-            tasks.size(), ids.size());
+    /**
+     * Applies a set-based mutation to the live tasks among {@code ids} and returns their ids.
+     * Works in chunks so each statement stays under driver bind-parameter limits: per chunk one
+     * SELECT finds the live ids and one UPDATE changes exactly those rows. The rows are counted by
+     * status, priority and flags either side of the UPDATE to adjust the task counters.
+     */
+    private List<Long> mutateLive(List<Long> ids, ToIntFunction<List<Long>> mutation) {
+        List<Long> distinct = ids.stream().distinct().toList();
+        List<Long> affected = new ArrayList<>(distinct.size());
+        TaskCounters.Delta delta = new TaskCounters.Delta();
+
+        for (int from = 0; from < distinct.size(); from += MUTATION_CHUNK_SIZE) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + MUTATION_CHUNK_SIZE, distinct.size()));
+            List<Long> live = taskRepository.findLiveIdsIn(chunk);
+            if (live.isEmpty()) {
+                continue;
+            }
+            delta.remove(taskRepository.countByStateIn(live));
+            int changed = mutation.applyAsInt(live);
+            delta.add(taskRepository.countByStateIn(live));
+            if (changed != live.size()) {
+                // Another transaction deleted some of them in between; the events stay idempotent
+                log.warn("Service: Expected to change {} tasks but changed {}", live.size(), changed);
+            }
+            affected.addAll(live);
+        }
+        counters.applyAfterCommit(delta);
 
-        if (tasks.size() < ids.size()) {
-            List<Long> foundIds = tasks.stream().map(Task::getId).toList();
-            List<Long> notFoundIds = ids.stream().filter(id -> !foundIds.contains(id)).toList();
+        if (affected.size() < distinct.size()) {
+            Set<Long> found = new HashSet<>(affected);
+            List<Long> notFoundIds = distinct.stream().filter(id -> !found.contains(id)).toList();
             log.warn("Service: {} task IDs not found or already deleted: {}", notFoundIds.size(), notFoundIds);
         }
+        return affected;
+    }
+
+    /**
+     * A page with its total. When the counters can answer the filter, the total comes from them
+     * and only the page query runs; otherwise the repository adds a COUNT query.
+     */
+    private Page<TaskResponse> findPage(TaskFilter filter, Pageable pageable) {
+        OptionalLong counted = counters.count(filter);
+        if (counted.isEmpty()) {
+            return taskRepository.findWithFilters(filter, pageable);
+        }
+        Slice<TaskResponse> tasks = taskRepository.findSliceWithFilters(filter, pageable);
+        return PageableExecutionUtils.getPage(tasks.getContent(), pageable, counted::getAsLong);
+    }
+
+    // The If-Match check: a caller holding an older version would overwrite changes it never saw
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            log.warn("Service: Task {} is at version {}, not the expected {}",
+                task.getId(), task.getVersion(), expectedVersion);
+            throw new TaskVersionMismatchException(task.getId(), expectedVersion, task.getVersion());
+        }
+    }
 
-        tasks.forEach(task -> {
-            TaskStatus oldStatus = task.getStatus();
-            task.setStatus(status);
-            log.trace("Service: Task {} status changing from {} to {}", task.getId(), oldStatus, status);
-        });
+    /**
+     * Flushes a single-task write. Two writers sending the same, current If-Match both pass
+     * {@link #checkVersion}; the loser only finds out when its version-checked UPDATE matches no row.
+     * That is the same failed precondition, so with If-Match it is reported the same way.
+     */
+    private Task saveAndFlush(Task task, Long expectedVersion) {
+        try {
+            return taskRepository.saveAndFlush(task);
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion == null) {
+                throw e;
+            }
+            log.warn("Service: Task {} was changed by a concurrent write after If-Match version {} was checked",
+                task.getId(), expectedVersion);
+            throw new TaskVersionMismatchException(task.getId(), expectedVersion, e);
+        }
+    }
 
-        taskRepository.saveAll(tasks);
+    private static void checkSortable(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!TaskRepository.SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+        }
+    }
 
-        log.info("Service: Bulk status update completed - {} tasks updated to {}", tasks.size(), status);
+    /**
+     * Resolves the title search through the trigram index when it can answer, replacing the LIKE
+     * with the matching ids. Empty when the index shows that nothing matches.
+     */
+    private Optional<TaskFilter> narrowSearch(TaskFilter filter) {
+        Optional<Set<Long>> matches = titleIndex.match(filter.search());
+        if (matches.isEmpty()) {
+            return Optional.of(filter);
+        }
+        if (matches.get().isEmpty()) {
+            log.debug("Service: Title index found no match for '{}'", filter.search());
+            return Optional.empty();
+        }
+        log.debug("Service: Title index narrowed search '{}' to {} candidate(s)",
+            filter.search(), matches.get().size());
+        return Optional.of(filter.toBuilder().search(null).ids(matches.get()).build());
+    }
 
-        return tasks.size();
+    /**
+     * Wraps a slice in a page whose total comes from the estimator. The slice's own
+     * look-ahead stays authoritative: the total never claims fewer rows than were seen,
+     * and on the last page it is exact.
+     */
+    private Page<TaskResponse> withEstimatedTotal(Slice<TaskResponse> tasks, Pageable pageable,
+                                                  LongSupplier exactCount, String key) {
+        long seen = pageable.getOffset() + tasks.getNumberOfElements();
+        long total = tasks.hasNext()
+            ? Math.max(countEstimator.estimate(key, exactCount), seen + 1)
+            : seen;
+
+        log.debug("Service: Estimated total for '{}': {}", key, total);
+
+        return new PageImpl<>(tasks.getContent(), pageable, total);
     }
 
     private Task createNewTaskObject(CreateTaskRequest request) {
@@ -0,0 +1,98 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.reform.dev.exceptions.ChangeTokenExpiredException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.dto.ChangeToken;
+import uk.gov.hmcts.reform.dev.models.dto.TaskChanges;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta sync: what changed since a client's last {@link ChangeToken}, read as one seek on
+ * {@code (updated_at, id)}, so a sync costs in proportion to the changes rather than the table.
+ * Every write sets {@code updatedAt}, soft deletes included, and those come back as tombstones.
+ *
+ * <p>{@code updatedAt} is stamped when a change is flushed, not when it commits, and reads may come
+ * from a replica up to {@code tasks.replicas.max-lag} behind. So a sync only reads up to the settle
+ * delay (plus that lag) before now: a change that commits late would otherwise land behind a token
+ * the client has already moved past, and never be seen.
+ *
+ * <p>Tombstones last until {@link TaskArchiver} removes the row, so a token older than the archive
+ * retention is refused and the client syncs again from the start.
+ */
+@Slf4j
+@Component
+public class TaskSync {
+
+    private final TaskRepository taskRepository;
+    private final Duration horizon;
+    private final Duration retention;
+    private final boolean archiving;
+
+    public TaskSync(TaskRepository taskRepository,
+                    @Value("${tasks.changes.settle-delay:5s}") Duration settleDelay,
+                    @Value("${tasks.replicas.enabled:false}") boolean replicas,
+                    @Value("${tasks.replicas.max-lag:5s}") Duration maxLag,
+                    @Value("${tasks.archive.enabled:true}") boolean archiving,
+                    @Value("${tasks.archive.retention:30d}") Duration retention) {
+        this.taskRepository = taskRepository;
+        this.horizon = replicas ? settleDelay.plus(maxLag) : settleDelay;
+        this.archiving = archiving;
+        this.retention = retention;
+    }
+
+    /**
+     * Up to {@code limit} changes after the token, oldest first, and the token to pass next time.
+     */
+    @Transactional(readOnly = true)
+    public TaskChanges changesSince(ChangeToken token, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        if (archiving && !token.isStart() && token.updatedAt().isBefore(now.minus(retention))) {
+            throw new ChangeTokenExpiredException(retention);
+        }
+        LocalDateTime until = now.minus(horizon);
+
+        // One extra row says whether there is more without a count
+        List<Task> rows = taskRepository.findChangedAfter(
+            token.updatedAt(), token.id(), until, PageRequest.of(0, limit + 1));
+        boolean hasMore = rows.size() > limit;
+        if (hasMore) {
+            rows = rows.subList(0, limit);
+        }
+
+        List<TaskResponse> changed = new ArrayList<>();
+        List<TaskChanges.Tombstone> deleted = new ArrayList<>();
+        for (Task task : rows) {
+            if (task.isDeleted()) {
+                deleted.add(new TaskChanges.Tombstone(task.getId(), task.getDeletedAt()));
+            } else {
+                changed.add(TaskResponse.fromEntity(task));
+            }
+        }
+
+        ChangeToken next = next(token, rows, hasMore, until);
+        log.info("Sync: {} changed, {} deleted since {}, hasMore: {}", changed.size(), deleted.size(),
+            token.isStart() ? "the start" : token.updatedAt(), hasMore);
+        return new TaskChanges(changed, deleted, hasMore, next.encode());
+    }
+
+    // Past the last row while there is more; once caught up, up to where this sync read, since nothing
+    // before that can still appear. Never moves backwards, e.g. when called again within the horizon.
+    private static ChangeToken next(ChangeToken token, List<Task> rows, boolean hasMore, LocalDateTime until) {
+        if (hasMore) {
+            Task last = rows.getLast();
+            return new ChangeToken(last.getUpdatedAt(), last.getId());
+        }
+        return until.isAfter(token.updatedAt()) ? new ChangeToken(until, 0L) : token;
+    }
+}
@@ -0,0 +1,179 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.datasource.ReplicaLagMonitor;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * What conditional GETs are validated against, kept in memory so a poll for something unchanged
+ * is answered with 304 before any query runs.
+ *
+ * <p>For single tasks: the last version and {@code updatedAt} read for each id. A committed change
+ * to a task drops its entry, so the next read goes to the database and records the new version.
+ * A read records what it saw only if no change committed while it ran. With read replicas on, it
+ * also has to be sure the replica that may have served it had caught up with the last change: the
+ * invalidating event can fire before a lagging replica shows the change, and a version recorded
+ * from that replica would answer 304 to clients holding the old ETag until the TTL.
+ *
+ * <p>For lists: a watermark that every committed task change advances, and the TTL at the latest.
+ * The list ETag is the watermark, so it changes whenever any task does; it starts from a per-start
+ * epoch so ETags from before a restart never match.
+ */
+@Slf4j
+@Component
+public class TaskVersions {
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Cache<Long, Version> versions;
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicReference<Watermark> watermark;
+    private final Counter hits;
+    private final Counter misses;
+    // Present with tasks.replicas.enabled
+    private final ReplicaLagMonitor replicaLag;
+
+    public TaskVersions(@Value("${tasks.versions.enabled:true}") boolean enabled,
+                        @Value("${tasks.versions.max-size:100000}") long maxSize,
+                        @Value("${tasks.versions.ttl:10m}") Duration ttl,
+                        MeterRegistry meterRegistry,
+                        Optional<ReplicaLagMonitor> replicaLag) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.replicaLag = replicaLag.orElse(null);
+        this.versions = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+        this.watermark = new AtomicReference<>(new Watermark(epoch, 0, Instant.now()));
+        this.hits = lookups(meterRegistry, "hit");
+        this.misses = lookups(meterRegistry, "miss");
+        meterRegistry.gauge("tasks.versions.size", versions, Cache::estimatedSize);
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("tasks.versions.lookups")
+            .description("Task versions looked up to answer a conditional GET")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * The last version read for this task, if it has not changed since.
+     */
+    public Optional<Version> get(Long id) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Version version = versions.getIfPresent(id);
+        (version != null ? hits : misses).increment();
+        return Optional.ofNullable(version);
+    }
+
+    /**
+     * The current list watermark. Writes made outside this instance publish no event here, so a
+     * watermark older than the TTL is moved on anyway, bounding how long they can go unseen.
+     */
+    public Watermark watermark() {
+        Watermark current = watermark.get();
+        Instant now = Instant.now();
+        if (current.changedAt().plus(ttl).isBefore(now) && watermark.compareAndSet(current, current.next(now))) {
+            log.debug("Versions: Advanced watermark to {} after {} without changes", current.generation() + 1, ttl);
+        }
+        return watermark.get();
+    }
+
+    /**
+     * Records the version of a task just read. {@code readAt} is the watermark taken before the
+     * read: when a change has committed since, the read may predate it and nothing is kept. Nor is
+     * anything kept while the replicas may not show the last change yet.
+     */
+    public void record(Watermark readAt, TaskResponse task) {
+        if (!enabled) {
+            return;
+        }
+        if (replicaLag != null && readAt.changedAt().isAfter(replicaLag.caughtUpTo())) {
+            log.debug("Versions: Not recording task {}, replicas may not have caught up", task.getId());
+            return;
+        }
+        versions.put(task.getId(), new Version(task.getVersion(), lastModified(task.getUpdatedAt())));
+        // Checked after the put: a change committing in between has either advanced the watermark
+        // already, and this drops the entry, or will drop it itself once it has
+        if (watermark.get().generation() != readAt.generation()) {
+            versions.invalidate(task.getId());
+        }
+    }
+
+    /**
+     * Every task change committed through {@code TaskService} or {@code TaskImporter} publishes an
+     * event; once it has committed, those tasks and every list may have changed.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        advance();
+        versions.invalidateAll(event.tasks().stream().map(TaskSnapshot::id).toList());
+    }
+
+    /**
+     * For writers that publish no event and do not know which tasks they changed: forgets every
+     * version once the current transaction commits, or straight away outside one.
+     */
+    public void invalidateAllAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateAll();
+            }
+        });
+    }
+
+    private void invalidateAll() {
+        advance();
+        versions.invalidateAll();
+    }
+
+    private void advance() {
+        Watermark next = watermark.updateAndGet(current -> current.next(Instant.now()));
+        log.debug("Versions: Advanced watermark to {}", next.generation());
+    }
+
+    // updatedAt is written from LocalDateTime.now(), i.e. in the server's zone
+    public static Instant lastModified(LocalDateTime updatedAt) {
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    public record Version(long version, Instant lastModified) {}
+
+    public record Watermark(String epoch, long generation, Instant changedAt) {
+
+        public String etag() {
+            return "\"" + epoch + "-" + generation + "\"";
+        }
+
+        Watermark next(Instant now) {
+            return new Watermark(epoch, generation + 1, now);
+        }
+    }
+}
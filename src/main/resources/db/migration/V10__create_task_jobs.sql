@@ -0,0 +1,41 @@
+-- Asynchronous bulk jobs (bulk endpoints called with Prefer: respond-async). The request is kept as
+-- numbered chunks and next_chunk advances in the same transaction as each chunk's writes, so after
+-- a restart a job carries on from the first chunk that had not committed.
+CREATE TABLE task_jobs (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type           VARCHAR(20)  NOT NULL,
+    state          VARCHAR(20)  NOT NULL,
+    target_status  VARCHAR(20),
+    total_items    INT          NOT NULL,
+    total_chunks   INT          NOT NULL,
+    next_chunk     INT          NOT NULL DEFAULT 0,
+    succeeded      INT          NOT NULL DEFAULT 0,
+    failed         INT          NOT NULL DEFAULT 0,
+    error          VARCHAR(1000),
+    created_at     TIMESTAMP(6) NOT NULL,
+    started_at     TIMESTAMP(6),
+    finished_at    TIMESTAMP(6),
+    -- Advanced with every committed chunk; a RUNNING job left untouched too long is claimed again
+    heartbeat_at   TIMESTAMP(6) NOT NULL
+);
+
+-- Workers look for queued jobs, and running ones whose heartbeat has gone stale
+CREATE INDEX idx_task_jobs_state ON task_jobs (state, heartbeat_at, id);
+
+-- Items not yet processed, as a JSON array per chunk; deleted as each chunk commits
+CREATE TABLE task_job_chunks (
+    job_id      BIGINT NOT NULL REFERENCES task_jobs (id) ON DELETE CASCADE,
+    chunk_no    INT    NOT NULL,
+    first_item  INT    NOT NULL,
+    items       TEXT   NOT NULL,
+    PRIMARY KEY (job_id, chunk_no)
+);
+
+-- Items that could not be applied, capped per job by tasks.jobs.max-failures
+CREATE TABLE task_job_failures (
+    job_id      BIGINT        NOT NULL REFERENCES task_jobs (id) ON DELETE CASCADE,
+    item_index  INT           NOT NULL,
+    task_id     BIGINT,
+    message     VARCHAR(1000) NOT NULL,
+    PRIMARY KEY (job_id, item_index)
+);
@@ -0,0 +1,13 @@
+-- Baseline schema, matching what hibernate ddl-auto previously generated for the Task entity.
+CREATE TABLE tasks (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title          VARCHAR(255) NOT NULL,
+    description    VARCHAR(255),
+    status         VARCHAR(20)  NOT NULL,
+    priority       VARCHAR(20)  NOT NULL,
+    due_date_time  TIMESTAMP(6) NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    deleted        BOOLEAN      NOT NULL DEFAULT FALSE,
+    deleted_at     TIMESTAMP(6)
+);
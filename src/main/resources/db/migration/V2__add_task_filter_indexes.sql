@@ -0,0 +1,15 @@
+-- Composite indexes for the TaskRepository access paths. Every query filters on deleted = false
+-- first, so it leads each index; the remaining columns follow the equality filters and then the
+-- default sort so pages can be read in index order.
+
+-- findWithFilters with status (and optionally priority), sorted by createdAt
+CREATE INDEX idx_tasks_status_priority_created ON tasks (deleted, status, priority, created_at);
+
+-- findWithFilters with priority only
+CREATE INDEX idx_tasks_priority_created ON tasks (deleted, priority, created_at);
+
+-- Unfiltered lists and keyset pagination on (createdAt, id)
+CREATE INDEX idx_tasks_created_id ON tasks (deleted, created_at, id);
+
+-- findOverdueTasks: range on due_date_time, status checked from the index entry
+CREATE INDEX idx_tasks_due_status ON tasks (deleted, due_date_time, status);
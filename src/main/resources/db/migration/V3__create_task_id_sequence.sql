@@ -0,0 +1,8 @@
+-- Task ids now come from a sequence so Hibernate can assign them before INSERT and batch the
+-- statements; IDENTITY forces one round trip per row to read the generated key back.
+--
+-- Each nextval hands out a block of 50 ids (pooled-lo: the value is the first id of the block),
+-- matching allocationSize on Task.id. START WITH only takes a literal on most databases, so the
+-- sequence is moved past the highest existing id by the V3_1 Java migration (db.migration), and
+-- rows created before this migration keep their ids.
+CREATE SEQUENCE task_id_seq START WITH 1 INCREMENT BY 50;
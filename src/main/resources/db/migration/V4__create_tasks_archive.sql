@@ -0,0 +1,17 @@
+-- Soft-deleted tasks past their retention period are moved here by TaskArchiver, so the hot
+-- tasks table (and every index on it) only carries live rows plus recent deletions.
+CREATE TABLE tasks_archive (
+    id             BIGINT       PRIMARY KEY,
+    title          VARCHAR(255) NOT NULL,
+    description    VARCHAR(255),
+    status         VARCHAR(20)  NOT NULL,
+    priority       VARCHAR(20)  NOT NULL,
+    due_date_time  TIMESTAMP(6) NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    updated_at     TIMESTAMP(6) NOT NULL,
+    deleted_at     TIMESTAMP(6),
+    archived_at    TIMESTAMP(6) NOT NULL
+);
+
+-- TaskArchiver: range on deleted_at among deleted rows, oldest first
+CREATE INDEX idx_tasks_deleted_at ON tasks (deleted, deleted_at, id);
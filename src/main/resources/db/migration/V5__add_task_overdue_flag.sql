@@ -0,0 +1,11 @@
+-- Overdue is stored instead of derived from status and due_date_time on every read, so the overdue
+-- list and its count are an equality lookup on this index rather than an inequality on status plus
+-- a range on due date. The application keeps it current on writes and OverdueTaskMarker sets it
+-- as due dates pass.
+ALTER TABLE tasks ADD COLUMN overdue BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE tasks SET overdue = TRUE
+WHERE deleted = FALSE AND status <> 'COMPLETED' AND due_date_time < LOCALTIMESTAMP;
+
+-- findOverdueTasks / overdue=true filter, ordered by due date; also OverdueTaskMarker's window scan
+CREATE INDEX idx_tasks_overdue_due ON tasks (deleted, overdue, due_date_time);
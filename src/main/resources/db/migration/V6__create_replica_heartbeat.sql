@@ -0,0 +1,8 @@
+-- One row the application rewrites on the primary every heartbeat interval. Reading it back from
+-- a replica tells ReplicaLagMonitor how far behind that replica is, whatever replicates it.
+CREATE TABLE replica_heartbeat (
+    id       INT          PRIMARY KEY,
+    beat_at  TIMESTAMP(6) NOT NULL
+);
+
+INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, LOCALTIMESTAMP);
@@ -0,0 +1,4 @@
+-- Optimistic locking: every UPDATE of a task, through the entity or in bulk, increments version and
+-- the entity UPDATE only matches the version it read. The API returns it as the task's ETag and
+-- checks If-Match against it, so concurrent editors are refused instead of overwriting each other.
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- Delta sync (GET /api/v1/tasks/changes) seeks on (updated_at, id) from the client's token, so its
+-- cost follows the number of changed rows rather than the size of the table. Not filtered on
+-- deleted: soft deletes set updated_at too and are returned as tombstones.
+CREATE INDEX idx_tasks_updated_id ON tasks (updated_at, id);
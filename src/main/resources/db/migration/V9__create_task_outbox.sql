@@ -0,0 +1,10 @@
+-- Transactional outbox: one compact row per changed task, inserted in the same transaction as the
+-- change and deleted once TaskOutboxRelay has handed it to every sink. Read in id order.
+CREATE TABLE task_outbox (
+    id           BIGINT       GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id      BIGINT       NOT NULL,
+    change_type  VARCHAR(20)  NOT NULL,
+    status       VARCHAR(20),
+    priority     VARCHAR(20),
+    occurred_at  TIMESTAMP(6) NOT NULL
+);
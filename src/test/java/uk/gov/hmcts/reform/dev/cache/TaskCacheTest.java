@@ -0,0 +1,166 @@
+package uk.gov.hmcts.reform.dev.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.datasource.ReplicaDataSourceConfig;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs each step in its own committed transaction, as the service does, since the second-level
+ * cache is only read and updated across transactions. Read-only transactions are set up as they
+ * are with read replicas on.
+ */
+@DataJpaTest
+@Import({TaskCacheConfig.class, TaskCacheTest.ReplicaReads.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskCacheTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterBinder taskCacheMetrics;
+
+    private TransactionTemplate transaction;
+    private MeterRegistry meterRegistry;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        meterRegistry = new SimpleMeterRegistry();
+        taskCacheMetrics.bindTo(meterRegistry);
+
+        Task task = new Task();
+        task.setTitle("Cached Task");
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setDueDateTime(LocalDateTime.now().plusDays(1));
+        taskId = transaction.execute(status -> taskRepository.save(task).getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> taskRepository.deleteAllInBatch());
+    }
+
+    private Optional<Task> find() {
+        return transaction.execute(status -> taskRepository.findByIdAndDeletedFalse(taskId));
+    }
+
+    private boolean cached() {
+        return entityManagerFactory.getCache().contains(Task.class, taskId);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", Task.CACHE_REGION).tag("result", result)
+            .functionCounter().count();
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated lookup by ID from the cache")
+    void shouldCacheLookupById() {
+        double hits = gets("hit");
+
+        find();
+        assertThat(cached()).isTrue();
+        assertThat(find()).get().extracting(Task::getTitle).isEqualTo("Cached Task");
+
+        assertThat(gets("hit")).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("Should not return a cached task once it has been soft deleted")
+    void shouldHonourEntitySoftDelete() {
+        find();
+
+        transaction.executeWithoutResult(status -> {
+            Task task = taskRepository.findByIdAndDeletedFalse(taskId).orElseThrow();
+            task.setDeleted(true);
+            task.setDeletedAt(LocalDateTime.now());
+        });
+
+        assertThat(find()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evict the cached task on a bulk soft delete")
+    void shouldEvictOnBulkSoftDelete() {
+        find();
+
+        transaction.executeWithoutResult(status -> taskRepository.softDeleteByIdIn(List.of(taskId),
+            LocalDateTime.now()));
+
+        assertThat(cached()).isFalse();
+        assertThat(find()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should evict the cached task on a bulk status update")
+    void shouldEvictOnBulkStatusUpdate() {
+        find();
+
+        transaction.executeWithoutResult(status -> taskRepository.updateStatusByIdIn(List.of(taskId),
+            TaskStatus.COMPLETED, LocalDateTime.now()));
+
+        assertThat(cached()).isFalse();
+        assertThat(find()).get().extracting(Task::getStatus).isEqualTo(TaskStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Should not cache a task loaded by a read-only transaction, which may be on a replica")
+    void shouldNotCacheReadOnlyLoads() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.execute(status -> taskRepository.findByIdAndDeletedFalse(taskId));
+        assertThat(cached()).isFalse();
+
+        // Loaded on the primary, the task is cached and read-only lookups are still answered from it
+        find();
+        double hits = gets("hit");
+        assertThat(readOnly.execute(status -> taskRepository.findByIdAndDeletedFalse(taskId))).isPresent();
+        assertThat(gets("hit")).isEqualTo(hits + 1);
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class ReplicaReads {
+
+        @Bean
+        static BeanPostProcessor replicaReadJpaDialectInstaller() {
+            return ReplicaDataSourceConfig.replicaReadJpaDialectInstaller();
+        }
+    }
+}
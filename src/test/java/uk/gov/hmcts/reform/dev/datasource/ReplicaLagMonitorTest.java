@@ -0,0 +1,118 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ReplicaLagMonitorTest {
+
+    private MeterRegistry meterRegistry;
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private ReplicaRoutingDataSource routing;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DataSource primaryDataSource = database();
+        DataSource replicaDataSource = database();
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        routing = new ReplicaRoutingDataSource(primaryDataSource, Map.of("replica-1", replicaDataSource),
+            meterRegistry);
+        monitor = new ReplicaLagMonitor(primaryDataSource, routing, meterRegistry, Duration.ofSeconds(5));
+    }
+
+    private static DataSource database() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:heartbeat-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_at TIMESTAMP(6) NOT NULL)");
+        jdbc.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", LocalDateTime.now());
+        return dataSource;
+    }
+
+    private void replicaBeatAt(LocalDateTime beat) {
+        replica.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", beat);
+    }
+
+    @Test
+    @DisplayName("Should put a replica within the lag limit into rotation")
+    void shouldAddFreshReplica() {
+        monitor.check();
+
+        assertThat(routing.isAvailable("replica-1")).isTrue();
+        assertThat(meterRegistry.get("tasks.replicas.lag").tag("replica", "replica-1").gauge().value())
+            .isLessThan(5.0);
+    }
+
+    @Test
+    @DisplayName("Should take a replica out of rotation once it falls behind")
+    void shouldRemoveLaggingReplica() {
+        monitor.check();
+        replicaBeatAt(LocalDateTime.now().minusSeconds(30));
+
+        monitor.check();
+
+        assertThat(routing.isAvailable("replica-1")).isFalse();
+        assertThat(meterRegistry.get("tasks.replicas.lag").tag("replica", "replica-1").gauge().value())
+            .isCloseTo(30.0, within(1.0));
+    }
+
+    @Test
+    @DisplayName("Should take a replica out of rotation when its heartbeat cannot be read")
+    void shouldRemoveUnreadableReplica() {
+        monitor.check();
+        replica.execute("DROP TABLE replica_heartbeat");
+
+        monitor.check();
+
+        assertThat(routing.isAvailable("replica-1")).isFalse();
+        assertThat(meterRegistry.get("tasks.replicas.lag").tag("replica", "replica-1").gauge().value()).isNaN();
+    }
+
+    @Test
+    @DisplayName("Should write a fresh heartbeat to the primary on every check")
+    void shouldWriteHeartbeat() {
+        primary.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", LocalDateTime.now().minusHours(1));
+
+        monitor.check();
+
+        LocalDateTime beat = primary.queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1",
+            LocalDateTime.class);
+        assertThat(Duration.between(beat, LocalDateTime.now())).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should report the heartbeat replicas in rotation have caught up to")
+    void shouldReportCaughtUpTo() {
+        // The column keeps microseconds
+        LocalDateTime beat = LocalDateTime.now().minusSeconds(2).truncatedTo(ChronoUnit.MICROS);
+        replicaBeatAt(beat);
+
+        monitor.check();
+        assertThat(monitor.caughtUpTo()).isEqualTo(beat.atZone(ZoneId.systemDefault()).toInstant());
+
+        // Out of rotation, the replica serves no reads; they go to the primary
+        replicaBeatAt(LocalDateTime.now().minusSeconds(30));
+        monitor.check();
+        assertThat(monitor.caughtUpTo()).isAfter(Instant.now().minusSeconds(1));
+    }
+}
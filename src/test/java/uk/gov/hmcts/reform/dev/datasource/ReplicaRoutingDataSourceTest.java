@@ -0,0 +1,121 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Wires the routing datasource the way {@link ReplicaDataSourceConfig} does, over separate
+ * in-memory H2 databases that each identify themselves, and checks where transactions land.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private MeterRegistry meterRegistry;
+    private ReplicaRoutingDataSource routing;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", database("replica-1"));
+        replicas.put("replica-2", database("replica-2"));
+        wire(database("primary"), replicas);
+    }
+
+    private void wire(DataSource primary, Map<String, DataSource> replicas) {
+        routing = new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    @DisplayName("Should read from the primary until a replica's lag has been checked")
+    void shouldUsePrimaryBeforeFirstCheck() {
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(meterRegistry.get("tasks.replicas.reads").tag("target", "primary").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should rotate read-only transactions over available replicas")
+    void shouldRotateOverReplicas() {
+        routing.setAvailable("replica-1", true);
+        routing.setAvailable("replica-2", true);
+
+        assertThat(readOnlyNode()).isEqualTo("replica-1");
+        assertThat(readOnlyNode()).isEqualTo("replica-2");
+        assertThat(readOnlyNode()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("Should keep read-write transactions on the primary")
+    void shouldWriteToPrimary() {
+        routing.setAvailable("replica-1", true);
+
+        String node = readWrite.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should skip replicas taken out of rotation")
+    void shouldSkipUnavailableReplica() {
+        routing.setAvailable("replica-1", true);
+        routing.setAvailable("replica-2", true);
+        routing.setAvailable("replica-1", false);
+
+        assertThat(readOnlyNode()).isEqualTo("replica-2");
+        assertThat(readOnlyNode()).isEqualTo("replica-2");
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary and drop a replica that refuses connections")
+    void shouldFallBackWhenReplicaDown() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("Connection refused"));
+        wire(database("primary"), Map.of("replica-1", down));
+        routing.setAvailable("replica-1", true);
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+        assertThat(routing.isAvailable("replica-1")).isFalse();
+    }
+}
@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.dev.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Wires the application datasource with {@link DataSourceConfig} over one in-memory H2 database
+ * per pool, each of which identifies itself, and checks which pool each kind of work lands on.
+ */
+class WorkloadRoutingTest {
+
+    private Jobs jobs;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DataSourceConfig().dataSource(
+            database("read"), database("write"), database("bulk"),
+            new StaticListableBeanFactory().getBeanProvider(ReplicaRoutingDataSource.class));
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new Jobs(dataSource));
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(BulkWorkloadAspect.class);
+        jobs = proxyFactory.getProxy();
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:pool-" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("Should take interactive read-only transactions from the read pool")
+    void shouldReadFromReadPool() {
+        assertThat(jobs.node(true)).isEqualTo("read");
+    }
+
+    @Test
+    @DisplayName("Should take interactive read-write transactions from the write pool")
+    void shouldWriteToWritePool() {
+        assertThat(jobs.node(false)).isEqualTo("write");
+    }
+
+    @Test
+    @DisplayName("Should take bulk transactions from the bulk pool, read-only or not")
+    void shouldUseBulkPool() {
+        assertThat(jobs.bulkNode(false)).isEqualTo("bulk");
+        assertThat(jobs.bulkNode(true)).isEqualTo("bulk");
+    }
+
+    @Test
+    @DisplayName("Should restore the interactive workload after a bulk method, even when it fails")
+    void shouldRestoreWorkload() {
+        assertThatThrownBy(() -> jobs.failingBulk()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(Workload.current()).isEqualTo(Workload.INTERACTIVE);
+        assertThat(jobs.node(false)).isEqualTo("write");
+    }
+
+    public static class Jobs {
+
+        private final JdbcTemplate jdbc;
+        private final DataSourceTransactionManager transactionManager;
+
+        Jobs(DataSource dataSource) {
+            this.jdbc = new JdbcTemplate(dataSource);
+            this.transactionManager = new DataSourceTransactionManager(dataSource);
+        }
+
+        public String node(boolean readOnly) {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(readOnly);
+            return transaction.execute(status -> jdbc.queryForObject("SELECT name FROM node", String.class));
+        }
+
+        @BulkWorkload
+        public String bulkNode(boolean readOnly) {
+            return node(readOnly);
+        }
+
+        @BulkWorkload
+        public void failingBulk() {
+            throw new IllegalStateException("Bulk job failed");
+        }
+    }
+}
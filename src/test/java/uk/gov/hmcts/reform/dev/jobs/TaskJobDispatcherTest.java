@@ -0,0 +1,64 @@
+package uk.gov.hmcts.reform.dev.jobs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskJobDispatcherTest {
+
+    @Mock
+    private TaskJobStore store;
+
+    @Mock
+    private TaskJobRunner runner;
+
+    private TaskJobDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Should start the next job on a single worker once the job before it has run")
+    void shouldStartNextJobWhenWorkerFreesUp() {
+        dispatcher = new TaskJobDispatcher(store, runner, new SimpleMeterRegistry(), 1, 2,
+            Duration.ofMinutes(2), Duration.ofDays(7));
+        when(store.claimable(any(), anyInt())).thenReturn(List.of(1L), List.of(2L), List.of());
+        when(store.claim(anyLong(), any(), any())).thenReturn(true);
+
+        dispatcher.dispatch();
+
+        verify(runner, timeout(5000)).run(1L);
+        verify(runner, timeout(5000)).run(2L);
+        verify(store, never()).requeue(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should refuse as many workers as there are bulk connections")
+    void shouldRefuseWorkersFillingBulkPool() {
+        assertThatThrownBy(() -> new TaskJobDispatcher(store, runner, new SimpleMeterRegistry(), 2, 2,
+            Duration.ofMinutes(2), Duration.ofDays(7)))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("tasks.pools.bulk.maximum-pool-size (2)");
+    }
+}
@@ -0,0 +1,170 @@
+package uk.gov.hmcts.reform.dev.jobs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.dto.TaskJobResponse.ItemFailure;
+import uk.gov.hmcts.reform.dev.services.TaskService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskJobRunnerTest {
+
+    private static final long JOB_ID = 7L;
+    private static final String NOT_FOUND = "Task not found or already deleted";
+
+    @Mock
+    private TaskJobStore store;
+
+    @Mock
+    private TaskService taskService;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private static TaskJob job(JobType type, int nextChunk, int totalChunks, int failed) {
+        return new TaskJob(JOB_ID, type, JobState.RUNNING, type == JobType.STATUS_UPDATE ? TaskStatus.COMPLETED : null,
+            totalChunks * 3, totalChunks, nextChunk, 0, failed, null, LocalDateTime.now(), LocalDateTime.now(), null);
+    }
+
+    @Test
+    @DisplayName("Should create the valid items of a chunk and report the invalid ones")
+    @SuppressWarnings("unchecked")
+    void shouldCreateValidItems() {
+        TaskJobRunner runner = runner(100);
+        when(store.find(JOB_ID)).thenReturn(Optional.of(job(JobType.CREATE, 0, 1, 0)),
+            Optional.of(job(JobType.CREATE, 1, 1, 0)));
+        when(store.startChunk(eq(JOB_ID), eq(0), any())).thenReturn(true);
+        when(store.chunk(JOB_ID, 0)).thenReturn(Optional.of(new TaskJobStore.Chunk(0, """
+            [{"title": "Valid", "dueDateTime": "2099-01-01T10:00:00"},
+             {"title": "", "dueDateTime": "2099-01-01T10:00:00"},
+             null]
+            """)));
+
+        runner.run(JOB_ID);
+
+        ArgumentCaptor<List<CreateTaskRequest>> created = ArgumentCaptor.forClass(List.class);
+        verify(taskService).createTasks(created.capture());
+        assertThat(created.getValue()).extracting(CreateTaskRequest::getTitle).containsExactly("Valid");
+        verify(store).finishChunk(JOB_ID, 0, 1, 2, List.of(
+            new ItemFailure(1, null, "Title is required"),
+            new ItemFailure(2, null, "Item is empty")));
+        verify(store).finish(eq(JOB_ID), eq(JobState.COMPLETED), isNull(), any());
+        assertThat(meterRegistry.get("tasks.jobs.items").tag("result", "succeeded").counter().count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.get("tasks.jobs.items").tag("result", "failed").counter().count())
+            .isEqualTo(2.0);
+        assertThat(meterRegistry.get("tasks.jobs.chunk").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should report ids that were not deleted, by their index in the job")
+    void shouldReportMissingIds() {
+        TaskJobRunner runner = runner(100);
+        when(store.find(JOB_ID)).thenReturn(Optional.of(job(JobType.DELETE, 1, 2, 0)),
+            Optional.of(job(JobType.DELETE, 2, 2, 0)));
+        when(store.startChunk(eq(JOB_ID), eq(1), any())).thenReturn(true);
+        when(store.chunk(JOB_ID, 1)).thenReturn(Optional.of(new TaskJobStore.Chunk(500, "[11, 12, 13]")));
+        when(taskService.deleteTasks(List.of(11L, 12L, 13L))).thenReturn(List.of(11L, 13L));
+
+        runner.run(JOB_ID);
+
+        verify(store).finishChunk(JOB_ID, 1, 2, 1, List.of(new ItemFailure(501, 12L, NOT_FOUND)));
+        verify(store).finish(eq(JOB_ID), eq(JobState.COMPLETED), isNull(), any());
+    }
+
+    @Test
+    @DisplayName("Should count failures past max-failures without storing them")
+    void shouldCapReportedFailures() {
+        TaskJobRunner runner = runner(1);
+        when(store.find(JOB_ID)).thenReturn(Optional.of(job(JobType.STATUS_UPDATE, 0, 1, 0)),
+            Optional.of(job(JobType.STATUS_UPDATE, 1, 1, 2)));
+        when(store.startChunk(eq(JOB_ID), eq(0), any())).thenReturn(true);
+        when(store.chunk(JOB_ID, 0)).thenReturn(Optional.of(new TaskJobStore.Chunk(0, "[1, 2, 3]")));
+        when(taskService.updateTasksStatus(List.of(1L, 2L, 3L), TaskStatus.COMPLETED)).thenReturn(List.of(1L));
+
+        runner.run(JOB_ID);
+
+        verify(store).finishChunk(JOB_ID, 0, 1, 2, List.of(new ItemFailure(1, 2L, NOT_FOUND)));
+    }
+
+    @Test
+    @DisplayName("Should leave a chunk another worker has started")
+    void shouldLeaveChunkTakenByAnotherWorker() {
+        TaskJobRunner runner = runner(100);
+        when(store.find(JOB_ID)).thenReturn(Optional.of(job(JobType.DELETE, 0, 1, 0)));
+        when(store.startChunk(eq(JOB_ID), eq(0), any())).thenReturn(false);
+
+        runner.run(JOB_ID);
+
+        verifyNoInteractions(taskService);
+        verify(store, never()).finishChunk(anyLong(), anyInt(), anyInt(), anyInt(), any());
+        verify(store, never()).finish(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail the job when a chunk cannot be saved")
+    void shouldFailJobOnError() {
+        TaskJobRunner runner = runner(100);
+        when(store.find(JOB_ID)).thenReturn(Optional.of(job(JobType.DELETE, 0, 1, 0)));
+        when(store.startChunk(eq(JOB_ID), eq(0), any())).thenReturn(true);
+        when(store.chunk(JOB_ID, 0)).thenReturn(Optional.of(new TaskJobStore.Chunk(0, "[1]")));
+        when(taskService.deleteTasks(any())).thenThrow(new DataAccessResourceFailureException("Connection lost"));
+
+        runner.run(JOB_ID);
+
+        verify(store).finish(eq(JOB_ID), eq(JobState.FAILED), contains("Chunk 0 not saved"), any());
+        verify(store, never()).finishChunk(anyLong(), anyInt(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Should queue the job again when stopping")
+    void shouldRequeueWhenStopped() {
+        TaskJobRunner runner = runner(100);
+        when(store.find(JOB_ID)).thenReturn(Optional.of(job(JobType.DELETE, 0, 1, 0)));
+
+        runner.stop();
+        runner.run(JOB_ID);
+
+        verify(store).requeue(JOB_ID);
+        verifyNoInteractions(taskService);
+    }
+
+    private TaskJobRunner runner(int maxFailures) {
+        return new TaskJobRunner(store, taskService, Validation.buildDefaultValidatorFactory().getValidator(),
+            TransactionOperations.withoutTransaction(), new ObjectMapper().registerModule(new JavaTimeModule()),
+            meterRegistry, maxFailures);
+    }
+}
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.dev.jobs;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.TaskJobResponse.ItemFailure;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(TaskJobStore.class)
+class TaskJobStoreTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private TaskJobStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long insertJob() {
+        return store.insert(JobType.STATUS_UPDATE, TaskStatus.COMPLETED, 5, List.of("[1,2]", "[3,4]", "[5]"), 2,
+            NOW);
+    }
+
+    @Test
+    @DisplayName("Should store a queued job with numbered chunks")
+    void shouldInsertJobAndChunks() {
+        long id = insertJob();
+
+        TaskJob job = store.find(id).orElseThrow();
+        assertThat(job.type()).isEqualTo(JobType.STATUS_UPDATE);
+        assertThat(job.state()).isEqualTo(JobState.QUEUED);
+        assertThat(job.targetStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(job.totalItems()).isEqualTo(5);
+        assertThat(job.totalChunks()).isEqualTo(3);
+        assertThat(job.nextChunk()).isZero();
+        assertThat(job.createdAt()).isEqualTo(NOW);
+        assertThat(store.chunk(id, 2)).contains(new TaskJobStore.Chunk(4, "[5]"));
+        assertThat(store.countQueued()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let one worker claim a job, and another once it goes stale")
+    void shouldClaimOnceUntilStale() {
+        long id = insertJob();
+
+        assertThat(store.claimable(NOW.minusMinutes(2), 10)).containsExactly(id);
+        assertThat(store.claim(id, NOW.minusMinutes(2), NOW)).isTrue();
+        assertThat(store.claim(id, NOW.minusMinutes(2), NOW)).isFalse();
+        assertThat(store.claimable(NOW.minusMinutes(2), 10)).isEmpty();
+
+        LocalDateTime later = NOW.plusMinutes(5);
+        assertThat(store.claimable(later.minusMinutes(2), 10)).containsExactly(id);
+        assertThat(store.claim(id, later.minusMinutes(2), later)).isTrue();
+        assertThat(store.find(id).orElseThrow().startedAt()).isEqualTo(NOW);
+    }
+
+    @Test
+    @DisplayName("Should start each chunk once and only while the job is running")
+    void shouldGuardChunks() {
+        long id = insertJob();
+        assertThat(store.startChunk(id, 0, NOW)).isFalse();
+
+        store.claim(id, NOW.minusMinutes(2), NOW);
+        assertThat(store.startChunk(id, 0, NOW)).isTrue();
+        assertThat(store.startChunk(id, 0, NOW)).isFalse();
+        assertThat(store.find(id).orElseThrow().nextChunk()).isEqualTo(1);
+
+        store.requeue(id);
+        assertThat(store.startChunk(id, 1, NOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should add a chunk's outcome and failures and drop its items")
+    void shouldFinishChunk() {
+        long id = insertJob();
+        store.claim(id, NOW.minusMinutes(2), NOW);
+        store.startChunk(id, 0, NOW);
+
+        store.finishChunk(id, 0, 1, 1, List.of(new ItemFailure(1, 2L, "Task not found or already deleted")));
+
+        TaskJob job = store.find(id).orElseThrow();
+        assertThat(job.succeeded()).isEqualTo(1);
+        assertThat(job.failed()).isEqualTo(1);
+        assertThat(store.chunk(id, 0)).isEmpty();
+        assertThat(store.failures(id, 10))
+            .containsExactly(new ItemFailure(1, 2L, "Task not found or already deleted"));
+    }
+
+    @Test
+    @DisplayName("Should purge finished jobs older than the cutoff with their rows")
+    void shouldPurgeFinishedJobs() {
+        long finished = insertJob();
+        store.claim(finished, NOW.minusMinutes(2), NOW);
+        store.finishChunk(finished, 0, 0, 1, List.of(new ItemFailure(0, 1L, "Task not found or already deleted")));
+        store.finish(finished, JobState.COMPLETED, null, NOW);
+        long queued = insertJob();
+
+        assertThat(store.purgeFinishedBefore(NOW.minusDays(1))).isZero();
+        assertThat(store.purgeFinishedBefore(NOW.plusSeconds(1))).isEqualTo(1);
+
+        assertThat(store.find(finished)).isEmpty();
+        assertThat(store.find(queued)).isPresent();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_job_failures WHERE job_id = ?",
+            Long.class, finished)).isZero();
+    }
+}
@@ -0,0 +1,154 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskOutboxRelayTest {
+
+    private static final LocalDateTime OCCURRED = LocalDateTime.of(2026, 1, 5, 10, 30);
+
+    @Mock
+    private TaskOutbox outbox;
+
+    private MeterRegistry meterRegistry;
+    private RecordingSink sink;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sink = new RecordingSink();
+    }
+
+    private static OutboxEvent event(long id) {
+        return new OutboxEvent(id, id, ChangeType.CREATED, TaskStatus.PENDING, TaskPriority.MEDIUM, OCCURRED);
+    }
+
+    @Test
+    @DisplayName("Should deliver and delete in batches until a short batch")
+    void shouldRelayInBatches() {
+        TaskOutboxRelay relay = relay(2, 10);
+        List<OutboxEvent> first = List.of(event(1), event(2));
+        List<OutboxEvent> second = List.of(event(3));
+        when(outbox.next(2)).thenReturn(first, second);
+        when(outbox.oldest()).thenReturn(Optional.empty());
+
+        int delivered = relay.relay();
+
+        assertThat(delivered).isEqualTo(3);
+        assertThat(sink.received).containsExactly(first, second);
+        verify(outbox).delete(first);
+        verify(outbox).delete(second);
+        assertThat(meterRegistry.get("tasks.outbox.relayed").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("tasks.outbox.batch").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a batch a sink refused and count the failure")
+    void shouldKeepBatchOnSinkFailure() {
+        TaskOutboxRelay relay = relay(2, 10);
+        sink.failing = true;
+        when(outbox.next(2)).thenReturn(List.of(event(1), event(2)));
+        when(outbox.count()).thenReturn(2L);
+        when(outbox.oldest()).thenReturn(Optional.of(OCCURRED));
+
+        assertThat(relay.relay()).isZero();
+
+        verify(outbox, never()).delete(any());
+        assertThat(meterRegistry.get("tasks.outbox.failures").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("tasks.outbox.pending").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("tasks.outbox.lag").timeGauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should stop after the per-run batch limit")
+    void shouldStopAtBatchLimit() {
+        TaskOutboxRelay relay = relay(1, 2);
+        when(outbox.next(1)).thenReturn(List.of(event(1)), List.of(event(2)));
+        when(outbox.count()).thenReturn(5L);
+        when(outbox.oldest()).thenReturn(Optional.of(OCCURRED));
+
+        assertThat(relay.relay()).isEqualTo(2);
+
+        assertThat(sink.received).hasSize(2);
+        assertThat(meterRegistry.get("tasks.outbox.pending").gauge().value()).isEqualTo(5.0);
+    }
+
+    @Test
+    @DisplayName("Should leave the outbox alone when no sink is configured")
+    void shouldSkipWithoutSinks() {
+        TaskOutboxRelay relay = new TaskOutboxRelay(outbox, List.of(), TransactionOperations.withoutTransaction(),
+            meterRegistry, 10, 10);
+
+        assertThat(relay.relay()).isZero();
+
+        verify(outbox, never()).next(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should append each event to the file as one JSON line")
+    void shouldWriteNdjson(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("events/task-events.ndjson");
+        NdjsonFileSink fileSink = new NdjsonFileSink(file, new ObjectMapper().registerModule(new JavaTimeModule()));
+
+        fileSink.publish(List.of(event(1), event(2)));
+        fileSink.publish(List.of(event(3)));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("\"taskId\":1", "\"type\":\"CREATED\"", "\"status\":\"PENDING\"");
+        assertThat(lines.get(2)).contains("\"id\":3");
+    }
+
+    private TaskOutboxRelay relay(int batchSize, int maxBatches) {
+        return new TaskOutboxRelay(outbox, List.of(sink), TransactionOperations.withoutTransaction(), meterRegistry,
+            batchSize, maxBatches);
+    }
+
+    private static final class RecordingSink implements TaskEventSink {
+
+        private final List<List<OutboxEvent>> received = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void publish(List<OutboxEvent> events) throws IOException {
+            if (failing) {
+                throw new IOException("Sink unavailable");
+            }
+            received.add(events);
+        }
+    }
+}
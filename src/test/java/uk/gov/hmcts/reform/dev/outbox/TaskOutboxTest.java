@@ -0,0 +1,88 @@
+package uk.gov.hmcts.reform.dev.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two relays read the outbox at once, each in its own transaction, so the test runs outside a
+ * test transaction and clears the table afterwards.
+ */
+@DataJpaTest
+@Import(TaskOutbox.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskOutboxTest {
+
+    @Autowired
+    private TaskOutbox outbox;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task_outbox");
+    }
+
+    @Test
+    @DisplayName("Should skip the rows another relay has locked")
+    void shouldSkipLockedRows() throws Exception {
+        for (long taskId = 1; taskId <= 3; taskId++) {
+            jdbcTemplate.update("INSERT INTO task_outbox (task_id, change_type, status, priority, occurred_at) "
+                + "VALUES (?, 'CREATED', 'PENDING', 'MEDIUM', ?)", taskId, Timestamp.valueOf(LocalDateTime.now()));
+        }
+        TransactionTemplate transactions = new TransactionTemplate(transactionManager);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService otherRelay = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<OutboxEvent>> first = otherRelay.submit(() -> transactions.execute(status -> {
+                List<OutboxEvent> batch = outbox.next(2);
+                locked.countDown();
+                awaitQuietly(release);
+                return batch;
+            }));
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            List<OutboxEvent> second = transactions.execute(status -> outbox.next(10));
+            release.countDown();
+
+            assertThat(first.get(10, TimeUnit.SECONDS)).extracting(OutboxEvent::taskId).containsExactly(1L, 2L);
+            assertThat(second).extracting(OutboxEvent::taskId).containsExactly(3L);
+        } finally {
+            release.countDown();
+            otherRelay.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.dev.repositories;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the indexes created by the db/migration scripts. Each statement mirrors the SQL
+ * Hibernate emits for a TaskRepository query with a given set of filters (the filtered queries
+ * only carry the predicates that are actually set), and the test fails
+ * when H2 reports that it would answer it with a full table scan.
+ */
+@DataJpaTest
+class TaskQueryPlanTest {
+
+    private static final String SELECT_TASKS = "SELECT t.id FROM tasks t WHERE t.deleted = FALSE ";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("findWithFilters by status and priority uses the status/priority index")
+    void findWithFiltersByStatusAndPriority() throws SQLException {
+        String plan = explain(SELECT_TASKS
+            + "AND t.status = 'PENDING' AND t.priority = 'HIGH' ORDER BY t.created_at DESC");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_STATUS_PRIORITY_CREATED");
+    }
+
+    @Test
+    @DisplayName("findWithFilters by status only uses an index")
+    void findWithFiltersByStatus() throws SQLException {
+        assertUsesIndex(SELECT_TASKS + "AND t.status = 'IN_PROGRESS' ORDER BY t.created_at DESC");
+    }
+
+    @Test
+    @DisplayName("findWithFilters by priority only uses an index")
+    void findWithFiltersByPriority() throws SQLException {
+        assertUsesIndex(SELECT_TASKS + "AND t.priority = 'URGENT' ORDER BY t.created_at DESC");
+    }
+
+    @Test
+    @DisplayName("findWithFilters by several statuses uses an index")
+    void findWithFiltersByStatuses() throws SQLException {
+        assertUsesIndex(SELECT_TASKS + "AND t.status IN ('PENDING', 'IN_PROGRESS') ORDER BY t.created_at DESC");
+    }
+
+    @Test
+    @DisplayName("findWithFilters by due date range uses an index")
+    void findWithFiltersByDueRange() throws SQLException {
+        assertUsesIndex(SELECT_TASKS
+            + "AND t.due_date_time > TIMESTAMP '2026-01-01 00:00:00' "
+            + "AND t.due_date_time < TIMESTAMP '2026-02-01 00:00:00' ORDER BY t.created_at DESC");
+    }
+
+    @Test
+    @DisplayName("findWithFilters without filters uses an index")
+    void findWithFiltersUnfiltered() throws SQLException {
+        assertUsesIndex(SELECT_TASKS + "ORDER BY t.created_at DESC");
+    }
+
+    @Test
+    @DisplayName("findWithFiltersAfter (descending) seeks on (created_at, id)")
+    void findWithFiltersAfterDescending() throws SQLException {
+        assertUsesIndex(SELECT_TASKS
+            + "AND t.created_at <= TIMESTAMP '2026-01-05 10:30:00' "
+            + "AND (t.created_at < TIMESTAMP '2026-01-05 10:30:00' "
+            + "OR (t.created_at = TIMESTAMP '2026-01-05 10:30:00' AND t.id < 42)) "
+            + "ORDER BY t.created_at DESC, t.id DESC");
+    }
+
+    @Test
+    @DisplayName("findOverdueTasks uses the overdue flag index")
+    void findOverdueTasks() throws SQLException {
+        String plan = explain(SELECT_TASKS + "AND t.overdue = TRUE ORDER BY t.due_date_time ASC");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_OVERDUE_DUE");
+    }
+
+    @Test
+    @DisplayName("markOverdueSince and countNewlyOverdueSince scan only the due date window")
+    void markOverdueSince() throws SQLException {
+        assertUsesIndex(SELECT_TASKS + "AND t.overdue = FALSE AND t.status <> 'COMPLETED' "
+            + "AND t.due_date_time >= TIMESTAMP '2026-01-05 10:25:00' "
+            + "AND t.due_date_time < TIMESTAMP '2026-01-05 10:30:00'");
+    }
+
+    @Test
+    @DisplayName("findChangedAfter seeks on (updated_at, id)")
+    void findChangedAfter() throws SQLException {
+        String plan = explain("SELECT t.id FROM tasks t "
+            + "WHERE t.updated_at >= TIMESTAMP '2026-01-05 10:30:00' "
+            + "AND t.updated_at < TIMESTAMP '2026-01-05 11:00:00' "
+            + "AND (t.updated_at > TIMESTAMP '2026-01-05 10:30:00' "
+            + "OR (t.updated_at = TIMESTAMP '2026-01-05 10:30:00' AND t.id > 42)) "
+            + "ORDER BY t.updated_at, t.id");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_UPDATED_ID");
+    }
+
+    @Test
+    @DisplayName("findByIdInAndDeletedFalse uses the primary key")
+    void findByIdInAndDeletedFalse() throws SQLException {
+        assertUsesIndex("SELECT t.id FROM tasks t WHERE t.id IN (1, 2, 3) AND t.deleted = FALSE");
+    }
+
+    @Test
+    @DisplayName("countByStateIn uses the primary key")
+    void countByStateIn() throws SQLException {
+        assertUsesIndex("SELECT t.status, t.priority, t.overdue, t.deleted, COUNT(*) FROM tasks t "
+            + "WHERE t.id IN (1, 2, 3) GROUP BY t.status, t.priority, t.overdue, t.deleted");
+    }
+
+    @Test
+    @DisplayName("findByIdAndDeletedFalse (a findById on a cache miss) uses the primary key")
+    void findByIdAndDeletedFalse() throws SQLException {
+        assertUsesIndex("SELECT t.id FROM tasks t WHERE t.id = 1");
+    }
+
+    private void assertUsesIndex(String sql) throws SQLException {
+        assertThat(explain(sql))
+            .as("Query plan for: %s", sql)
+            .doesNotContainIgnoringCase("tableScan");
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            StringBuilder plan = new StringBuilder();
+            while (resultSet.next()) {
+                plan.append(resultSet.getString(1)).append('\n');
+            }
+            return plan.toString();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.dev.repositories;
 
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -7,19 +8,32 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskCount;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
 import uk.gov.hmcts.reform.dev.models.TaskPriority;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.TaskCursor;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 class TaskRepositoryTest {
@@ -37,6 +51,8 @@ class TaskRepositoryTest {
     private Task overdueTask;
     private Task highPriorityTask;
 
+    private final LocalDateTime now = LocalDateTime.now();
+
     @BeforeEach
     void setUp() {
         // Clear any existing data
@@ -79,6 +95,14 @@ class TaskRepositoryTest {
         return entityManager.persist(task);
     }
 
+    private static TaskFilter statuses(TaskStatus... statuses) {
+        return TaskFilter.builder().statuses(List.of(statuses)).build();
+    }
+
+    private static TaskFilter priorities(TaskPriority... priorities) {
+        return TaskFilter.builder().priorities(List.of(priorities)).build();
+    }
+
     @Nested
     @DisplayName("findByIdAndDeletedFalse")
     class FindByIdAndDeletedFalse {
@@ -361,7 +385,7 @@ class TaskRepositoryTest {
         void shouldFindOverdueTasks() {
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<Task> result = taskRepository.findOverdueTasks(LocalDateTime.now(), pageable);
+            Page<Task> result = taskRepository.findOverdueTasks(pageable);
 
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).getTitle()).isEqualTo("Overdue Task");
@@ -376,7 +400,7 @@ class TaskRepositoryTest {
             entityManager.flush();
 
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Task> result = taskRepository.findOverdueTasks(LocalDateTime.now(), pageable);
+            Page<Task> result = taskRepository.findOverdueTasks(pageable);
 
             assertThat(result.getContent())
                 .extracting(Task::getTitle)
@@ -392,12 +416,181 @@ class TaskRepositoryTest {
             entityManager.flush();
 
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Task> result = taskRepository.findOverdueTasks(LocalDateTime.now(), pageable);
+            Page<Task> result = taskRepository.findOverdueTasks(pageable);
 
             assertThat(result.getContent())
                 .extracting(Task::getTitle)
                 .doesNotContain("Deleted Overdue");
         }
+
+        @Test
+        @DisplayName("Should flag open tasks whose due date has since passed")
+        void shouldMarkOverdue() {
+            LocalDateTime later = now.plusDays(3).plusHours(1);
+
+            int marked = taskRepository.markOverdue(later);
+            entityManager.clear();
+
+            // In progress (+3d) and high priority (+1d); pending (+5d) is not due, deleted and completed are skipped
+            assertThat(marked).isEqualTo(2);
+            assertThat(taskRepository.findOverdueTasks(PageRequest.of(0, 10)).getContent())
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrder(overdueTask.getId(), inProgressTask.getId(), highPriorityTask.getId());
+
+            // A new version and modification time, so conditional GETs see the flag change
+            Task flagged = taskRepository.findById(inProgressTask.getId()).get();
+            assertThat(flagged.getVersion()).isEqualTo(inProgressTask.getVersion() + 1);
+            assertThat(flagged.getUpdatedAt()).isEqualToIgnoringNanos(later);
+        }
+
+        @Test
+        @DisplayName("Should group the tasks markOverdue would flag by status and priority")
+        void shouldCountNewlyOverdue() {
+            assertThat(taskRepository.countNewlyOverdue(now.plusDays(3).plusHours(1))).containsExactlyInAnyOrder(
+                new TaskCount(TaskStatus.IN_PROGRESS, TaskPriority.LOW, false, false, 1),
+                new TaskCount(TaskStatus.IN_PROGRESS, TaskPriority.HIGH, false, false, 1));
+            assertThat(taskRepository.countNewlyOverdueSince(now.plusDays(1).plusHours(12), now.plusDays(4)))
+                .containsExactly(new TaskCount(TaskStatus.IN_PROGRESS, TaskPriority.LOW, false, false, 1));
+        }
+
+        @Test
+        @DisplayName("Should only flag tasks that fell due inside the window")
+        void shouldMarkOverdueSince() {
+            int marked = taskRepository.markOverdueSince(now.plusDays(1).plusHours(12), now.plusDays(4));
+            entityManager.clear();
+
+            assertThat(marked).isEqualTo(1);
+            assertThat(taskRepository.findOverdueTasks(PageRequest.of(0, 10)).getContent())
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrder(overdueTask.getId(), inProgressTask.getId());
+        }
+
+        @Test
+        @DisplayName("Should clear the flag when an overdue task is completed")
+        void shouldClearOnCompletion() {
+            taskRepository.updateStatusByIdIn(List.of(overdueTask.getId()), TaskStatus.COMPLETED, now);
+
+            assertThat(taskRepository.countOverdueTasks()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should set the flag when a past-due task is reopened")
+        void shouldSetOnReopen() {
+            Task completedOverdue = createTask("Completed Overdue", "Desc",
+                TaskStatus.COMPLETED, TaskPriority.HIGH, LocalDateTime.now().minusDays(5), false);
+            entityManager.flush();
+
+            taskRepository.updateStatusByIdIn(List.of(completedOverdue.getId()), TaskStatus.PENDING, now);
+
+            assertThat(taskRepository.countOverdueTasks()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("findChangedAfter")
+    class FindChangedAfter {
+
+        private final LocalDateTime until = now.plusMinutes(1);
+
+        @Test
+        @DisplayName("Should return every write since the position in (updatedAt, id) order, deletes included")
+        void shouldFindChangesInOrder() {
+            List<Task> changes = taskRepository.findChangedAfter(
+                now.minusDays(1), 0L, until, PageRequest.of(0, 10));
+
+            assertThat(changes).hasSize(6);
+            assertThat(changes).extracting(Task::getId).contains(deletedTask.getId());
+            for (int i = 1; i < changes.size(); i++) {
+                Task previous = changes.get(i - 1);
+                Task current = changes.get(i);
+                assertThat(current.getUpdatedAt().isAfter(previous.getUpdatedAt())
+                    || current.getUpdatedAt().equals(previous.getUpdatedAt()) && current.getId() > previous.getId())
+                    .isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("Should seek past the position and stop before until")
+        void shouldSeekPastPosition() {
+            LocalDateTime at = now.minusHours(1);
+            Task first = createTask("First", "Desc", TaskStatus.PENDING, TaskPriority.LOW, now.plusDays(1), false);
+            Task second = createTask("Second", "Desc", TaskStatus.PENDING, TaskPriority.LOW, now.plusDays(1), false);
+            entityManager.flush();
+            taskRepository.softDeleteByIdIn(List.of(first.getId(), second.getId()), at);
+
+            // Both at the same updatedAt: only the later id is past (at, first)
+            assertThat(taskRepository.findChangedAfter(at, first.getId(), until, PageRequest.of(0, 10)))
+                .extracting(Task::getId)
+                .startsWith(second.getId())
+                .doesNotContain(first.getId());
+            assertThat(taskRepository.findChangedAfter(now.minusDays(1), 0L, at, PageRequest.of(0, 10)))
+                .isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("projected views")
+    class ProjectedViews {
+
+        @Test
+        @DisplayName("Should read views by ID with the stored overdue flag")
+        void shouldFindViewsById() {
+            List<TaskResponse> views = taskRepository.findViewsByIdIn(
+                List.of(overdueTask.getId(), pendingTask.getId()));
+
+            assertThat(views)
+                .extracting(TaskResponse::getTitle, TaskResponse::isOverdue)
+                .containsExactlyInAnyOrder(tuple("Overdue Task", true), tuple("Pending Task", false));
+        }
+
+        @Test
+        @DisplayName("Should not flag completed tasks as overdue")
+        void shouldNotFlagCompletedTasks() {
+            Task completedOverdue = createTask("Completed Overdue", "Desc",
+                TaskStatus.COMPLETED, TaskPriority.HIGH, LocalDateTime.now().minusDays(5), false);
+            entityManager.flush();
+
+            assertThat(taskRepository.findViewsByIdIn(List.of(completedOverdue.getId())))
+                .singleElement().extracting(TaskResponse::isOverdue).isEqualTo(false);
+        }
+
+        @Test
+        @DisplayName("Should not return a view of a deleted task")
+        void shouldNotFindDeletedView() {
+            assertThat(taskRepository.findViewsByIdIn(List.of(deletedTask.getId()))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should return views without loading entities into the persistence context")
+        void shouldNotManageViews() {
+            entityManager.clear();
+
+            taskRepository.findViewsByIdIn(List.of(pendingTask.getId()));
+            taskRepository.findWithFilters(TaskFilter.none(), PageRequest.of(0, 10));
+
+            Session session = entityManager.getEntityManager().unwrap(Session.class);
+            assertThat(session.getStatistics().getEntityCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should page overdue views with an exact total")
+        void shouldFindOverdueViews() {
+            Page<TaskResponse> result = taskRepository.findOverdueViews(PageRequest.of(0, 10));
+
+            assertThat(result.getTotalElements()).isEqualTo(1);
+            assertThat(result.getContent().get(0).isOverdue()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should read views for the given IDs, skipping deleted tasks")
+        void shouldFindViewsByIds() {
+            List<TaskResponse> result = taskRepository.findViewsByIdIn(
+                List.of(pendingTask.getId(), deletedTask.getId(), overdueTask.getId()));
+
+            assertThat(result)
+                .extracting(TaskResponse::getId)
+                .containsExactlyInAnyOrder(pendingTask.getId(), overdueTask.getId());
+        }
     }
 
     @Nested
@@ -461,7 +654,7 @@ class TaskRepositoryTest {
     }
 
     @Nested
-    @DisplayName("findWithFilters")
+    @DisplayName("findWithFilters / countWithFilters")
     class FindWithFilters {
 
         @Test
@@ -469,7 +662,7 @@ class TaskRepositoryTest {
         void shouldFindAllWhenNoFilters() {
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<Task> result = taskRepository.findWithFilters(null, null, null, pageable);
+            Page<TaskResponse> result = taskRepository.findWithFilters(TaskFilter.none(), pageable);
 
             assertThat(result.getContent()).hasSize(5);
         }
@@ -479,11 +672,11 @@ class TaskRepositoryTest {
         void shouldFilterByStatusOnly() {
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<Task> result = taskRepository.findWithFilters(TaskStatus.PENDING, null, null, pageable);
+            Page<TaskResponse> result = taskRepository.findWithFilters(statuses(TaskStatus.PENDING), pageable);
 
             assertThat(result.getContent()).hasSize(2);
             assertThat(result.getContent())
-                .extracting(Task::getStatus)
+                .extracting(TaskResponse::getStatus)
                 .containsOnly(TaskStatus.PENDING);
         }
 
@@ -492,11 +685,11 @@ class TaskRepositoryTest {
         void shouldFilterByPriorityOnly() {
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<Task> result = taskRepository.findWithFilters(null, TaskPriority.HIGH, null, pageable);
+            Page<TaskResponse> result = taskRepository.findWithFilters(priorities(TaskPriority.HIGH), pageable);
 
             assertThat(result.getContent()).hasSize(3);
             assertThat(result.getContent())
-                .extracting(Task::getPriority)
+                .extracting(TaskResponse::getPriority)
                 .containsOnly(TaskPriority.HIGH);
         }
 
@@ -505,7 +698,8 @@ class TaskRepositoryTest {
         void shouldFilterBySearchOnly() {
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<Task> result = taskRepository.findWithFilters(null, null, "Overdue", pageable);
+            Page<TaskResponse> result = taskRepository.findWithFilters(
+                TaskFilter.builder().search("Overdue").build(), pageable);
 
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).getTitle()).isEqualTo("Overdue Task");
@@ -516,8 +710,10 @@ class TaskRepositoryTest {
         void shouldFilterByStatusAndPriority() {
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<Task> result = taskRepository.findWithFilters(
-                TaskStatus.IN_PROGRESS, TaskPriority.HIGH, null, pageable);
+            Page<TaskResponse> result = taskRepository.findWithFilters(TaskFilter.builder()
+                .statuses(List.of(TaskStatus.IN_PROGRESS))
+                .priorities(List.of(TaskPriority.HIGH))
+                .build(), pageable);
 
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).getTitle()).isEqualTo("High Priority Task");
@@ -528,8 +724,11 @@ class TaskRepositoryTest {
         void shouldFilterByAllCriteria() {
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<Task> result = taskRepository.findWithFilters(
-                TaskStatus.PENDING, TaskPriority.HIGH, "Overdue", pageable);
+            Page<TaskResponse> result = taskRepository.findWithFilters(TaskFilter.builder()
+                .statuses(List.of(TaskStatus.PENDING))
+                .priorities(List.of(TaskPriority.HIGH))
+                .search("Overdue")
+                .build(), pageable);
 
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).getTitle()).isEqualTo("Overdue Task");
@@ -540,8 +739,11 @@ class TaskRepositoryTest {
         void shouldReturnEmptyWhenNoMatch() {
             Pageable pageable = PageRequest.of(0, 10);
 
-            Page<Task> result = taskRepository.findWithFilters(
-                TaskStatus.COMPLETED, TaskPriority.LOW, "NonExistent", pageable);
+            Page<TaskResponse> result = taskRepository.findWithFilters(TaskFilter.builder()
+                .statuses(List.of(TaskStatus.COMPLETED))
+                .priorities(List.of(TaskPriority.LOW))
+                .search("NonExistent")
+                .build(), pageable);
 
             assertThat(result.getContent()).isEmpty();
         }
@@ -551,7 +753,7 @@ class TaskRepositoryTest {
         void shouldSupportPaginationWithFilters() {
             Pageable pageable = PageRequest.of(0, 1);
 
-            Page<Task> result = taskRepository.findWithFilters(null, TaskPriority.HIGH, null, pageable);
+            Page<TaskResponse> result = taskRepository.findWithFilters(priorities(TaskPriority.HIGH), pageable);
 
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getTotalElements()).isEqualTo(3);
@@ -563,13 +765,388 @@ class TaskRepositoryTest {
         void shouldSupportSortingWithFilters() {
             Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title"));
 
-            Page<Task> result = taskRepository.findWithFilters(null, null, null, pageable);
+            Page<TaskResponse> result = taskRepository.findWithFilters(TaskFilter.none(), pageable);
 
             List<String> titles = result.getContent().stream()
-                .map(Task::getTitle)
+                .map(TaskResponse::getTitle)
                 .toList();
             assertThat(titles).isSorted();
         }
+
+        @Test
+        @DisplayName("Should match any of several statuses")
+        void shouldFilterByMultipleStatuses() {
+            Pageable pageable = PageRequest.of(0, 10);
+
+            Page<TaskResponse> result = taskRepository.findWithFilters(
+                statuses(TaskStatus.PENDING, TaskStatus.COMPLETED), pageable);
+
+            assertThat(result.getContent())
+                .extracting(TaskResponse::getId)
+                .containsExactlyInAnyOrder(pendingTask.getId(), overdueTask.getId(), completedTask.getId());
+        }
+
+        @Test
+        @DisplayName("Should match any of several priorities")
+        void shouldFilterByMultiplePriorities() {
+            Pageable pageable = PageRequest.of(0, 10);
+
+            Page<TaskResponse> result = taskRepository.findWithFilters(
+                priorities(TaskPriority.LOW, TaskPriority.MEDIUM), pageable);
+
+            assertThat(result.getContent())
+                .extracting(TaskResponse::getId)
+                .containsExactlyInAnyOrder(pendingTask.getId(), inProgressTask.getId());
+        }
+
+        @Test
+        @DisplayName("Should filter by a due date range")
+        void shouldFilterByDueDateRange() {
+            Pageable pageable = PageRequest.of(0, 10);
+            TaskFilter filter = TaskFilter.builder()
+                .dueAfter(LocalDateTime.now())
+                .dueBefore(LocalDateTime.now().plusDays(4))
+                .build();
+
+            Page<TaskResponse> result = taskRepository.findWithFilters(filter, pageable);
+
+            assertThat(result.getContent())
+                .extracting(TaskResponse::getId)
+                .containsExactlyInAnyOrder(inProgressTask.getId(), completedTask.getId(), highPriorityTask.getId());
+        }
+
+        @Test
+        @DisplayName("Should restrict to the given ids")
+        void shouldFilterByIds() {
+            Pageable pageable = PageRequest.of(0, 10);
+            TaskFilter filter = TaskFilter.builder()
+                .ids(List.of(pendingTask.getId(), deletedTask.getId(), overdueTask.getId()))
+                .priorities(List.of(TaskPriority.MEDIUM))
+                .build();
+
+            Page<TaskResponse> result = taskRepository.findWithFilters(filter, pageable);
+
+            assertThat(result.getContent()).extracting(TaskResponse::getId).containsExactly(pendingTask.getId());
+        }
+
+        @Test
+        @DisplayName("Should filter on the stored overdue flag")
+        void shouldFilterByOverdue() {
+            Pageable pageable = PageRequest.of(0, 10);
+
+            Page<TaskResponse> overdue = taskRepository.findWithFilters(
+                TaskFilter.builder().overdue(true).build(), pageable);
+            Page<TaskResponse> notOverdue = taskRepository.findWithFilters(
+                TaskFilter.builder().overdue(false).statuses(List.of(TaskStatus.PENDING)).build(), pageable);
+
+            assertThat(overdue.getContent()).extracting(TaskResponse::getId).containsExactly(overdueTask.getId());
+            assertThat(overdue.getTotalElements()).isEqualTo(1);
+            assertThat(notOverdue.getContent()).extracting(TaskResponse::getId).containsExactly(pendingTask.getId());
+        }
+
+        @Test
+        @DisplayName("Should treat LIKE wildcards in the search term literally")
+        void shouldEscapeLikeWildcards() {
+            Pageable pageable = PageRequest.of(0, 10);
+
+            Page<TaskResponse> result = taskRepository.findWithFilters(
+                TaskFilter.builder().search("%").build(), pageable);
+
+            assertThat(result.getContent()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should count the same rows the filter returns")
+        void shouldCountWithFilters() {
+            assertThat(taskRepository.countWithFilters(statuses(TaskStatus.PENDING, TaskStatus.IN_PROGRESS)))
+                .isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Should reject sorting on an unknown property")
+        void shouldRejectUnknownSortProperty() {
+            Pageable pageable = PageRequest.of(0, 10, Sort.by("deletedAt"));
+
+            assertThatThrownBy(() -> taskRepository.findWithFilters(TaskFilter.none(), pageable))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasMessageContaining("deletedAt");
+        }
+    }
+
+    @Nested
+    @DisplayName("keyset pagination")
+    class KeysetPagination {
+
+        private final Pageable newestFirst = PageRequest.of(0, 2,
+            Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+
+        @Test
+        @DisplayName("Should return first slice without a total count")
+        void shouldReturnFirstSlice() {
+            Slice<TaskResponse> result = taskRepository.findSliceWithFilters(TaskFilter.none(), newestFirst);
+
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.hasNext()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should walk all non-deleted tasks by seeking past the last row")
+        void shouldWalkAllTasksWithoutOverlap() {
+            List<Long> seen = new ArrayList<>();
+            Slice<TaskResponse> slice = taskRepository.findSliceWithFilters(TaskFilter.none(), newestFirst);
+            slice.forEach(task -> seen.add(task.getId()));
+
+            while (slice.hasNext()) {
+                TaskResponse last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                TaskCursor cursor = new TaskCursor(last.getCreatedAt(), last.getId(), Sort.Direction.DESC);
+                slice = taskRepository.findWithFiltersAfter(TaskFilter.none(), cursor, 2);
+                slice.forEach(task -> seen.add(task.getId()));
+            }
+
+            assertThat(seen).hasSize(5).doesNotHaveDuplicates().doesNotContain(deletedTask.getId());
+        }
+
+        @Test
+        @DisplayName("Should apply filters together with the seek predicate")
+        void shouldApplyFiltersWithSeek() {
+            TaskCursor cursor = new TaskCursor(LocalDateTime.now().minusDays(1), 0L, Sort.Direction.ASC);
+
+            Slice<TaskResponse> result = taskRepository.findWithFiltersAfter(
+                priorities(TaskPriority.HIGH), cursor, 10);
+
+            assertThat(result.getContent()).hasSize(3);
+            assertThat(result.getContent())
+                .extracting(TaskResponse::getPriority)
+                .containsOnly(TaskPriority.HIGH);
+            assertThat(result.hasNext()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("streaming export")
+    class StreamWithFilters {
+
+        @Test
+        @DisplayName("Should stream every matching non-deleted task in the requested order")
+        void shouldStreamMatchingTasksInOrder() {
+            List<Long> ids;
+            try (Stream<TaskResponse> tasks = taskRepository.streamWithFilters(
+                    priorities(TaskPriority.HIGH), Sort.by("id"), 2)) {
+                ids = tasks.map(TaskResponse::getId).toList();
+            }
+
+            assertThat(ids).containsExactly(
+                completedTask.getId(), overdueTask.getId(), highPriorityTask.getId());
+        }
+
+        @Test
+        @DisplayName("Should leave out deleted tasks")
+        void shouldSkipDeletedTasks() {
+            try (Stream<TaskResponse> tasks = taskRepository.streamWithFilters(
+                    statuses(TaskStatus.PENDING), Sort.by("id"), 100)) {
+                assertThat(tasks.map(TaskResponse::getId))
+                    .containsExactly(pendingTask.getId(), overdueTask.getId());
+            }
+        }
+
+        @Test
+        @DisplayName("Should return an empty stream for an empty ID filter without querying")
+        void shouldStreamNothingForEmptyIds() {
+            TaskFilter noIds = TaskFilter.builder().ids(Set.of()).build();
+
+            try (Stream<TaskResponse> tasks = taskRepository.streamWithFilters(noIds, Sort.by("id"), 100)) {
+                assertThat(tasks).isEmpty();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("set-based mutations")
+    class SetBasedMutations {
+
+        @Test
+        @DisplayName("Should report only the live IDs among those requested")
+        void shouldFindLiveIds() {
+            List<Long> result = taskRepository.findLiveIdsIn(
+                List.of(pendingTask.getId(), deletedTask.getId(), 999L));
+
+            assertThat(result).containsExactly(pendingTask.getId());
+        }
+
+        @Test
+        @DisplayName("Should change status of live tasks in one statement and skip deleted ones")
+        void shouldUpdateStatusByIds() {
+            int updated = taskRepository.updateStatusByIdIn(
+                List.of(pendingTask.getId(), inProgressTask.getId(), deletedTask.getId()), TaskStatus.COMPLETED, now);
+
+            assertThat(updated).isEqualTo(2);
+            assertThat(taskRepository.findById(pendingTask.getId()).get().getStatus())
+                .isEqualTo(TaskStatus.COMPLETED);
+            assertThat(taskRepository.findById(pendingTask.getId()).get().getUpdatedAt()).isEqualToIgnoringNanos(now);
+            assertThat(taskRepository.findById(deletedTask.getId()).get().getStatus())
+                .isEqualTo(TaskStatus.PENDING);
+        }
+
+        @Test
+        @DisplayName("Should soft delete live tasks in one statement and not touch deleted ones again")
+        void shouldSoftDeleteByIds() {
+            int deleted = taskRepository.softDeleteByIdIn(List.of(pendingTask.getId(), deletedTask.getId()), now);
+
+            assertThat(deleted).isEqualTo(1);
+            Task reloaded = taskRepository.findById(pendingTask.getId()).get();
+            assertThat(reloaded.isDeleted()).isTrue();
+            assertThat(reloaded.getDeletedAt()).isEqualToIgnoringNanos(now);
+            assertThat(taskRepository.findByIdAndDeletedFalse(pendingTask.getId())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("optimistic locking")
+    class OptimisticLocking {
+
+        @Test
+        @DisplayName("Should start at version 0 and increment on each entity update")
+        void shouldIncrementVersionOnUpdate() {
+            assertThat(pendingTask.getVersion()).isZero();
+
+            pendingTask.setTitle("Renamed");
+            taskRepository.saveAndFlush(pendingTask);
+
+            assertThat(pendingTask.getVersion()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Should increment the version in set-based mutations")
+        void shouldIncrementVersionInBulkUpdates() {
+            taskRepository.updateStatusByIdIn(List.of(pendingTask.getId()), TaskStatus.COMPLETED, now);
+            taskRepository.softDeleteByIdIn(List.of(inProgressTask.getId()), now);
+
+            assertThat(taskRepository.findById(pendingTask.getId()).get().getVersion()).isEqualTo(1L);
+            assertThat(taskRepository.findById(inProgressTask.getId()).get().getVersion()).isEqualTo(1L);
+            assertThat(taskRepository.findViewsByIdIn(List.of(pendingTask.getId())))
+                .extracting(TaskResponse::getVersion)
+                .containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("Should refuse to write a copy older than the stored version")
+        void shouldRejectStaleWrite() {
+            Task stale = taskRepository.findById(pendingTask.getId()).get();
+            entityManager.detach(stale);
+            taskRepository.updateStatusByIdIn(List.of(pendingTask.getId()), TaskStatus.IN_PROGRESS, now);
+
+            stale.setTitle("Lost update");
+
+            assertThatThrownBy(() -> taskRepository.saveAndFlush(stale))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("grouped counts")
+    class GroupedCounts {
+
+        @Test
+        @DisplayName("Should count every task by status, priority, overdue and deleted")
+        void shouldCountByState() {
+            assertThat(taskRepository.countByState()).containsExactlyInAnyOrder(
+                new TaskCount(TaskStatus.PENDING, TaskPriority.MEDIUM, false, false, 1),
+                new TaskCount(TaskStatus.PENDING, TaskPriority.MEDIUM, false, true, 1),
+                new TaskCount(TaskStatus.PENDING, TaskPriority.HIGH, true, false, 1),
+                new TaskCount(TaskStatus.IN_PROGRESS, TaskPriority.LOW, false, false, 1),
+                new TaskCount(TaskStatus.IN_PROGRESS, TaskPriority.HIGH, false, false, 1),
+                new TaskCount(TaskStatus.COMPLETED, TaskPriority.HIGH, false, false, 1));
+        }
+
+        @Test
+        @DisplayName("Should count only the given tasks, deleted or not")
+        void shouldCountByStateIn() {
+            createTask("Second Pending", "Desc", TaskStatus.PENDING, TaskPriority.MEDIUM,
+                LocalDateTime.now().plusDays(5), false);
+            entityManager.flush();
+
+            List<Long> ids = taskRepository.findByDeletedFalse().stream()
+                .filter(task -> task.getStatus() == TaskStatus.PENDING && task.getPriority() == TaskPriority.MEDIUM)
+                .map(Task::getId)
+                .collect(Collectors.toCollection(ArrayList::new));
+            ids.add(deletedTask.getId());
+
+            assertThat(taskRepository.countByStateIn(ids)).containsExactlyInAnyOrder(
+                new TaskCount(TaskStatus.PENDING, TaskPriority.MEDIUM, false, false, 2),
+                new TaskCount(TaskStatus.PENDING, TaskPriority.MEDIUM, false, true, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("archiving")
+    class Archiving {
+
+        private Task longDeleted;
+
+        @BeforeEach
+        void deleteLongAgo() {
+            longDeleted = createTask("Long Deleted", "Desc", TaskStatus.COMPLETED,
+                TaskPriority.LOW, LocalDateTime.now().minusDays(90), true);
+            longDeleted.setDeletedAt(now.minusDays(60));
+            deletedTask.setDeletedAt(now.minusDays(1));
+            entityManager.flush();
+        }
+
+        @Test
+        @DisplayName("Should find only tasks deleted before the cutoff")
+        void shouldFindArchivableIds() {
+            LocalDateTime cutoff = now.minusDays(30);
+
+            assertThat(taskRepository.findArchivableIds(cutoff, PageRequest.of(0, 10)))
+                .containsExactly(longDeleted.getId());
+            assertThat(taskRepository.countArchivable(cutoff)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should copy deleted tasks to the archive and remove them from tasks")
+        void shouldMoveToArchive() {
+            List<Long> ids = List.of(longDeleted.getId(), pendingTask.getId());
+
+            int copied = taskRepository.copyToArchive(ids, now);
+            int purged = taskRepository.purgeDeleted(ids);
+            entityManager.clear();
+
+            assertThat(copied).isEqualTo(1);
+            assertThat(purged).isEqualTo(1);
+            assertThat(taskRepository.findById(longDeleted.getId())).isEmpty();
+            assertThat(taskRepository.findById(pendingTask.getId())).isPresent();
+            Object[] archived = (Object[]) entityManager.getEntityManager()
+                .createNativeQuery("SELECT title, status FROM tasks_archive WHERE id = :id")
+                .setParameter("id", longDeleted.getId())
+                .getSingleResult();
+            assertThat(archived).containsExactly("Long Deleted", "COMPLETED");
+        }
+    }
+
+    @Nested
+    @DisplayName("id generation")
+    class IdGeneration {
+
+        @Test
+        @DisplayName("Should assign new ids from the pooled sequence, past every existing id")
+        void shouldAssignIdsFromPooledSequence() {
+            List<Task> saved = taskRepository.saveAll(List.of(
+                newTask("Batch 1"), newTask("Batch 2"), newTask("Batch 3")));
+
+            List<Long> ids = saved.stream().map(Task::getId).toList();
+            assertThat(ids).doesNotContainNull().isSorted().doesNotHaveDuplicates();
+            assertThat(ids.get(2) - ids.get(0)).isEqualTo(2);
+            assertThat(taskRepository.findAll())
+                .extracting(Task::getId)
+                .doesNotHaveDuplicates();
+        }
+
+        private Task newTask(String title) {
+            Task task = new Task();
+            task.setTitle(title);
+            task.setDueDateTime(LocalDateTime.now().plusDays(1));
+            return task;
+        }
     }
 
     @Nested
@@ -0,0 +1,158 @@
+package uk.gov.hmcts.reform.dev.search;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new TaskSearchIndex(taskRepository, new ByteBuffersDirectory());
+        when(taskRepository.findTextsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+            new TaskText(1L, "Prepare hearing bundle", "Court papers for Monday"),
+            new TaskText(2L, "Send papers", "Needed for the hearing next week"),
+            new TaskText(3L, "Book interpreter", null)
+        ));
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("Should load every live task from the repository on rebuild")
+    void shouldRebuildFromRepository() {
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should match stemmed forms of a word")
+    void shouldMatchStemmedWords() {
+        assertThat(ids(index.search("hearings", 10))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(index.search("booking", 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above description matches")
+    void shouldRankTitleAboveDescription() {
+        assertThat(ids(index.search("hearing", 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.search("papers", 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should return at most the requested number of hits")
+    void shouldLimitHits() {
+        assertThat(index.search("hearing", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should treat query syntax characters as plain text")
+    void shouldEscapeQuerySyntax() {
+        assertThat(ids(index.search("bundle AND (court", 10))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should return no hits for a query made only of stop words")
+    void shouldIgnoreStopWords() {
+        assertThat(index.search("the and", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should follow text updates, creates and deletes from change events")
+    void shouldApplyChangeEvents() {
+        index.onTaskChanged(new TaskChangedEvent(ChangeType.UPDATED,
+            List.of(snapshot(3L, "Book translator", "Welsh hearing", false))));
+        index.onTaskChanged(new TaskChangedEvent(ChangeType.CREATED,
+            List.of(snapshot(4L, "Listing request", null, false))));
+        index.onTaskChanged(new TaskChangedEvent(ChangeType.DELETED,
+            List.of(snapshot(1L, "Prepare hearing bundle", "Court papers for Monday", true))));
+        index.refresh();
+
+        assertThat(ids(index.search("interpreter", 10))).isEmpty();
+        assertThat(ids(index.search("translator", 10))).containsExactly(3L);
+        assertThat(ids(index.search("listing", 10))).containsExactly(4L);
+        assertThat(ids(index.search("hearing", 10))).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should ignore status changes, which do not touch indexed text")
+    void shouldIgnoreStatusChanges() {
+        index.onTaskChanged(new TaskChangedEvent(ChangeType.STATUS_CHANGED,
+            List.of(snapshot(3L, "Something else", null, false))));
+        index.refresh();
+
+        assertThat(ids(index.search("interpreter", 10))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Should make change events searchable only once refreshed")
+    void shouldApplyChangesOnRefresh() {
+        index.onTaskChanged(new TaskChangedEvent(ChangeType.CREATED,
+            List.of(snapshot(4L, "Listing request", null, false))));
+
+        assertThat(index.search("listing", 10)).isEmpty();
+
+        index.refresh();
+        assertThat(ids(index.search("listing", 10))).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should keep answering from the previous index while a rebuild loads")
+    void shouldServePreviousIndexDuringRebuild() {
+        List<List<Long>> duringRebuild = new ArrayList<>();
+        when(taskRepository.findTextsAfter(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            index.onTaskChanged(new TaskChangedEvent(ChangeType.DELETED,
+                List.of(snapshot(2L, "Send papers", "Needed for the hearing next week", true))));
+            index.refresh();
+            duringRebuild.add(ids(index.search("hearing", 10)));
+            return List.of(new TaskText(1L, "Prepare hearing bundle", "Court papers for Monday"),
+                new TaskText(2L, "Send papers", "Needed for the hearing next week"));
+        });
+
+        index.rebuild();
+
+        assertThat(duringRebuild).containsExactly(List.of(1L, 2L));
+        // The delete arrived after the rebuild's read, so its copy of task 2 is not indexed
+        assertThat(ids(index.search("hearing", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::id).toList();
+    }
+
+    private TaskSnapshot snapshot(Long id, String title, String description, boolean deleted) {
+        return new TaskSnapshot(id, title, description, TaskStatus.PENDING, TaskPriority.MEDIUM, null, null, deleted);
+    }
+}
@@ -0,0 +1,142 @@
+package uk.gov.hmcts.reform.dev.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TitleTrigramIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TitleTrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TitleTrigramIndex(taskRepository, 2);
+        when(taskRepository.findTitlesAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+            new TaskTitle(1L, "Prepare hearing bundle"),
+            new TaskTitle(2L, "Review Hearing notes"),
+            new TaskTitle(3L, "Send bundle to court")
+        ));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should not answer before the index has been built")
+    void shouldNotAnswerBeforeBuilt() {
+        TitleTrigramIndex empty = new TitleTrigramIndex(taskRepository, 10);
+
+        assertThat(empty.match("hearing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match substrings case-insensitively")
+    void shouldMatchSubstringsCaseInsensitively() {
+        assertThat(index.match("HEARING")).contains(Set.of(1L, 2L));
+        assertThat(index.match("bund")).contains(Set.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("Should reject candidates that share trigrams but not the substring")
+    void shouldRejectFalsePositives() {
+        index.index(5L, "abc bca cab");
+
+        // Every trigram of "abcab" occurs in task 5, but never as one run
+        assertThat(index.match("abcab")).contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("Should return an empty match set when nothing matches")
+    void shouldReturnEmptyMatchSet() {
+        assertThat(index.match("zzz")).contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("Should defer to the database for terms shorter than a trigram")
+    void shouldDeferForShortTerms() {
+        assertThat(index.match("he")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should defer to the database when matches exceed the candidate limit")
+    void shouldDeferWhenTooManyCandidates() {
+        index.index(4L, "Another hearing");
+
+        assertThat(index.match("hearing")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should follow title updates and deletes from change events")
+    void shouldApplyChangeEvents() {
+        index.onTaskChanged(new TaskChangedEvent(ChangeType.UPDATED,
+            List.of(snapshot(3L, "Send pack to court", false))));
+        index.onTaskChanged(new TaskChangedEvent(ChangeType.DELETED,
+            List.of(snapshot(1L, "Prepare hearing bundle", true))));
+
+        assertThat(index.match("bundle")).contains(Set.of());
+        assertThat(index.match("pack")).contains(Set.of(3L));
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep a delete applied while the rebuild was loading")
+    void shouldKeepDeleteMadeDuringRebuild() {
+        TitleTrigramIndex rebuilt = new TitleTrigramIndex(taskRepository, 10);
+        // The delete event arrives after the rebuild has read the task but before it is indexed
+        when(taskRepository.findTitlesAfter(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            rebuilt.onTaskChanged(new TaskChangedEvent(ChangeType.DELETED,
+                List.of(snapshot(2L, "Review Hearing notes", true))));
+            return List.of(new TaskTitle(1L, "Prepare hearing bundle"), new TaskTitle(2L, "Review Hearing notes"));
+        });
+
+        rebuilt.rebuild();
+
+        assertThat(rebuilt.match("hearing")).contains(Set.of(1L));
+        assertThat(rebuilt.size()).isEqualTo(1);
+
+        // Once loaded, the id is an ordinary task again
+        rebuilt.index(2L, "Review Hearing notes");
+        assertThat(rebuilt.match("hearing")).contains(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should drop trigrams no remaining title has")
+    void shouldDropEmptyPostings() {
+        int trigrams = index.trigramCount();
+
+        index.index(4L, "Xylophone");
+        assertThat(index.trigramCount()).isGreaterThan(trigrams);
+
+        index.remove(4L);
+        assertThat(index.trigramCount()).isEqualTo(trigrams);
+
+        index.remove(1L);
+        index.remove(2L);
+        index.remove(3L);
+        assertThat(index.trigramCount()).isZero();
+    }
+
+    private TaskSnapshot snapshot(Long id, String title, boolean deleted) {
+        return new TaskSnapshot(id, title, null, TaskStatus.PENDING, TaskPriority.MEDIUM, null, null, deleted);
+    }
+}
@@ -0,0 +1,106 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.dev.models.TaskCount;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueTaskMarkerTest {
+
+    private static final TaskFilter OVERDUE = TaskFilter.builder().overdue(true).build();
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private TaskListCache listCache;
+
+    @Mock
+    private TaskVersions versions;
+
+    private MeterRegistry meterRegistry;
+    private TaskCounters counters;
+    private OverdueTaskMarker marker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        counters = new TaskCounters(taskRepository, meterRegistry);
+        marker = new OverdueTaskMarker(taskRepository, listCache, versions, counters, meterRegistry);
+    }
+
+    private static List<TaskCount> due(long count) {
+        return List.of(new TaskCount(TaskStatus.PENDING, TaskPriority.HIGH, false, false, count));
+    }
+
+    @Test
+    @DisplayName("Should sweep every open task on the first run")
+    void shouldSweepOnFirstRun() {
+        when(taskRepository.countByState()).thenReturn(due(3));
+        counters.seed();
+        when(taskRepository.countNewlyOverdue(any(LocalDateTime.class))).thenReturn(due(3));
+        when(taskRepository.markOverdue(any(LocalDateTime.class))).thenReturn(3);
+
+        assertThat(marker.markOverdue()).isEqualTo(3);
+
+        verify(taskRepository, never()).markOverdueSince(any(), any());
+        verify(listCache).invalidateAfterCommit();
+        verify(versions).invalidateAllAfterCommit();
+        assertThat(counters.count(OVERDUE)).hasValue(3);
+        assertThat(meterRegistry.get("tasks.overdue.marked").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should only scan the window since the previous run afterwards")
+    void shouldScanWindowAfterFirstRun() {
+        ArgumentCaptor<LocalDateTime> firstNow = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(taskRepository.countNewlyOverdue(firstNow.capture())).thenReturn(List.of());
+        when(taskRepository.countNewlyOverdueSince(any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenReturn(due(2));
+        when(taskRepository.markOverdueSince(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(2);
+
+        marker.markOverdue();
+        assertThat(marker.markOverdue()).isEqualTo(2);
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(taskRepository).markOverdueSince(since.capture(), any(LocalDateTime.class));
+        assertThat(since.getValue()).isEqualTo(firstNow.getValue().minusMinutes(5));
+        assertThat(meterRegistry.get("tasks.overdue.marked").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should not run the UPDATE when nothing fell due since the previous run")
+    void shouldSkipUpdateWhenNothingFellDue() {
+        when(taskRepository.countNewlyOverdue(any(LocalDateTime.class))).thenReturn(List.of());
+        when(taskRepository.countNewlyOverdueSince(any(LocalDateTime.class), any(LocalDateTime.class)))
+            .thenReturn(List.of());
+
+        marker.markOverdue();
+        assertThat(marker.markOverdue()).isZero();
+
+        verify(taskRepository, never()).markOverdue(any());
+        verify(taskRepository, never()).markOverdueSince(any(), any());
+        verifyNoInteractions(listCache, versions);
+    }
+}
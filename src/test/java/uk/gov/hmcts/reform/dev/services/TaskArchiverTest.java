@@ -0,0 +1,139 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+import uk.gov.hmcts.reform.dev.models.TaskCount;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskArchiverTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private MeterRegistry meterRegistry;
+    private TaskCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        counters = new TaskCounters(taskRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should copy then delete in batches until a short batch")
+    void shouldArchiveInBatches() {
+        TaskArchiver archiver = archiver(2, 10, false);
+        when(taskRepository.countArchivable(any(LocalDateTime.class))).thenReturn(3L);
+        when(taskRepository.findArchivableIds(any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(taskRepository.purgeDeleted(List.of(1L, 2L))).thenReturn(2);
+        when(taskRepository.purgeDeleted(List.of(3L))).thenReturn(1);
+
+        int moved = archiver.archive();
+
+        assertThat(moved).isEqualTo(3);
+        verify(taskRepository).copyToArchive(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(taskRepository).copyToArchive(eq(List.of(3L)), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("tasks.archiver.rows").tag("mode", "archive").counter().count())
+            .isEqualTo(3.0);
+        assertThat(meterRegistry.get("tasks.archiver.batch").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("tasks.archiver.pending").gauge().value()).isZero();
+        assertThat(meterRegistry.get("tasks.archiver.last-run.rows").gauge().value()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("Should delete without copying when hard-delete is set")
+    void shouldPurgeWithoutCopy() {
+        TaskArchiver archiver = archiver(10, 10, true);
+        when(taskRepository.countArchivable(any(LocalDateTime.class))).thenReturn(1L);
+        when(taskRepository.findArchivableIds(any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(7L));
+        when(taskRepository.purgeDeleted(List.of(7L))).thenReturn(1);
+
+        assertThat(archiver.archive()).isEqualTo(1);
+
+        verify(taskRepository, never()).copyToArchive(anyList(), any());
+        assertThat(meterRegistry.get("tasks.archiver.rows").tag("mode", "purge").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should stop after the per-run batch limit and leave the rest pending")
+    void shouldStopAtBatchLimit() {
+        TaskArchiver archiver = archiver(2, 2, false);
+        when(taskRepository.countArchivable(any(LocalDateTime.class))).thenReturn(10L);
+        when(taskRepository.findArchivableIds(any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(1L, 2L), List.of(3L, 4L));
+        when(taskRepository.purgeDeleted(anyList())).thenReturn(2);
+
+        assertThat(archiver.archive()).isEqualTo(4);
+
+        verify(taskRepository, times(2)).purgeDeleted(anyList());
+        assertThat(meterRegistry.get("tasks.archiver.pending").gauge().value()).isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no task is past retention")
+    void shouldSkipWhenNothingPending() {
+        TaskArchiver archiver = archiver(10, 10, false);
+        when(taskRepository.countArchivable(any(LocalDateTime.class))).thenReturn(0L);
+
+        assertThat(archiver.archive()).isZero();
+
+        verify(taskRepository, never()).findArchivableIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should take purged tasks out of the deleted counts")
+    void shouldUpdateCountersForPurgedTasks() {
+        TaskArchiver archiver = archiver(10, 10, true);
+        when(taskRepository.countByState()).thenReturn(List.of(
+            new TaskCount(TaskStatus.COMPLETED, TaskPriority.LOW, false, true, 5),
+            new TaskCount(TaskStatus.PENDING, TaskPriority.LOW, false, false, 4)));
+        counters.seed();
+        when(taskRepository.countArchivable(any(LocalDateTime.class))).thenReturn(2L);
+        when(taskRepository.findArchivableIds(any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(7L, 8L));
+        when(taskRepository.countByStateIn(List.of(7L, 8L))).thenReturn(List.of(
+            new TaskCount(TaskStatus.COMPLETED, TaskPriority.LOW, false, true, 2)));
+        when(taskRepository.purgeDeleted(List.of(7L, 8L))).thenReturn(2);
+
+        archiver.archive();
+
+        assertThat(total(TaskStatus.COMPLETED, "deleted")).isEqualTo(3.0);
+        assertThat(total(TaskStatus.PENDING, "live")).isEqualTo(4.0);
+    }
+
+    private double total(TaskStatus status, String state) {
+        return meterRegistry.get("tasks.total").tag("status", status.name()).tag("state", state).gauge().value();
+    }
+
+    private TaskArchiver archiver(int batchSize, int maxBatches, boolean hardDelete) {
+        return new TaskArchiver(taskRepository, counters, TransactionOperations.withoutTransaction(), meterRegistry,
+            Duration.ofDays(30), batchSize, maxBatches, Duration.ZERO, hardDelete);
+    }
+}
@@ -0,0 +1,85 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskCountEstimatorTest {
+
+    @Test
+    @DisplayName("Should reuse a count within the TTL and recount once it has expired")
+    void shouldReuseWithinTtl() {
+        AtomicInteger queries = new AtomicInteger();
+        TaskCountEstimator cached = new TaskCountEstimator(Duration.ofMinutes(1));
+        TaskCountEstimator expired = new TaskCountEstimator(Duration.ZERO);
+
+        assertThat(cached.estimate("status=PENDING", () -> 10L + queries.getAndIncrement())).isEqualTo(10L);
+        assertThat(cached.estimate("status=PENDING", () -> 10L + queries.getAndIncrement())).isEqualTo(10L);
+        assertThat(queries).hasValue(1);
+
+        assertThat(expired.estimate("status=PENDING", () -> 10L + queries.getAndIncrement())).isEqualTo(11L);
+        assertThat(expired.estimate("status=PENDING", () -> 10L + queries.getAndIncrement())).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("Should run one count for concurrent callers on the same key, without blocking other keys")
+    void shouldShareInFlightCount() throws Exception {
+        TaskCountEstimator estimator = new TaskCountEstimator(Duration.ofMinutes(1));
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Long>> callers = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                callers.add(threads.submit(() -> estimator.estimate("slow", () -> {
+                    queries.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return 42L;
+                })));
+            }
+            started.await();
+
+            // The slow count holds no lock another key could be waiting on
+            assertThat(estimator.estimate("other", () -> 7L)).isEqualTo(7L);
+
+            release.countDown();
+            for (Future<Long> caller : callers) {
+                assertThat(caller.get()).isEqualTo(42L);
+            }
+        }
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not cache a count that failed")
+    void shouldDropFailedCount() {
+        TaskCountEstimator estimator = new TaskCountEstimator(Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> estimator.estimate("key", () -> {
+            throw new IllegalStateException("Database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(estimator.estimate("key", () -> 5L)).isEqualTo(5L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskCount;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskCountersTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private MeterRegistry meterRegistry;
+    private TaskCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        counters = new TaskCounters(taskRepository, meterRegistry);
+    }
+
+    private void seed() {
+        when(taskRepository.countByState()).thenReturn(List.of(
+            new TaskCount(TaskStatus.PENDING, TaskPriority.HIGH, false, false, 5),
+            new TaskCount(TaskStatus.PENDING, TaskPriority.LOW, true, false, 2),
+            new TaskCount(TaskStatus.COMPLETED, TaskPriority.HIGH, false, false, 4),
+            new TaskCount(TaskStatus.PENDING, TaskPriority.HIGH, false, true, 9)));
+        counters.seed();
+    }
+
+    private static TaskFilter.TaskFilterBuilder filter() {
+        return TaskFilter.builder();
+    }
+
+    private static Task task(TaskStatus status, TaskPriority priority) {
+        Task task = new Task();
+        task.setStatus(status);
+        task.setPriority(priority);
+        return task;
+    }
+
+    // Runs the work as if inside a transaction, then completes it with or without a commit
+    private static void inTransaction(boolean commit, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            Consumer<TransactionSynchronization> complete = commit
+                ? TransactionSynchronization::afterCommit
+                : sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            TransactionSynchronizationManager.getSynchronizations().forEach(complete);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not answer before the first seed")
+    void shouldNotAnswerBeforeSeed() {
+        assertThat(counters.count(TaskFilter.none())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should count live tasks by status, priority and overdue flag")
+    void shouldCountLiveTasks() {
+        seed();
+
+        assertThat(counters.count(TaskFilter.none())).hasValue(11);
+        assertThat(counters.count(filter().statuses(List.of(TaskStatus.PENDING)).build())).hasValue(7);
+        assertThat(counters.count(filter().priorities(List.of(TaskPriority.HIGH)).build())).hasValue(9);
+        assertThat(counters.count(filter().statuses(List.of(TaskStatus.PENDING))
+            .priorities(List.of(TaskPriority.HIGH)).build())).hasValue(5);
+        assertThat(counters.count(filter().overdue(true).build())).hasValue(2);
+        assertThat(counters.count(filter().overdue(false).build())).hasValue(9);
+    }
+
+    @Test
+    @DisplayName("Should leave filters on search text, due dates or ids to the COUNT query")
+    void shouldNotAnswerOtherFilters() {
+        seed();
+
+        assertThat(counters.count(filter().search("report").build())).isEmpty();
+        assertThat(counters.count(filter().dueBefore(LocalDateTime.now()).build())).isEmpty();
+        assertThat(counters.count(filter().dueAfter(LocalDateTime.now()).build())).isEmpty();
+        assertThat(counters.count(filter().ids(List.of(1L)).build())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply a change on commit, reading added tasks as they stand then")
+    void shouldApplyOnCommit() {
+        seed();
+        Task task = task(TaskStatus.PENDING, TaskPriority.HIGH);
+
+        inTransaction(true, () -> {
+            counters.applyAfterCommit(new TaskCounters.Delta().remove(task).add(task));
+            task.setStatus(TaskStatus.COMPLETED);
+            assertThat(counters.count(filter().statuses(List.of(TaskStatus.COMPLETED)).build())).hasValue(4);
+        });
+
+        assertThat(counters.count(filter().statuses(List.of(TaskStatus.PENDING)).build())).hasValue(6);
+        assertThat(counters.count(filter().statuses(List.of(TaskStatus.COMPLETED)).build())).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("Should discard the change when the transaction rolls back")
+    void shouldDiscardOnRollback() {
+        seed();
+
+        inTransaction(false, () -> counters.applyAfterCommit(
+            new TaskCounters.Delta().add(task(TaskStatus.PENDING, TaskPriority.LOW))));
+
+        assertThat(counters.count(TaskFilter.none())).hasValue(11);
+    }
+
+    @Test
+    @DisplayName("Should publish live and deleted totals per status")
+    void shouldPublishTotals() {
+        seed();
+
+        assertThat(meterRegistry.get("tasks.total").tag("status", "PENDING").tag("state", "live").gauge().value())
+            .isEqualTo(7.0);
+        assertThat(meterRegistry.get("tasks.total").tag("status", "PENDING").tag("state", "deleted").gauge().value())
+            .isEqualTo(9.0);
+    }
+}
@@ -0,0 +1,110 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.exceptions.SubscriberLimitException;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class TaskEventStreamTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 1, 5, 10, 30);
+
+    private MeterRegistry meterRegistry;
+    private TaskEventStream stream;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stream = new TaskEventStream(16, 2, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stream.close();
+    }
+
+    private static TaskSnapshot task(long id, TaskStatus status, TaskPriority priority) {
+        return new TaskSnapshot(id, "Task " + id, null, status, priority, UPDATED.plusDays(1), UPDATED, false);
+    }
+
+    private static TaskEventStream.Filter filter(Set<TaskStatus> statuses, Set<TaskPriority> priorities) {
+        return new TaskEventStream.Filter(statuses, priorities);
+    }
+
+    private double events() {
+        return meterRegistry.get("tasks.stream.events").counter().count();
+    }
+
+    @Test
+    @DisplayName("Should match a task on its status and priority after the change")
+    void shouldMatchOnStatusAndPriority() {
+        TaskEventStream.Filter pendingHigh = filter(Set.of(TaskStatus.PENDING), Set.of(TaskPriority.HIGH));
+
+        assertThat(pendingHigh.matches(task(1, TaskStatus.PENDING, TaskPriority.HIGH))).isTrue();
+        assertThat(pendingHigh.matches(task(2, TaskStatus.COMPLETED, TaskPriority.HIGH))).isFalse();
+        assertThat(pendingHigh.matches(task(3, TaskStatus.PENDING, TaskPriority.LOW))).isFalse();
+        assertThat(filter(Set.of(), Set.of()).matches(task(4, TaskStatus.COMPLETED, TaskPriority.LOW))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should pass deletes, and fields a set-based write left unknown")
+    void shouldPassDeletesAndUnknownFields() {
+        TaskEventStream.Filter pendingHigh = filter(Set.of(TaskStatus.PENDING), Set.of(TaskPriority.HIGH));
+
+        assertThat(pendingHigh.matches(TaskSnapshot.deleted(1L, UPDATED))).isTrue();
+        assertThat(pendingHigh.matches(TaskSnapshot.statusChanged(2L, TaskStatus.PENDING, UPDATED))).isTrue();
+        assertThat(pendingHigh.matches(TaskSnapshot.statusChanged(3L, TaskStatus.COMPLETED, UPDATED))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should queue a change only for subscribers whose filter matches it")
+    void shouldQueueForMatchingSubscribers() {
+        stream.subscribe(Set.of(TaskStatus.PENDING), Set.of());
+        stream.subscribe(Set.of(TaskStatus.COMPLETED), Set.of());
+
+        stream.onTaskChanged(new TaskChangedEvent(ChangeType.CREATED,
+            List.of(task(1, TaskStatus.PENDING, TaskPriority.MEDIUM))));
+
+        assertThat(events()).isEqualTo(1.0);
+        assertThat(stream.subscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should refuse subscribers past the limit")
+    void shouldRefusePastLimit() {
+        stream.subscribe(Set.of(), Set.of());
+        stream.subscribe(Set.of(), Set.of());
+
+        assertThatThrownBy(() -> stream.subscribe(Set.of(), Set.of()))
+            .isInstanceOf(SubscriberLimitException.class);
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose stream can no longer be written")
+    void shouldDropClosedSubscriber() {
+        SseEmitter emitter = stream.subscribe(Set.of(), Set.of());
+        emitter.complete();
+
+        stream.heartbeat();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> stream.subscriberCount() == 0);
+    }
+}
@@ -0,0 +1,120 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.ExportFormat;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExporterTest {
+
+    private static final TaskFilter PENDING = TaskFilter.builder().statuses(List.of(TaskStatus.PENDING)).build();
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 2, 1, 9, 0);
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 5, 10, 30);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private ObjectMapper objectMapper;
+    private TaskExporter exporter;
+    private ByteArrayOutputStream out;
+    private AtomicBoolean closed;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        exporter = new TaskExporter(taskRepository, objectMapper, 500);
+        out = new ByteArrayOutputStream();
+        closed = new AtomicBoolean();
+    }
+
+    private void stubRows(TaskResponse... tasks) {
+        when(taskRepository.streamWithFilters(PENDING, Sort.by("id"), 500))
+            .thenReturn(Stream.of(tasks).onClose(() -> closed.set(true)));
+    }
+
+    private static TaskResponse task(long id, String title, String description) {
+        return new TaskResponse(id, title, description, TaskStatus.PENDING, TaskPriority.HIGH,
+            DUE, CREATED, CREATED, false, 0L);
+    }
+
+    private String written() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Should write one JSON task per line in NDJSON")
+    void shouldWriteNdjson() throws Exception {
+        stubRows(task(1, "First", null), task(2, "Second", "Two"));
+
+        long rows = exporter.export(PENDING, ExportFormat.NDJSON, out);
+
+        assertThat(rows).isEqualTo(2);
+        String[] lines = written().split("\n", -1);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty();
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("id").asLong()).isEqualTo(2);
+        assertThat(second.get("title").asText()).isEqualTo("Second");
+        assertThat(second.get("dueDateTime").asText()).isEqualTo("2026-02-01T09:00:00");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should write a header and one row per task in CSV")
+    void shouldWriteCsv() throws Exception {
+        stubRows(task(1, "First", null));
+
+        long rows = exporter.export(PENDING, ExportFormat.CSV, out);
+
+        assertThat(rows).isEqualTo(1);
+        assertThat(written()).isEqualTo(
+            "id,title,description,status,priority,dueDateTime,createdAt,updatedAt,overdue\r\n"
+            + "1,First,,PENDING,HIGH,2026-02-01T09:00:00,2026-01-05T10:30:00,2026-01-05T10:30:00,false\r\n");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should quote CSV fields holding commas, quotes or line breaks")
+    void shouldQuoteCsvFields() throws Exception {
+        stubRows(task(1, "Hearing, listed", "Said \"urgent\"\nthen left"));
+
+        exporter.export(PENDING, ExportFormat.CSV, out);
+
+        assertThat(written()).contains("1,\"Hearing, listed\",\"Said \"\"urgent\"\"\nthen left\",PENDING");
+    }
+
+    @Test
+    @DisplayName("Should write only the CSV header when nothing matches")
+    void shouldWriteHeaderOnly() throws Exception {
+        stubRows();
+
+        assertThat(exporter.export(PENDING, ExportFormat.CSV, out)).isZero();
+
+        assertThat(written()).isEqualTo(
+            "id,title,description,status,priority,dueDateTime,createdAt,updatedAt,overdue\r\n");
+    }
+}
@@ -0,0 +1,188 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.ExportFormat;
+import uk.gov.hmcts.reform.dev.models.dto.ImportResult;
+import uk.gov.hmcts.reform.dev.outbox.OutboxEvent;
+import uk.gov.hmcts.reform.dev.outbox.TaskOutbox;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Each chunk commits through its own stateless session, so the test runs outside a test
+ * transaction and clears the table afterwards.
+ */
+@DataJpaTest(properties = "tasks.import.chunk-size=2")
+@Import({TaskImporter.class, TaskCounters.class, TaskOutbox.class, TaskImporterTest.Beans.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@RecordApplicationEvents
+class TaskImporterTest {
+
+    private static final String DUE = LocalDateTime.now().plusDays(7).truncatedTo(ChronoUnit.SECONDS).toString();
+
+    @Autowired
+    private TaskImporter importer;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskOutbox outbox;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @TestConfiguration
+    static class Beans {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json().build();
+        }
+
+        @Bean
+        LocalValidatorFactoryBean validator() {
+            return new LocalValidatorFactoryBean();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskRepository.deleteAllInBatch();
+            jdbcTemplate.update("DELETE FROM task_outbox");
+        });
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should save valid NDJSON lines and report the others by line")
+    void shouldImportNdjson() throws Exception {
+        String ndjson = "{\"title\":\"First\",\"dueDateTime\":\"" + DUE + "\",\"priority\":\"HIGH\"}\n"
+            + "{\"description\":\"No title\",\"dueDateTime\":\"" + DUE + "\"}\n"
+            + "\n"
+            + "{\"title\":\n"
+            + "{\"title\":\"Second\",\"dueDateTime\":\"" + DUE + "\",\"id\":99,\"status\":\"COMPLETED\"}\n";
+
+        ImportResult result = importer.importTasks(body(ndjson), ExportFormat.NDJSON);
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.complete()).isTrue();
+        assertThat(result.errors()).extracting(ImportResult.LineError::line).containsExactly(2L, 4L);
+        assertThat(result.errors().get(0).message()).isEqualTo("Title is required");
+        assertThat(result.errors().get(1).message()).startsWith("Malformed JSON");
+
+        List<Task> saved = taskRepository.findAll();
+        assertThat(saved)
+            .extracting(Task::getTitle, Task::getStatus, Task::getPriority)
+            .containsExactlyInAnyOrder(
+                tuple("First", TaskStatus.PENDING, TaskPriority.HIGH),
+                tuple("Second", TaskStatus.PENDING, TaskPriority.MEDIUM));
+        assertThat(saved).allSatisfy(task -> {
+            assertThat(task.getCreatedAt()).isNotNull();
+            assertThat(task.isOverdue()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should read an exported CSV file and commit it in chunks")
+    void shouldImportCsvInChunks() throws Exception {
+        String csv = "\uFEFFid,title,description,status,priority,dueDateTime,createdAt,updatedAt,overdue\r\n"
+            + "1,\"Hearing, listed\",\"Said \"\"urgent\"\"\r\nthen left\",PENDING,URGENT," + DUE + ",,,false\r\n"
+            + "2,Second,,PENDING,LOW," + DUE + ",,,false\r\n"
+            + "3,Third,,PENDING,," + DUE + ",,,false\r\n";
+
+        ImportResult result = importer.importTasks(body(csv), ExportFormat.CSV);
+
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.errors()).isEmpty();
+        assertThat(events.stream(TaskChangedEvent.class)).hasSize(2);
+        // Written in each chunk's transaction, one row per task
+        assertThat(outbox.next(10)).extracting(OutboxEvent::type).containsOnly(ChangeType.CREATED).hasSize(3);
+
+        Task quoted = taskRepository.findAll().stream()
+            .filter(task -> task.getTitle().equals("Hearing, listed"))
+            .findFirst().orElseThrow();
+        assertThat(quoted.getDescription()).isEqualTo("Said \"urgent\"\nthen left");
+        assertThat(quoted.getPriority()).isEqualTo(TaskPriority.URGENT);
+    }
+
+    @Test
+    @DisplayName("Should number CSV errors by the line each record starts on")
+    void shouldReportCsvErrorsByLine() throws Exception {
+        String csv = "title,description,dueDateTime,priority\n"
+            + "Multi,\"line\none\"," + DUE + ",LOW\n"
+            + "Bad date,,tomorrow,LOW\n"
+            + "Bad priority,," + DUE + ",SOMETIME\n"
+            + "Past,,2020-01-01T00:00:00,\n";
+
+        ImportResult result = importer.importTasks(body(csv), ExportFormat.CSV);
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors())
+            .extracting(ImportResult.LineError::line, ImportResult.LineError::message)
+            .containsExactly(
+                tuple(4L, "Invalid dueDateTime 'tomorrow', expected ISO-8601"),
+                tuple(5L, "Invalid priority 'SOMETIME'"),
+                tuple(6L, "Due date/time must be in the present or future"));
+    }
+
+    @Test
+    @DisplayName("Should refuse a CSV file without title and dueDateTime columns")
+    void shouldRejectCsvWithoutRequiredColumns() {
+        assertThatThrownBy(() -> importer.importTasks(body("name,due\nFirst," + DUE + "\n"), ExportFormat.CSV))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("title and dueDateTime");
+
+        assertThat(taskRepository.count()).isZero();
+    }
+}
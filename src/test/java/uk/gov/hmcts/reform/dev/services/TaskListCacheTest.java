@@ -0,0 +1,181 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.CountMode;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskListCacheTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+    private static final TaskFilter PENDING = TaskFilter.builder().statuses(List.of(TaskStatus.PENDING)).build();
+
+    private MeterRegistry meterRegistry;
+    private TaskListCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TaskListCache(true, 100, Duration.ofMinutes(1), meterRegistry);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<Slice<TaskResponse>> loader() {
+        return () -> {
+            loads.incrementAndGet();
+            return new SliceImpl<>(List.of(), FIRST_PAGE, false);
+        };
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("tasks.list-cache.lookups").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should load once for filters that differ only in order and duplicates")
+    void shouldShareNormalizedKey() {
+        TaskFilter reordered = TaskFilter.builder()
+            .priorities(List.of(TaskPriority.HIGH, TaskPriority.LOW, TaskPriority.HIGH)).build();
+        TaskFilter sorted = TaskFilter.builder()
+            .priorities(List.of(TaskPriority.LOW, TaskPriority.HIGH)).build();
+
+        cache.get(reordered, FIRST_PAGE, CountMode.EXACT, loader());
+        cache.get(sorted, PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")), CountMode.EXACT, loader());
+
+        assertThat(loads).hasValue(1);
+        assertThat(lookups("hit")).isEqualTo(1.0);
+        assertThat(lookups("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should cache each page, size and count mode separately")
+    void shouldKeySeparately() {
+        cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, loader());
+        cache.get(PENDING, FIRST_PAGE.next(), CountMode.EXACT, loader());
+        cache.get(PENDING, PageRequest.of(0, 50), CountMode.EXACT, loader());
+        cache.get(PENDING, FIRST_PAGE, CountMode.NONE, loader());
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Should reload after a task change commits")
+    void shouldReloadAfterChange() {
+        cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, loader());
+
+        cache.onTaskChanged(new TaskChangedEvent(ChangeType.CREATED, List.of()));
+        cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should only invalidate once the writing transaction commits")
+    void shouldInvalidateAfterCommit() {
+        cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, loader());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidateAfterCommit();
+            cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, loader());
+            assertThat(loads).hasValue(1);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, loader());
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache title searches")
+    void shouldNotCacheSearch() {
+        TaskFilter search = TaskFilter.builder().search("report").build();
+
+        cache.get(search, FIRST_PAGE, CountMode.EXACT, loader());
+        cache.get(search, FIRST_PAGE, CountMode.EXACT, loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not cache a failed load")
+    void shouldNotCacheFailure() {
+        assertThatThrownBy(() -> cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, () -> {
+            throw new IllegalStateException("Database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, loader());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should run one load for concurrent misses on the same key")
+    void shouldShareConcurrentLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<Slice<TaskResponse>> slowLoader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new SliceImpl<>(List.of(), FIRST_PAGE, false);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Slice<TaskResponse>> first = executor.submit(
+                () -> cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, slowLoader));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<Slice<TaskResponse>>> waiters = List.of(
+                executor.submit(() -> cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, slowLoader)),
+                executor.submit(() -> cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, slowLoader)),
+                executor.submit(() -> cache.get(PENDING, FIRST_PAGE, CountMode.EXACT, slowLoader)));
+            release.countDown();
+
+            Slice<TaskResponse> loaded = first.get(5, TimeUnit.SECONDS);
+            for (Future<Slice<TaskResponse>> waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).isSameAs(loaded);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+}
@@ -1,36 +1,62 @@
 package uk.gov.hmcts.reform.dev.services;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
 import uk.gov.hmcts.reform.dev.exceptions.TaskNotFoundException;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
 import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskFilter;
 import uk.gov.hmcts.reform.dev.models.TaskPriority;
 import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.CountMode;
 import uk.gov.hmcts.reform.dev.models.dto.CreateTaskRequest;
+import uk.gov.hmcts.reform.dev.models.dto.TaskCursor;
 import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
 import uk.gov.hmcts.reform.dev.models.dto.UpdateTaskRequest;
+import uk.gov.hmcts.reform.dev.outbox.TaskOutbox;
 import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.search.SearchHit;
+import uk.gov.hmcts.reform.dev.search.TaskSearchIndex;
+import uk.gov.hmcts.reform.dev.search.TitleTrigramIndex;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +66,30 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskCountEstimator countEstimator;
+
+    @Mock
+    private TaskCounters counters;
+
+    @Spy
+    private TaskListCache listCache = new TaskListCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    @Mock
+    private TaskVersions versions;
+
+    @Mock
+    private TitleTrigramIndex titleIndex;
+
+    @Mock
+    private TaskSearchIndex searchIndex;
+
+    @Mock
+    private TaskOutbox outbox;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -117,6 +167,29 @@ class TaskServiceTest {
             .hasMessageContaining("Task not found with id: 999");
     }
 
+    @Test
+    @DisplayName("Should get a task view by ID through the cached entity lookup")
+    void getTaskView_Success() {
+        when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(task));
+
+        TaskResponse result = taskService.getTaskView(1L);
+
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getTitle()).isEqualTo(task.getTitle());
+        // Remembered so a conditional GET for this version can skip the lookup
+        verify(versions).record(any(), eq(result));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when task view not found by ID")
+    void getTaskView_NotFound() {
+        when(taskRepository.findByIdAndDeletedFalse(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> taskService.getTaskView(999L))
+            .isInstanceOf(TaskNotFoundException.class)
+            .hasMessageContaining("Task not found with id: 999");
+    }
+
     @Test
     @DisplayName("Should get all non-deleted tasks successfully")
     void getAllTasks_Success() {
@@ -148,26 +221,218 @@ class TaskServiceTest {
     @DisplayName("Should get tasks with filters and pagination")
     void getTasksWithFilters_Success() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        Page<TaskResponse> taskPage = new PageImpl<>(List.of(TaskResponse.fromEntity(task)));
 
-        when(taskRepository.findWithFilters(
-            eq(TaskStatus.PENDING),
-            eq(TaskPriority.MEDIUM),
-            eq("test"),
-            any(Pageable.class)
-        )).thenReturn(taskPage);
+        TaskFilter filter = TaskFilter.builder()
+            .statuses(List.of(TaskStatus.PENDING))
+            .priorities(List.of(TaskPriority.MEDIUM))
+            .search("test")
+            .build();
 
-        Page<TaskResponse> result = taskService.getTasksWithFilters(
-            TaskStatus.PENDING,
-            TaskPriority.MEDIUM,
-            "test",
-            pageable
-        );
+        when(taskRepository.findWithFilters(eq(filter), any(Pageable.class)))
+            .thenReturn(taskPage);
+
+        Page<TaskResponse> result = taskService.getTasksWithFilters(filter, pageable);
 
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("Test Task");
     }
 
+    @Test
+    @DisplayName("Should take the exact total from the counters instead of a COUNT query")
+    void getTasksWithFilters_CountedTotal() {
+        Pageable pageable = PageRequest.of(0, 1);
+        TaskFilter filter = TaskFilter.builder().statuses(List.of(TaskStatus.PENDING)).build();
+        when(counters.count(filter)).thenReturn(OptionalLong.of(42));
+        when(taskRepository.findSliceWithFilters(filter, pageable))
+            .thenReturn(new SliceImpl<>(List.of(TaskResponse.fromEntity(task)), pageable, true));
+
+        Page<TaskResponse> result = taskService.getTasksWithFilters(filter, pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(42);
+        assertThat(result.getContent()).hasSize(1);
+        verify(taskRepository, never()).findWithFilters(any(), any());
+        verify(taskRepository, never()).countWithFilters(any());
+    }
+
+    @Test
+    @DisplayName("Should reject sorting on a property the filtered query does not support")
+    void getTasksWithFilters_UnsupportedSort() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("deletedAt"));
+
+        assertThatThrownBy(() -> taskService.getTasksWithFilters(TaskFilter.none(), pageable))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("deletedAt");
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should replace the title LIKE with the trigram index matches")
+    void getTasksWithFilters_UsesTitleIndex() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(titleIndex.match("test")).thenReturn(Optional.of(Set.of(1L)));
+        when(taskRepository.findWithFilters(TaskFilter.builder().ids(Set.of(1L)).build(), pageable))
+            .thenReturn(new PageImpl<>(List.of(TaskResponse.fromEntity(task))));
+
+        Page<TaskResponse> result = taskService.getTasksWithFilters(
+            TaskFilter.builder().search("test").build(), pageable);
+
+        assertThat(result.getContent()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should not query the database when the trigram index finds no match")
+    void getTasksWithFilters_NoTitleIndexMatch() {
+        when(titleIndex.match("nothing")).thenReturn(Optional.of(Set.of()));
+
+        Page<TaskResponse> result = taskService.getTasksWithFilters(
+            TaskFilter.builder().search("nothing").build(), PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).isEmpty();
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should return full-text hits in relevance order")
+    void searchTasks_KeepsRelevanceOrder() {
+        Task second = new Task();
+        second.setId(2L);
+        second.setTitle("Second Task");
+        second.setStatus(TaskStatus.PENDING);
+        second.setPriority(TaskPriority.LOW);
+        when(searchIndex.search("task", 10)).thenReturn(List.of(new SearchHit(2L, 3.5f), new SearchHit(1L, 1.2f)));
+        when(taskRepository.findViewsByIdIn(List.of(2L, 1L)))
+            .thenReturn(List.of(TaskResponse.fromEntity(task), TaskResponse.fromEntity(second)));
+
+        List<TaskResponse> result = taskService.searchTasks("task", 10);
+
+        assertThat(result).extracting(TaskResponse::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should drop full-text hits whose task has since been deleted")
+    void searchTasks_DropsDeletedHits() {
+        when(searchIndex.search("task", 10)).thenReturn(List.of(new SearchHit(9L, 2.0f), new SearchHit(1L, 1.0f)));
+        when(taskRepository.findViewsByIdIn(List.of(9L, 1L)))
+            .thenReturn(List.of(TaskResponse.fromEntity(task)));
+
+        List<TaskResponse> result = taskService.searchTasks("task", 10);
+
+        assertThat(result).extracting(TaskResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should not query the database when full-text search has no hits")
+    void searchTasks_NoHits() {
+        when(searchIndex.search("nothing", 10)).thenReturn(List.of());
+
+        assertThat(taskService.searchTasks("nothing", 10)).isEmpty();
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should write the outbox and publish a change event when a task is created")
+    void createTask_PublishesEvent() {
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+
+        taskService.createTask(createTaskRequest);
+
+        verify(outbox).append(argThat(event -> event.type() == ChangeType.CREATED));
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the count query when count mode is NONE")
+    void getTasksWithFilters_CountNone() {
+        Pageable pageable = PageRequest.of(0, 1);
+        TaskFilter filter = TaskFilter.builder().statuses(List.of(TaskStatus.PENDING)).build();
+        when(taskRepository.findSliceWithFilters(filter, pageable))
+            .thenReturn(new SliceImpl<>(List.of(TaskResponse.fromEntity(task)), pageable, true));
+
+        Slice<TaskResponse> result = taskService.getTasksWithFilters(filter, pageable, CountMode.NONE);
+
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.hasNext()).isTrue();
+        verify(taskRepository, never()).findWithFilters(any(), any());
+        verify(taskRepository, never()).countWithFilters(any());
+        verifyNoInteractions(countEstimator);
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated filtered list from the cache until a task changes")
+    void getTasksWithFilters_Cached() {
+        Pageable pageable = PageRequest.of(0, 10);
+        TaskFilter filter = TaskFilter.builder().statuses(List.of(TaskStatus.PENDING)).build();
+        when(taskRepository.findSliceWithFilters(filter, pageable))
+            .thenReturn(new SliceImpl<>(List.of(TaskResponse.fromEntity(task)), pageable, false));
+
+        taskService.getTasksWithFilters(filter, pageable, CountMode.NONE);
+        Slice<TaskResponse> cached = taskService.getTasksWithFilters(filter, pageable, CountMode.NONE);
+
+        assertThat(cached.getContent()).extracting(TaskResponse::getId).containsExactly(1L);
+        verify(taskRepository, times(1)).findSliceWithFilters(filter, pageable);
+
+        listCache.onTaskChanged(TaskChangedEvent.of(ChangeType.CREATED, task));
+        taskService.getTasksWithFilters(filter, pageable, CountMode.NONE);
+
+        verify(taskRepository, times(2)).findSliceWithFilters(filter, pageable);
+    }
+
+    @Test
+    @DisplayName("Should use the estimated total when more rows follow")
+    void getTasksWithFilters_CountEstimate() {
+        Pageable pageable = PageRequest.of(0, 1);
+        when(taskRepository.findSliceWithFilters(TaskFilter.none(), pageable))
+            .thenReturn(new SliceImpl<>(List.of(TaskResponse.fromEntity(task)), pageable, true));
+        when(countEstimator.estimate(anyString(), any())).thenReturn(50L);
+
+        Slice<TaskResponse> result = taskService.getTasksWithFilters(TaskFilter.none(), pageable, CountMode.ESTIMATE);
+
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<TaskResponse>) result).getTotalElements()).isEqualTo(50L);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report an exact total on the last page even when estimating")
+    void getTasksWithFilters_CountEstimateLastPage() {
+        Pageable pageable = PageRequest.of(2, 10);
+        when(taskRepository.findSliceWithFilters(TaskFilter.none(), pageable))
+            .thenReturn(new SliceImpl<>(List.of(TaskResponse.fromEntity(task)), pageable, false));
+
+        Slice<TaskResponse> result = taskService.getTasksWithFilters(TaskFilter.none(), pageable, CountMode.ESTIMATE);
+
+        assertThat(((Page<TaskResponse>) result).getTotalElements()).isEqualTo(21L);
+        verifyNoInteractions(countEstimator);
+    }
+
+    @Test
+    @DisplayName("Should fetch first cursor page without a seek position")
+    void getTasksAfterCursor_FirstPage() {
+        when(taskRepository.findSliceWithFilters(eq(TaskFilter.none()), any(Pageable.class)))
+            .thenReturn(new SliceImpl<>(List.of(TaskResponse.fromEntity(task)), PageRequest.of(0, 1), true));
+
+        Slice<TaskResponse> result = taskService.getTasksAfterCursor(TaskFilter.none(), null, Sort.Direction.DESC, 1);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        verify(taskRepository, never()).findWithFiltersAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should seek past the cursor on later pages")
+    void getTasksAfterCursor_Descending() {
+        TaskCursor cursor = new TaskCursor(task.getCreatedAt(), 5L, Sort.Direction.DESC);
+        TaskFilter filter = TaskFilter.builder().statuses(List.of(TaskStatus.PENDING)).build();
+        when(taskRepository.findWithFiltersAfter(filter, cursor, 20))
+            .thenReturn(new SliceImpl<>(List.of(TaskResponse.fromEntity(task))));
+
+        Slice<TaskResponse> result = taskService.getTasksAfterCursor(filter, cursor, Sort.Direction.DESC, 20);
+
+        assertThat(result.getContent()).hasSize(1);
+        verify(taskRepository, never()).findSliceWithFilters(any(), any());
+    }
+
     @Test
     @DisplayName("Should get overdue tasks")
     void getOverdueTasks_Success() {
@@ -180,9 +445,9 @@ class TaskServiceTest {
         overdueTask.setUpdatedAt(LocalDateTime.now());
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> taskPage = new PageImpl<>(List.of(overdueTask));
+        Page<TaskResponse> taskPage = new PageImpl<>(List.of(TaskResponse.fromEntity(overdueTask)));
 
-        when(taskRepository.findOverdueTasks(any(LocalDateTime.class), any(Pageable.class)))
+        when(taskRepository.findOverdueViews(any(Pageable.class)))
             .thenReturn(taskPage);
 
         Page<TaskResponse> result = taskService.getOverdueTasks(pageable);
@@ -191,17 +456,33 @@ class TaskServiceTest {
         assertThat(result.getContent().get(0).getTitle()).isEqualTo("Overdue Task");
     }
 
+    @Test
+    @DisplayName("Should take the overdue total from the counters when they are seeded")
+    void getOverdueTasks_CountedTotal() {
+        Pageable pageable = PageRequest.of(0, 1);
+        when(counters.count(TaskFilter.builder().overdue(true).build())).thenReturn(OptionalLong.of(7));
+        when(taskRepository.findOverdueViewsSlice(pageable))
+            .thenReturn(new SliceImpl<>(List.of(TaskResponse.fromEntity(task)), pageable, true));
+
+        Page<TaskResponse> result = taskService.getOverdueTasks(pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(7);
+        verify(taskRepository, never()).findOverdueViews(any());
+        verify(taskRepository, never()).countOverdueTasks();
+    }
+
     @Test
     @DisplayName("Should update task status successfully")
     void updateTaskStatus_Success() {
         when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
 
-        Task result = taskService.updateTaskStatus(1L, TaskStatus.COMPLETED);
+        TaskResponse result = taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, null);
 
-        assertThat(result).isNotNull();
-        verify(taskRepository).findByIdAndDeletedFalse(1L);
-        verify(taskRepository).save(any(Task.class));
+        assertThat(result.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        // Entity update rather than a bulk UPDATE, which would evict every cached task
+        verify(taskRepository, never()).updateStatusByIdIn(any(), any(), any());
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
@@ -209,9 +490,10 @@ class TaskServiceTest {
     void updateTaskStatus_NotFound() {
         when(taskRepository.findByIdAndDeletedFalse(999L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> taskService.updateTaskStatus(999L, TaskStatus.COMPLETED))
+        assertThatThrownBy(() -> taskService.updateTaskStatus(999L, TaskStatus.COMPLETED, null))
             .isInstanceOf(TaskNotFoundException.class)
             .hasMessageContaining("Task not found with id: 999");
+        verify(taskRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -232,9 +514,9 @@ class TaskServiceTest {
         updatedTask.setPriority(TaskPriority.HIGH);
 
         when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(updatedTask);
 
-        Task result = taskService.updateTask(1L, updateRequest);
+        Task result = taskService.updateTask(1L, updateRequest, null);
 
         assertThat(result.getTitle()).isEqualTo("Updated Title");
         assertThat(result.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
@@ -245,12 +527,65 @@ class TaskServiceTest {
     @DisplayName("Should soft delete task successfully")
     void deleteTask_Success() {
         when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
 
-        taskService.deleteTask(1L);
+        taskService.deleteTask(1L, null);
 
-        verify(taskRepository).findByIdAndDeletedFalse(1L);
-        verify(taskRepository).save(any(Task.class));
+        assertThat(task.isDeleted()).isTrue();
+        assertThat(task.getDeletedAt()).isNotNull();
+        verify(taskRepository).saveAndFlush(task);
+        verify(taskRepository, never()).softDeleteByIdIn(any(), any());
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should refuse a status update when the If-Match version is stale")
+    void updateTaskStatus_VersionMismatch() {
+        task.setVersion(5L);
+        when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(task));
+
+        assertThatThrownBy(() -> taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, 4L))
+            .isInstanceOf(TaskVersionMismatchException.class)
+            .hasMessageContaining("If-Match version 4, current version 5");
+
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.PENDING);
+        verify(taskRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should report a concurrent write found at flush as a failed If-Match precondition")
+    void updateTaskStatus_ConcurrentWriteWithIfMatch() {
+        task.setVersion(5L);
+        when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        assertThatThrownBy(() -> taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, 5L))
+            .isInstanceOf(TaskVersionMismatchException.class)
+            .hasMessageContaining("If-Match version 5 is no longer current");
+
+        verifyNoInteractions(outbox, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should leave a concurrent write found at flush as a conflict without If-Match")
+    void updateTaskStatus_ConcurrentWriteWithoutIfMatch() {
+        when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+        assertThatThrownBy(() -> taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, null))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("Should delete when the If-Match version is current")
+    void deleteTask_VersionMatches() {
+        task.setVersion(5L);
+        when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(task));
+
+        taskService.deleteTask(1L, 5L);
+
+        assertThat(task.isDeleted()).isTrue();
+        verify(taskRepository).saveAndFlush(task);
     }
 
     @Test
@@ -258,11 +593,11 @@ class TaskServiceTest {
     void deleteTask_NotFound() {
         when(taskRepository.findByIdAndDeletedFalse(999L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> taskService.deleteTask(999L))
+        assertThatThrownBy(() -> taskService.deleteTask(999L, null))
             .isInstanceOf(TaskNotFoundException.class)
             .hasMessageContaining("Task not found with id: 999");
 
-        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(outbox, eventPublisher);
     }
 
     @Test
@@ -290,39 +625,50 @@ class TaskServiceTest {
     @Test
     @DisplayName("Should bulk delete tasks successfully")
     void deleteTasks_Success() {
-        Task task2 = new Task();
-        task2.setId(2L);
-        task2.setTitle("Task 2");
-        task2.setDeleted(false);
-
-        List<Long> ids = List.of(1L, 2L);
-        when(taskRepository.findByIdInAndDeletedFalse(ids)).thenReturn(List.of(task, task2));
-        when(taskRepository.saveAll(anyList())).thenReturn(List.of(task, task2));
-
-        int count = taskService.deleteTasks(ids);
-
-        assertThat(count).isEqualTo(2);
-        verify(taskRepository).findByIdInAndDeletedFalse(ids);
-        verify(taskRepository).saveAll(anyList());
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(taskRepository.findLiveIdsIn(ids)).thenReturn(List.of(1L, 2L));
+        when(taskRepository.softDeleteByIdIn(eq(List.of(1L, 2L)), any(LocalDateTime.class))).thenReturn(2);
+
+        List<Long> deleted = taskService.deleteTasks(ids);
+
+        assertThat(deleted).containsExactly(1L, 2L);
+        verify(taskRepository, never()).saveAll(anyList());
+        verify(taskRepository, times(2)).countByStateIn(List.of(1L, 2L));
+        verify(counters).applyAfterCommit(any(TaskCounters.Delta.class));
+        verify(outbox).append(argThat(event -> event.type() == ChangeType.DELETED && event.tasks().size() == 2));
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
     @DisplayName("Should bulk update task statuses successfully")
     void updateTasksStatus_Success() {
-        Task task2 = new Task();
-        task2.setId(2L);
-        task2.setTitle("Task 2");
-        task2.setStatus(TaskStatus.PENDING);
-
-        List<Long> ids = List.of(1L, 2L);
-        when(taskRepository.findByIdInAndDeletedFalse(ids)).thenReturn(List.of(task, task2));
-        when(taskRepository.saveAll(anyList())).thenReturn(List.of(task, task2));
-
-        int count = taskService.updateTasksStatus(ids, TaskStatus.COMPLETED);
+        List<Long> ids = List.of(1L, 2L, 2L);
+        when(taskRepository.findLiveIdsIn(List.of(1L, 2L))).thenReturn(List.of(1L, 2L));
+        when(taskRepository.updateStatusByIdIn(eq(List.of(1L, 2L)), eq(TaskStatus.COMPLETED), any(LocalDateTime.class)))
+            .thenReturn(2);
+
+        List<Long> updated = taskService.updateTasksStatus(ids, TaskStatus.COMPLETED);
+
+        assertThat(updated).containsExactly(1L, 2L);
+        verify(taskRepository, never()).saveAll(anyList());
+        verify(outbox).append(argThat(event ->
+            event.type() == ChangeType.STATUS_CHANGED && event.tasks().size() == 2));
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
+    }
 
-        assertThat(count).isEqualTo(2);
-        verify(taskRepository).findByIdInAndDeletedFalse(ids);
-        verify(taskRepository).saveAll(anyList());
+    @Test
+    @DisplayName("Should split large bulk updates into chunked statements")
+    void updateTasksStatus_Chunked() {
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        when(taskRepository.findLiveIdsIn(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(taskRepository.updateStatusByIdIn(anyList(), eq(TaskStatus.COMPLETED), any(LocalDateTime.class)))
+            .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        List<Long> updated = taskService.updateTasksStatus(ids, TaskStatus.COMPLETED);
+
+        assertThat(updated).hasSize(2500);
+        verify(taskRepository, times(3)).findLiveIdsIn(anyList());
+        verify(taskRepository, times(3)).updateStatusByIdIn(anyList(), eq(TaskStatus.COMPLETED), any());
     }
 
     @Test
@@ -350,15 +696,10 @@ class TaskServiceTest {
     @DisplayName("Should update task status from PENDING to IN_PROGRESS")
     void updateTaskStatus_PendingToInProgress() {
         task.setStatus(TaskStatus.PENDING);
-        Task updatedTask = new Task();
-        updatedTask.setId(1L);
-        updatedTask.setTitle("Test Task");
-        updatedTask.setStatus(TaskStatus.IN_PROGRESS);
-
         when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
 
-        Task result = taskService.updateTaskStatus(1L, TaskStatus.IN_PROGRESS);
+        TaskResponse result = taskService.updateTaskStatus(1L, TaskStatus.IN_PROGRESS, null);
 
         assertThat(result.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
     }
@@ -367,15 +708,10 @@ class TaskServiceTest {
     @DisplayName("Should update task status from IN_PROGRESS to COMPLETED")
     void updateTaskStatus_InProgressToCompleted() {
         task.setStatus(TaskStatus.IN_PROGRESS);
-        Task updatedTask = new Task();
-        updatedTask.setId(1L);
-        updatedTask.setTitle("Test Task");
-        updatedTask.setStatus(TaskStatus.COMPLETED);
-
         when(taskRepository.findByIdAndDeletedFalse(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
 
-        Task result = taskService.updateTaskStatus(1L, TaskStatus.COMPLETED);
+        TaskResponse result = taskService.updateTaskStatus(1L, TaskStatus.COMPLETED, null);
 
         assertThat(result.getStatus()).isEqualTo(TaskStatus.COMPLETED);
     }
@@ -415,23 +751,21 @@ class TaskServiceTest {
     @DisplayName("Should return 0 when bulk deleting empty list")
     void deleteTasks_EmptyList() {
         List<Long> emptyIds = List.of();
-        when(taskRepository.findByIdInAndDeletedFalse(emptyIds)).thenReturn(List.of());
-        when(taskRepository.saveAll(anyList())).thenReturn(List.of());
 
-        int count = taskService.deleteTasks(emptyIds);
+        List<Long> deleted = taskService.deleteTasks(emptyIds);
 
-        assertThat(count).isEqualTo(0);
+        assertThat(deleted).isEmpty();
+        verifyNoInteractions(taskRepository, eventPublisher);
     }
 
     @Test
     @DisplayName("Should return 0 when bulk updating empty list")
     void updateTasksStatus_EmptyList() {
         List<Long> emptyIds = List.of();
-        when(taskRepository.findByIdInAndDeletedFalse(emptyIds)).thenReturn(List.of());
-        when(taskRepository.saveAll(anyList())).thenReturn(List.of());
 
-        int count = taskService.updateTasksStatus(emptyIds, TaskStatus.COMPLETED);
+        List<Long> updated = taskService.updateTasksStatus(emptyIds, TaskStatus.COMPLETED);
 
-        assertThat(count).isEqualTo(0);
+        assertThat(updated).isEmpty();
+        verifyNoInteractions(taskRepository, eventPublisher);
     }
 }
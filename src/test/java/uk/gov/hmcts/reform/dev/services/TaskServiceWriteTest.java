@@ -0,0 +1,180 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.exceptions.TaskVersionMismatchException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.TaskPriority;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.UpdateTaskRequest;
+import uk.gov.hmcts.reform.dev.outbox.OutboxEvent;
+import uk.gov.hmcts.reform.dev.outbox.TaskOutbox;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+import uk.gov.hmcts.reform.dev.search.TaskSearchIndex;
+import uk.gov.hmcts.reform.dev.search.TitleTrigramIndex;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link TaskService} writes against the database, where {@code @PreUpdate}, flushes and version
+ * checks really happen. Each call commits on its own, so the test runs outside a test transaction
+ * and clears the tables afterwards. The in-memory collaborators are mocked.
+ */
+@DataJpaTest
+@Import({TaskService.class, TaskOutbox.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskServiceWriteTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskOutbox outbox;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private TaskCountEstimator countEstimator;
+
+    @MockitoBean
+    private TaskListCache listCache;
+
+    @MockitoBean
+    private TaskVersions versions;
+
+    @MockitoBean
+    private TaskCounters counters;
+
+    @MockitoBean
+    private TitleTrigramIndex titleIndex;
+
+    @MockitoBean
+    private TaskSearchIndex searchIndex;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        Task pending = new Task();
+        pending.setTitle("Hearing bundle");
+        pending.setStatus(TaskStatus.PENDING);
+        pending.setPriority(TaskPriority.MEDIUM);
+        pending.setDueDateTime(LocalDateTime.now().plusDays(3));
+        task = taskRepository.saveAndFlush(pending);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            taskRepository.deleteAllInBatch();
+            jdbcTemplate.update("DELETE FROM task_outbox");
+        });
+    }
+
+    @Test
+    @DisplayName("Should stamp an update's outbox row with the time of the update")
+    void updateTask_OutboxRowAtWriteTime() {
+        LocalDateTime before = now();
+
+        Task updated = taskService.updateTask(task.getId(), updateRequest("Hearing bundle v2"), null);
+
+        assertThat(updated.getUpdatedAt()).isAfterOrEqualTo(before);
+        OutboxEvent event = outbox.next(10).getFirst();
+        assertThat(event.type()).isEqualTo(ChangeType.UPDATED);
+        assertThat(event.occurredAt()).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should stamp a delete's outbox row with the time of the delete")
+    void deleteTask_OutboxRowAtWriteTime() {
+        LocalDateTime before = now();
+
+        taskService.deleteTask(task.getId(), null);
+
+        OutboxEvent event = outbox.next(10).getFirst();
+        assertThat(event.type()).isEqualTo(ChangeType.DELETED);
+        assertThat(event.occurredAt()).isAfterOrEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Should refuse the second of two writers holding the same current If-Match with 412")
+    void updateTask_ConcurrentWritersWithSameIfMatch() {
+        long version = task.getVersion();
+
+        assertThatThrownBy(() -> interleaved(() ->
+            taskService.updateTask(task.getId(), updateRequest("Second writer"), version)))
+            .isInstanceOf(TaskVersionMismatchException.class)
+            .hasMessageContaining("If-Match version " + version + " is no longer current");
+
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(stored.getTitle()).isEqualTo("First writer");
+        assertThat(stored.getVersion()).isEqualTo(version + 1);
+        assertThat(outbox.next(10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should report the second of two writers without If-Match as a conflict")
+    void deleteTask_ConcurrentWritersWithoutIfMatch() {
+        assertThatThrownBy(() -> interleaved(() -> taskService.deleteTask(task.getId(), null)))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(taskRepository.findById(task.getId()).orElseThrow().isDeleted()).isFalse();
+    }
+
+    /**
+     * Two writers racing on the task: the second reads it, the first then updates and commits, and
+     * only then does the second write. The second writer's transaction has already loaded the task,
+     * so the service sees the version both writers started from and its If-Match check passes.
+     */
+    private void interleaved(Runnable secondWriter) {
+        TransactionTemplate second = new TransactionTemplate(transactionManager);
+        TransactionTemplate first = new TransactionTemplate(transactionManager);
+        first.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        second.executeWithoutResult(status -> {
+            taskRepository.findByIdAndDeletedFalse(task.getId()).orElseThrow();
+            first.executeWithoutResult(inner ->
+                taskService.updateTask(task.getId(), updateRequest("First writer"), task.getVersion()));
+            secondWriter.run();
+        });
+    }
+
+    // The columns keep microseconds
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private UpdateTaskRequest updateRequest(String title) {
+        UpdateTaskRequest request = new UpdateTaskRequest();
+        request.setTitle(title);
+        request.setDueDateTime(task.getDueDateTime());
+        request.setStatus(TaskStatus.IN_PROGRESS);
+        request.setPriority(TaskPriority.HIGH);
+        return request;
+    }
+}
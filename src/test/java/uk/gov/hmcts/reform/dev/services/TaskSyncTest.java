@@ -0,0 +1,124 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import uk.gov.hmcts.reform.dev.exceptions.ChangeTokenExpiredException;
+import uk.gov.hmcts.reform.dev.models.Task;
+import uk.gov.hmcts.reform.dev.models.dto.ChangeToken;
+import uk.gov.hmcts.reform.dev.models.dto.TaskChanges;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+import uk.gov.hmcts.reform.dev.repositories.TaskRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSyncTest {
+
+    private static final LocalDateTime SINCE = LocalDateTime.now().minusHours(1);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskSync sync;
+
+    @BeforeEach
+    void setUp() {
+        sync = new TaskSync(taskRepository, Duration.ofSeconds(5), false, Duration.ofSeconds(5),
+            true, Duration.ofDays(30));
+    }
+
+    private static Task task(long id, LocalDateTime updatedAt, boolean deleted) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setUpdatedAt(updatedAt);
+        task.setDeleted(deleted);
+        task.setDeletedAt(deleted ? updatedAt : null);
+        task.setVersion(0L);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should split changes into tasks and tombstones and move the token to where it read")
+    void shouldReturnChangesAndTombstones() {
+        ChangeToken token = new ChangeToken(SINCE, 4L);
+        when(taskRepository.findChangedAfter(eq(SINCE), eq(4L), any(LocalDateTime.class), any(Pageable.class)))
+            .thenReturn(List.of(task(5, SINCE.plusMinutes(1), false), task(3, SINCE.plusMinutes(2), true)));
+
+        TaskChanges changes = sync.changesSince(token, 10);
+
+        assertThat(changes.changed()).extracting(TaskResponse::getId).containsExactly(5L);
+        assertThat(changes.deleted()).containsExactly(new TaskChanges.Tombstone(3L, SINCE.plusMinutes(2)));
+        assertThat(changes.hasMore()).isFalse();
+
+        // Caught up: the next sync starts at the read horizon, a settle delay before now
+        ArgumentCaptor<LocalDateTime> until = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(taskRepository).findChangedAfter(eq(SINCE), eq(4L), until.capture(), eq(PageRequest.of(0, 11)));
+        assertThat(until.getValue()).isBefore(LocalDateTime.now().minusSeconds(4));
+        assertThat(ChangeToken.decode(changes.nextToken())).isEqualTo(new ChangeToken(until.getValue(), 0L));
+    }
+
+    @Test
+    @DisplayName("Should continue from the last change returned when there are more")
+    void shouldContinueFromLastChange() {
+        when(taskRepository.findChangedAfter(any(), any(), any(), any()))
+            .thenReturn(List.of(task(1, SINCE.plusMinutes(1), false), task(2, SINCE.plusMinutes(2), false),
+                task(3, SINCE.plusMinutes(3), false)));
+
+        TaskChanges changes = sync.changesSince(ChangeToken.START, 2);
+
+        assertThat(changes.changed()).extracting(TaskResponse::getId).containsExactly(1L, 2L);
+        assertThat(changes.hasMore()).isTrue();
+        assertThat(ChangeToken.decode(changes.nextToken())).isEqualTo(new ChangeToken(SINCE.plusMinutes(2), 2L));
+    }
+
+    @Test
+    @DisplayName("Should not move the token backwards when called again within the settle delay")
+    void shouldKeepRecentToken() {
+        ChangeToken token = new ChangeToken(LocalDateTime.now(), 0L);
+        when(taskRepository.findChangedAfter(any(), any(), any(), any())).thenReturn(List.of());
+
+        TaskChanges changes = sync.changesSince(token, 10);
+
+        assertThat(ChangeToken.decode(changes.nextToken())).isEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("Should refuse a token older than the deletion retention")
+    void shouldRejectExpiredToken() {
+        ChangeToken token = new ChangeToken(LocalDateTime.now().minusDays(31), 0L);
+
+        assertThatThrownBy(() -> sync.changesSince(token, 10))
+            .isInstanceOf(ChangeTokenExpiredException.class);
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should decode a blank token as the start and reject a malformed one")
+    void shouldDecodeTokens() {
+        assertThat(ChangeToken.decode(null)).isEqualTo(ChangeToken.START);
+        assertThat(ChangeToken.decode(" ").isStart()).isTrue();
+        ChangeToken token = new ChangeToken(SINCE, 42L);
+        assertThat(ChangeToken.decode(token.encode())).isEqualTo(token);
+
+        assertThatThrownBy(() -> ChangeToken.decode("not-a-token"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
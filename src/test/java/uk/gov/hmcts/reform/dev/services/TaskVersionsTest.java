@@ -0,0 +1,143 @@
+package uk.gov.hmcts.reform.dev.services;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.dev.datasource.ReplicaLagMonitor;
+import uk.gov.hmcts.reform.dev.events.ChangeType;
+import uk.gov.hmcts.reform.dev.events.TaskChangedEvent;
+import uk.gov.hmcts.reform.dev.events.TaskSnapshot;
+import uk.gov.hmcts.reform.dev.models.TaskStatus;
+import uk.gov.hmcts.reform.dev.models.dto.TaskResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskVersionsTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2026, 1, 5, 10, 30);
+
+    private MeterRegistry meterRegistry;
+    private TaskVersions versions;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        versions = new TaskVersions(true, 100, Duration.ofMinutes(10), meterRegistry, Optional.empty());
+    }
+
+    private static TaskResponse task(long id, long version) {
+        TaskResponse task = new TaskResponse();
+        task.setId(id);
+        task.setVersion(version);
+        task.setUpdatedAt(UPDATED);
+        return task;
+    }
+
+    private static TaskChangedEvent statusChanged(long... ids) {
+        List<TaskSnapshot> tasks = Arrays.stream(ids)
+            .mapToObj(id -> TaskSnapshot.statusChanged(id, TaskStatus.COMPLETED, UPDATED))
+            .toList();
+        return new TaskChangedEvent(ChangeType.STATUS_CHANGED, tasks);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("tasks.versions.lookups").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("Should return the version and modification time last read for a task")
+    void shouldReturnRecordedVersion() {
+        versions.record(versions.watermark(), task(1, 3));
+
+        assertThat(versions.get(1L)).hasValueSatisfying(version -> {
+            assertThat(version.version()).isEqualTo(3);
+            assertThat(version.lastModified()).isEqualTo(TaskVersions.lastModified(UPDATED));
+        });
+        assertThat(versions.get(2L)).isEmpty();
+        assertThat(lookups("hit")).isEqualTo(1.0);
+        assertThat(lookups("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should forget changed tasks and advance the watermark once a change commits")
+    void shouldForgetChangedTasks() {
+        TaskVersions.Watermark before = versions.watermark();
+        versions.record(before, task(1, 3));
+        versions.record(before, task(2, 5));
+
+        versions.onTaskChanged(statusChanged(1));
+
+        assertThat(versions.get(1L)).isEmpty();
+        assertThat(versions.get(2L)).isPresent();
+        assertThat(versions.watermark().generation()).isEqualTo(before.generation() + 1);
+        assertThat(versions.watermark().etag()).isNotEqualTo(before.etag());
+    }
+
+    @Test
+    @DisplayName("Should not keep a version read while a change committed")
+    void shouldDiscardReadOverlappingChange() {
+        TaskVersions.Watermark readAt = versions.watermark();
+        versions.onTaskChanged(statusChanged(1));
+
+        versions.record(readAt, task(1, 3));
+
+        assertThat(versions.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should forget every version for writers that do not name their tasks")
+    void shouldForgetAllVersions() {
+        TaskVersions.Watermark before = versions.watermark();
+        versions.record(before, task(1, 3));
+        versions.record(before, task(2, 5));
+
+        // No transaction here, so it applies straight away
+        versions.invalidateAllAfterCommit();
+
+        assertThat(versions.get(1L)).isEmpty();
+        assertThat(versions.get(2L)).isEmpty();
+        assertThat(versions.watermark().generation()).isEqualTo(before.generation() + 1);
+    }
+
+    @Test
+    @DisplayName("Should keep nothing when disabled, while the watermark still advances")
+    void shouldKeepNothingWhenDisabled() {
+        versions = new TaskVersions(false, 100, Duration.ofMinutes(10), meterRegistry, Optional.empty());
+        TaskVersions.Watermark before = versions.watermark();
+
+        versions.record(before, task(1, 3));
+        versions.onTaskChanged(statusChanged(2));
+
+        assertThat(versions.get(1L)).isEmpty();
+        assertThat(versions.watermark().generation()).isEqualTo(before.generation() + 1);
+    }
+
+    @Test
+    @DisplayName("Should not record a read until the replicas have caught up with the last change")
+    void shouldWaitForReplicasBeforeRecording() {
+        ReplicaLagMonitor replicaLag = mock(ReplicaLagMonitor.class);
+        versions = new TaskVersions(true, 100, Duration.ofMinutes(10), meterRegistry, Optional.of(replicaLag));
+        versions.onTaskChanged(statusChanged(1));
+        TaskVersions.Watermark readAt = versions.watermark();
+
+        // The read may have come from a replica that does not show the change yet
+        when(replicaLag.caughtUpTo()).thenReturn(readAt.changedAt().minusSeconds(3));
+        versions.record(readAt, task(1, 3));
+        assertThat(versions.get(1L)).isEmpty();
+
+        when(replicaLag.caughtUpTo()).thenReturn(Instant.now());
+        versions.record(readAt, task(1, 4));
+        assertThat(versions.get(1L)).get().extracting(TaskVersions.Version::version).isEqualTo(4L);
+    }
+}